@@ -3,16 +3,20 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandQueue;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
@@ -23,8 +27,11 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.AsyncAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -45,6 +52,7 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected CommandQueue commandQueue; // null when commands run on the JavaFX application thread
 
     @Override
     public void init() throws Exception {
@@ -57,14 +65,48 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
+        if (userPrefs.isAsyncCommandExecution()) {
+            logger.info("Running commands in the background");
+            commandQueue = new CommandQueue(Platform::runLater);
+        }
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
 
-        ui = new UiManager(logic);
+        ui = new UiManager(logic, commandQueue);
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} selected by the storage settings in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        StorageSettings storageSettings = userPrefs.getStorageSettings();
+        logger.info("Using storage mode : " + storageSettings.getMode());
+
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(
+                userPrefs.getAddressBookFilePath(), storageSettings.isCompactJson());
+        AddressBookStorage addressBookStorage;
+        switch (storageSettings.getMode()) {
+        case JOURNAL:
+            addressBookStorage = new JournalAddressBookStorage(jsonAddressBookStorage,
+                    storageSettings.getCheckpointInterval());
+            break;
+        case SHARDED:
+            addressBookStorage = new ShardedAddressBookStorage(jsonAddressBookStorage,
+                    storageSettings.isCompactJson());
+            break;
+        default:
+            addressBookStorage = jsonAddressBookStorage;
+        }
+
+        if (storageSettings.isAsyncSave()) {
+            addressBookStorage = new AsyncAddressBookStorage(addressBookStorage, e ->
+                    ui.showFeedbackToUser(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, e.getMessage())));
+        }
+        return addressBookStorage;
     }
 
     /**
@@ -93,7 +135,9 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        // Search results must be applied on the thread that changes the model
+        Executor searchPublisher = commandQueue != null ? commandQueue : Platform::runLater;
+        return new ModelManager(initialData, userPrefs, searchPublisher);
     }
 
     private void initLogging(Config config) {
@@ -183,6 +227,14 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        if (commandQueue != null) {
+            commandQueue.flush();
+        }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,120 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A Serializable class that contains the settings of the address book data storage.
+ * Guarantees: immutable.
+ */
+public class StorageSettings implements Serializable {
+
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 100;
+
+    public static final String MESSAGE_CHECKPOINT_INTERVAL_CONSTRAINTS =
+            "The journal checkpoint interval should be a positive number of entries";
+
+    /**
+     * The ways in which the address book data can be laid out on disk.
+     */
+    public enum Mode {
+        /** The whole address book is rewritten as a single JSON file on every save. */
+        JSON,
+        /** Changes are appended to a journal that is folded into the JSON snapshot at checkpoints. */
+        JOURNAL,
+        /** Each patient is stored in its own file, and only the files of changed patients are rewritten. */
+        SHARDED
+    }
+
+    private final Mode mode;
+    private final int checkpointInterval;
+    private final boolean isCompactJson;
+    private final boolean isAsyncSave;
+
+    /**
+     * Constructs a {@code StorageSettings} that synchronously stores the address book as a single,
+     * pretty-printed JSON file.
+     */
+    public StorageSettings() {
+        mode = Mode.JSON;
+        checkpointInterval = DEFAULT_CHECKPOINT_INTERVAL;
+        isCompactJson = false;
+        isAsyncSave = false;
+    }
+
+    /**
+     * Constructs a {@code StorageSettings} with the specified mode, journal checkpoint interval, JSON layout and
+     * whether saves are done in the background.
+     */
+    public StorageSettings(Mode mode, int checkpointInterval, boolean isCompactJson, boolean isAsyncSave) {
+        requireNonNull(mode);
+        checkArgument(checkpointInterval > 0, MESSAGE_CHECKPOINT_INTERVAL_CONSTRAINTS);
+        this.mode = mode;
+        this.checkpointInterval = checkpointInterval;
+        this.isCompactJson = isCompactJson;
+        this.isAsyncSave = isAsyncSave;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Returns the number of journal entries after which a full snapshot is written.
+     */
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    /**
+     * Returns true if JSON data files should be written without indentation and line breaks.
+     */
+    public boolean isCompactJson() {
+        return isCompactJson;
+    }
+
+    /**
+     * Returns true if the address book should be saved by a background thread instead of the thread that changed it.
+     */
+    public boolean isAsyncSave() {
+        return isAsyncSave;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StorageSettings)) {
+            return false;
+        }
+
+        StorageSettings otherStorageSettings = (StorageSettings) other;
+        return mode == otherStorageSettings.mode
+                && checkpointInterval == otherStorageSettings.checkpointInterval
+                && isCompactJson == otherStorageSettings.isCompactJson
+                && isAsyncSave == otherStorageSettings.isAsyncSave;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mode, checkpointInterval, isCompactJson, isAsyncSave);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("mode", mode)
+                .add("checkpointInterval", checkpointInterval)
+                .add("isCompactJson", isCompactJson)
+                .add("isAsyncSave", isAsyncSave)
+                .toString();
+    }
+}
@@ -0,0 +1,230 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable list that shares its structure with the lists it was derived from.
+ * Elements are kept in the leaves of a tree in which every node has up to 32 children, with the last few elements
+ * held separately in a tail. Replacing or appending an element copies only the path from the root to that
+ * element, which is O(log n), and leaves the original list unchanged. Copying a list is free, since the list can be
+ * shared as it is.
+ * Guarantees: immutable.
+ */
+public final class PersistentVector<E> extends AbstractList<E> {
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int NODE_WIDTH = 1 << BITS_PER_LEVEL;
+    private static final int INDEX_MASK = NODE_WIDTH - 1;
+
+    private static final PersistentVector<?> EMPTY =
+            new PersistentVector<>(0, BITS_PER_LEVEL, new Object[NODE_WIDTH], new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns an empty {@code PersistentVector}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Returns a {@code PersistentVector} holding the elements of {@code elements}, in iteration order.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentVector) {
+            return (PersistentVector<E>) elements;
+        }
+        PersistentVector<E> vector = empty();
+        for (E element : elements) {
+            vector = vector.plus(element);
+        }
+        return vector;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) leafFor(index)[index & INDEX_MASK];
+    }
+
+    /**
+     * Returns a vector with {@code element} appended to the elements of this vector.
+     */
+    public PersistentVector<E> plus(E element) {
+        if (size - tailOffset() < NODE_WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+
+        // The tail is full, so it becomes a leaf of the tree and a new tail is started
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS_PER_LEVEL) > (1 << shift)) {
+            newRoot = new Object[NODE_WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS_PER_LEVEL;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[] {element});
+    }
+
+    /**
+     * Returns a vector with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentVector<E> with(int index, E element) {
+        Objects.checkIndex(index, size);
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & INDEX_MASK] = element;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift, replaceInTree(shift, root, index, element), tail);
+    }
+
+    /**
+     * Returns a vector without the element at {@code index}.
+     * Every element after {@code index} moves forward by one, so this takes O(n) time.
+     */
+    public PersistentVector<E> minus(int index) {
+        Objects.checkIndex(index, size);
+        PersistentVector<E> vector = empty();
+        int i = 0;
+        for (E element : this) {
+            if (i++ != index) {
+                vector = vector.plus(element);
+            }
+        }
+        return vector;
+    }
+
+    @Override
+    public int indexOf(Object toFind) {
+        int i = 0;
+        for (E element : this) {
+            if (Objects.equals(toFind, element)) {
+                return i;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int nextIndex = 0;
+            private Object[] leaf;
+
+            @Override
+            public boolean hasNext() {
+                return nextIndex < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if ((nextIndex & INDEX_MASK) == 0) {
+                    leaf = leafFor(nextIndex);
+                }
+                return (E) leaf[nextIndex++ & INDEX_MASK];
+            }
+        };
+    }
+
+    /**
+     * Returns the index of the first element held in the tail.
+     */
+    private int tailOffset() {
+        return size < NODE_WIDTH ? 0 : ((size - 1) >>> BITS_PER_LEVEL) << BITS_PER_LEVEL;
+    }
+
+    /**
+     * Returns the leaf, or the tail, that holds the element at {@code index}.
+     */
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS_PER_LEVEL) {
+            node = (Object[]) node[(index >>> level) & INDEX_MASK];
+        }
+        return node;
+    }
+
+    /**
+     * Returns a copy of {@code parent}, at {@code level} of the tree, with {@code tailNode} added as its last leaf.
+     */
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int childIndex = ((size - 1) >>> level) & INDEX_MASK;
+        Object[] newParent = parent.clone();
+        if (level == BITS_PER_LEVEL) {
+            newParent[childIndex] = tailNode;
+        } else {
+            Object[] child = (Object[]) parent[childIndex];
+            newParent[childIndex] = child == null
+                    ? newPath(level - BITS_PER_LEVEL, tailNode)
+                    : pushTail(level - BITS_PER_LEVEL, child, tailNode);
+        }
+        return newParent;
+    }
+
+    /**
+     * Returns a chain of single-child nodes, {@code level} levels high, that ends in {@code leaf}.
+     */
+    private static Object[] newPath(int level, Object[] leaf) {
+        if (level == 0) {
+            return leaf;
+        }
+        Object[] node = new Object[NODE_WIDTH];
+        node[0] = newPath(level - BITS_PER_LEVEL, leaf);
+        return node;
+    }
+
+    /**
+     * Returns a copy of {@code node}, at {@code level} of the tree, with the element at {@code index} replaced.
+     */
+    private static Object[] replaceInTree(int level, Object[] node, int index, Object element) {
+        Object[] newNode = node.clone();
+        if (level == 0) {
+            newNode[index & INDEX_MASK] = element;
+        } else {
+            int childIndex = (index >>> level) & INDEX_MASK;
+            newNode[childIndex] = replaceInTree(level - BITS_PER_LEVEL, (Object[]) node[childIndex], index, element);
+        }
+        return newNode;
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Matches a word against the words of sentences, ignoring case, in the same way as
+ * {@link StringUtil#containsWordIgnoreCase(String, String)}.
+ * The word is checked and trimmed once when the matcher is created, and each sentence is scanned in place, word by
+ * word, without creating any objects, so one matcher can be used to test many sentences cheaply.
+ */
+public class WordMatcher {
+
+    private final String word;
+
+    /**
+     * Creates a matcher for {@code word}, ignoring whitespace around it.
+     * @param word cannot be null, cannot be empty, must be a single word
+     */
+    public WordMatcher(String word) {
+        requireNonNull(word);
+        String preppedWord = word.trim();
+        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+        checkArgument(!containsWhitespace(preppedWord), "Word parameter should be a single word");
+        this.word = preppedWord;
+    }
+
+    public String getWord() {
+        return word;
+    }
+
+    /**
+     * Returns true if {@code sentence} contains the word of this matcher as a full word, ignoring case.
+     * Words in {@code sentence} are separated by whitespace, as with the regular expression {@code \s+}.
+     */
+    public boolean matches(String sentence) {
+        requireNonNull(sentence);
+        int length = sentence.length();
+        int wordLength = word.length();
+        int index = 0;
+        while (index < length) {
+            while (index < length && isWhitespace(sentence.charAt(index))) {
+                index++;
+            }
+            int start = index;
+            while (index < length && !isWhitespace(sentence.charAt(index))) {
+                index++;
+            }
+            if (index - start == wordLength && sentence.regionMatches(true, start, word, 0, wordLength)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsWhitespace(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (isWhitespace(s.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code c} is matched by the regular expression {@code \s}.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof WordMatcher)) {
+            return false;
+        }
+
+        WordMatcher otherWordMatcher = (WordMatcher) other;
+        return word.equals(otherWordMatcher.word);
+    }
+
+    @Override
+    public int hashCode() {
+        return word.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return word;
+    }
+}
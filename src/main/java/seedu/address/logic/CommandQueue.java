@@ -0,0 +1,269 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs commands one at a time, in the order they are submitted, on a single background thread, so that the thread
+ * submitting them is never held up by parsing, executing or saving. That thread is then the only one that may change
+ * the model.
+ * The lists of the model are shown through mirrors of them, which are only changed by the publisher. Once a task is
+ * done, the changes it made to the lists, copied on the background thread, are made to their mirrors, and then its
+ * result is passed on, all in a single task given to the publisher.
+ * Work that the model hands back from other threads, such as search results, must be given to
+ * {@link #execute(Runnable)} so that it is also done on the background thread.
+ */
+public class CommandQueue implements Executor {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandQueue.class);
+
+    private final ExecutorService writer;
+    private final Executor publisher;
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private volatile IntConsumer pendingCountListener = count -> {};
+
+    // Only used on the background thread
+    private final List<ListMirror<?>> mirrors = new ArrayList<>();
+
+    /**
+     * Creates a {@code CommandQueue} that passes results and list changes on through {@code publisher}, such as
+     * {@code Platform::runLater}.
+     */
+    public CommandQueue(Executor publisher) {
+        requireNonNull(publisher);
+        this.publisher = publisher;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-executor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues {@code task} to run after every task submitted before it. Once it is done, {@code onSuccess} is given its
+     * result, or {@code onFailure} the exception it threw, through the publisher.
+     */
+    public void submit(CommandTask task, Consumer<CommandResult> onSuccess, Consumer<Exception> onFailure) {
+        requireAllNonNull(task, onSuccess, onFailure);
+        pendingCount.incrementAndGet();
+        publisher.execute(this::notifyPendingCount);
+
+        writer.execute(() -> {
+            Runnable outcome;
+            try {
+                CommandResult result = task.run();
+                outcome = () -> onSuccess.accept(result);
+            } catch (CommandException | ParseException e) {
+                outcome = () -> onFailure.accept(e);
+            } catch (RuntimeException e) {
+                logger.severe("Queued command failed unexpectedly: " + StringUtil.getDetails(e));
+                outcome = () -> onFailure.accept(e);
+            }
+
+            Runnable finalOutcome = outcome;
+            publish(() -> {
+                pendingCount.decrementAndGet();
+                notifyPendingCount();
+                finalOutcome.run();
+            });
+        });
+    }
+
+    /**
+     * Runs {@code task} on the background thread after every task queued before it, and then publishes any changes it
+     * made to the mirrored lists.
+     */
+    @Override
+    public void execute(Runnable task) {
+        requireNonNull(task);
+        writer.execute(() -> {
+            try {
+                task.run();
+            } finally {
+                publish(() -> {});
+            }
+        });
+    }
+
+    /**
+     * Runs {@code task} on the background thread after every task queued before it, and returns its result once it is
+     * done. Nothing is published for it, so it should not change the model.
+     */
+    public <T> T call(Supplier<T> task) {
+        requireNonNull(task);
+        try {
+            return writer.submit(task::get).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a queued task", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Returns a list that mirrors the list given by {@code source}, which is only changed by the publisher.
+     * {@code source} is called on the background thread, and the mirror is empty until the publisher has filled it in.
+     */
+    public <T> ObservableList<T> mirror(Supplier<ObservableList<T>> source) {
+        requireNonNull(source);
+        ObservableList<T> mirror = FXCollections.observableArrayList();
+        execute(() -> mirrors.add(new ListMirror<>(source.get(), mirror)));
+        return FXCollections.unmodifiableObservableList(mirror);
+    }
+
+    /**
+     * Sets {@code listener} to be told, through the publisher, how many submitted commands have not finished yet
+     * whenever that changes.
+     */
+    public void setPendingCountListener(IntConsumer listener) {
+        requireNonNull(listener);
+        pendingCountListener = listener;
+    }
+
+    /**
+     * Waits for every task queued so far to finish. Their results may still be waiting to be published.
+     */
+    public void flush() {
+        try {
+            writer.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for queued commands");
+        } catch (ExecutionException e) {
+            // An empty task cannot fail
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Gives the publisher the refreshes of the mirrors whose lists have changed, followed by {@code then}.
+     * Runs on the background thread.
+     */
+    private void publish(Runnable then) {
+        List<Runnable> refreshes = new ArrayList<>();
+        for (ListMirror<?> mirror : mirrors) {
+            Runnable refresh = mirror.takeRefresh();
+            if (refresh != null) {
+                refreshes.add(refresh);
+            }
+        }
+        publisher.execute(() -> {
+            refreshes.forEach(Runnable::run);
+            then.run();
+        });
+    }
+
+    private void notifyPendingCount() {
+        pendingCountListener.accept(pendingCount.get());
+    }
+
+    /**
+     * A task that runs a command and returns its result.
+     */
+    @FunctionalInterface
+    public interface CommandTask {
+        CommandResult run() throws CommandException, ParseException;
+    }
+
+    /**
+     * A list of the model, and the mirror showing it. The list is only read on the background thread.
+     * The changes to the list are kept, with copies of the items they added, so that only those changes are made to
+     * the mirror, and the items in it that did not change, such as those selected, are left as they are. The mirror
+     * is only filled in again with a copy of the whole list if that would copy fewer items.
+     */
+    private static class ListMirror<T> {
+        private final ObservableList<T> source;
+        private final ObservableList<T> mirror;
+
+        /** The changes to make to the mirror since the last refresh, or null if it must be filled in again. */
+        private List<Consumer<ObservableList<T>>> changes = null;
+        private int changedItemCount = 0;
+
+        ListMirror(ObservableList<T> source, ObservableList<T> mirror) {
+            this.source = source;
+            this.mirror = mirror;
+            source.addListener((ListChangeListener<T>) this::keepChange);
+        }
+
+        /**
+         * Keeps the changes in {@code change}, which are made to the mirror in the same order, unless the mirror is to
+         * be filled in again anyway.
+         */
+        private void keepChange(ListChangeListener.Change<? extends T> change) {
+            while (changes != null && change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    changes = null;
+                    return;
+                }
+
+                int from = change.getFrom();
+                int removedSize = change.getRemovedSize();
+                List<T> added = new ArrayList<>(change.getAddedSubList());
+                changes.add(list -> replace(list, from, removedSize, added));
+                changedItemCount += removedSize + added.size();
+                if (changedItemCount > source.size()) {
+                    changes = null;
+                }
+            }
+        }
+
+        /**
+         * Replaces the {@code removedSize} items of {@code list} from {@code from} onwards with {@code added}.
+         */
+        private static <T> void replace(ObservableList<T> list, int from, int removedSize, List<T> added) {
+            if (removedSize == 1 && added.size() == 1) {
+                list.set(from, added.get(0));
+                return;
+            }
+            if (removedSize > 0) {
+                list.remove(from, from + removedSize);
+            }
+            if (!added.isEmpty()) {
+                list.addAll(from, added);
+            }
+        }
+
+        /**
+         * Returns a refresh of the mirror with the changes made to the list since the last refresh was taken, or with
+         * a copy of the list as it is now if there were too many, or null if the list has not changed since.
+         */
+        Runnable takeRefresh() {
+            List<Consumer<ObservableList<T>>> changesToMake = changes;
+            changes = new ArrayList<>();
+            changedItemCount = 0;
+            if (changesToMake == null) {
+                List<T> copy = new ArrayList<>(source);
+                return () -> mirror.setAll(copy);
+            }
+            if (changesToMake.isEmpty()) {
+                return null;
+            }
+            return () -> changesToMake.forEach(change -> change.accept(mirror));
+        }
+    }
+}
@@ -4,12 +4,14 @@ import java.nio.file.Path;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSuggester;
 import seedu.address.model.record.Record;
 
 /**
@@ -26,6 +28,15 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes a command made by the UI rather than entered by the user, saving its changes in the same way.
+     *
+     * @param command The command to execute.
+     * @return the result of the command execution.
+     * @throws CommandException If an error occurs during command execution.
+     */
+    CommandResult execute(Command command) throws CommandException;
+
     /**
      * Returns the AddressBook.
      *
@@ -33,9 +44,15 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
-    /** Returns an unmodifiable view of the filtered list of persons */
+    /** Returns an unmodifiable view of the filtered list of persons, in the order they are shown in */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns a suggester of persons by the start of a word of their name or their NRIC.
+     * The suggester may be used from any thread, but this method must be called from the thread that executes commands.
+     */
+    PersonSuggester getPersonSuggester();
+
     /** Returns an unmodifiable view of the pinned list of persons */
     ObservableList<Person> getPinnedPersonList();
 
@@ -17,6 +17,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSuggester;
 import seedu.address.model.record.Record;
 import seedu.address.storage.Storage;
 
@@ -34,6 +35,8 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private long savedModificationCount;
+    private long skippedSaveCount = 0;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and
@@ -43,15 +46,43 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedModificationCount = model.getModificationCount();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        return executeAndSave(command);
+    }
+
+    @Override
+    public CommandResult execute(Command command) throws CommandException {
+        logger.info("----------------[UI COMMAND][" + command + "]");
+        return executeAndSave(command);
+    }
+
+    /**
+     * Executes {@code command}, then saves the address book if it changed.
+     */
+    private CommandResult executeAndSave(Command command) throws CommandException {
+        CommandResult commandResult = command.execute(model);
+        saveAddressBookIfModified();
+
+        return commandResult;
+    }
+
+    /**
+     * Saves the address book if it was changed since it was last saved successfully.
+     */
+    private void saveAddressBookIfModified() throws CommandException {
+        long modificationCount = model.getModificationCount();
+        if (modificationCount == savedModificationCount) {
+            skippedSaveCount++;
+            logger.fine("Address book unchanged, skipped save (" + skippedSaveCount + " skipped so far)");
+            return;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
@@ -60,8 +91,14 @@ public class LogicManager implements Logic {
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+        savedModificationCount = modificationCount;
+    }
 
-        return commandResult;
+    /**
+     * Returns the number of commands after which saving was skipped because the address book was unchanged.
+     */
+    public long getSkippedSaveCount() {
+        return skippedSaveCount;
     }
 
     @Override
@@ -74,6 +111,11 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public PersonSuggester getPersonSuggester() {
+        return model.getPersonSuggester();
+    }
+
     @Override
     public ObservableList<Person> getPinnedPersonList() {
         return model.getPinnedPersonList();
@@ -81,7 +123,7 @@ public class LogicManager implements Logic {
 
     @Override
     public ObservableList<Appointment> getFilteredAppointmentList() {
-        return model.getAppointmentList();
+        return model.getFilteredAppointmentList();
     }
 
     @Override
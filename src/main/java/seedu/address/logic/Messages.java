@@ -22,6 +22,11 @@ public class Messages {
     public static final String MESSAGE_INVALID_RECORD_DISPLAYED_INDEX = "The record index provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
     public static final String MESSAGE_RECORDS_LISTED_OVERVIEW = "%1$d records listed!";
+    public static final String MESSAGE_SEARCHING = "Searching...";
+    public static final String MESSAGE_RECORDS_FOUND_OVERVIEW = "%1$d records found for %2$d persons listed!";
+    public static final String MESSAGE_DATE_RANGE_OVERVIEW =
+            "%1$d records found for %2$d persons listed, and %3$d appointments listed!";
+    public static final String MESSAGE_NO_TRANSACTION = "There is no transaction in progress";
     public static final String MESSAGE_DUPLICATE_FIELDS =
             "Multiple values specified for the following single-valued field(s): ";
 
@@ -73,7 +73,6 @@ public class AddAppointmentCommand extends Command {
 
         model.setPerson(patient, newPatient);
 
-        model.resetAppointmentList();
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(newAppointment, newPatient)));
     }
 
@@ -0,0 +1,100 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.EditRecordCommand.EditRecordDescriptor;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.record.Record;
+import seedu.address.model.record.UniqueRecordList;
+
+/**
+ * Attaches a file to a record of the patient being viewed, as chosen from the record shown in the UI.
+ */
+public class AttachFileCommand extends Command {
+
+    public static final String MESSAGE_SUCCESS = "File successfully attached!";
+    public static final String MESSAGE_RECORD_NOT_FOUND = "The record is no longer in the records of the patient "
+            + "being viewed";
+
+    private final Record record;
+    private final Path filePath;
+
+    /**
+     * Creates an AttachFileCommand to attach the file at {@code filePath} to {@code record}.
+     */
+    public AttachFileCommand(Record record, Path filePath) {
+        requireAllNonNull(record, filePath);
+        this.record = record;
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Person owner = findOwner(model).orElseThrow(() -> new CommandException(MESSAGE_RECORD_NOT_FOUND));
+
+        EditRecordDescriptor editRecordDescriptor = new EditRecordDescriptor();
+        editRecordDescriptor.setFilePath(filePath);
+        Record editedRecord = EditRecordCommand.createEditedRecord(record, editRecordDescriptor,
+                record.getPersonIndex());
+
+        UniqueRecordList records = owner.getRecords();
+        if (!record.equals(editedRecord) && records.contains(editedRecord)) {
+            throw new CommandException(EditRecordCommand.MESSAGE_DUPLICATE_RECORD);
+        }
+
+        UniqueRecordList newList = new UniqueRecordList();
+        newList.setRecords(records);
+        newList.setRecord(record, editedRecord);
+        Person editedOwner = EditRecordCommand.createdEditedPerson(owner, newList);
+
+        model.setPerson(owner, editedOwner);
+        model.updateRecordList(editedOwner);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    /**
+     * Returns the patient being viewed as they are now in the address book, if the record is still one of theirs.
+     * The patient being viewed may be an older copy, so the record is looked up in their current records.
+     */
+    private Optional<Person> findOwner(Model model) {
+        List<Person> personBeingViewed = model.getPersonBeingViewed();
+        if (personBeingViewed.isEmpty()) {
+            return Optional.empty();
+        }
+        return model.findPersonByNric(personBeingViewed.get(0).getNric())
+                .filter(person -> person.getRecords().contains(record));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttachFileCommand)) {
+            return false;
+        }
+
+        AttachFileCommand otherAttachFileCommand = (AttachFileCommand) other;
+        return record.equals(otherAttachFileCommand.record)
+                && filePath.equals(otherAttachFileCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("record", record)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Starts a transaction, so that the changes to persons made after it are saved together when it is committed, or all
+ * discarded when it is rolled back.
+ */
+public class BeginCommand extends Command {
+
+    public static final String COMMAND_WORD = "begin";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Starts a transaction. The changes to patients made "
+            + "after it are only shown and saved once you " + CommitCommand.COMMAND_WORD + ", or are all discarded "
+            + "if you " + RollbackCommand.COMMAND_WORD + ".\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Started a transaction. Enter " + CommitCommand.COMMAND_WORD
+            + " to save the changes made from now on together, or " + RollbackCommand.COMMAND_WORD
+            + " to discard them";
+    public static final String MESSAGE_TRANSACTION_IN_PROGRESS = "A transaction is already in progress";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (model.isInTransaction()) {
+            throw new CommandException(MESSAGE_TRANSACTION_IN_PROGRESS);
+        }
+
+        model.beginTransaction();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.Model;
+import seedu.address.model.SearchResultCache;
+
+/**
+ * Shows how often the results of recent searches for persons and records have been reused.
+ */
+public class CacheStatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "cachestats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how often the results of recent "
+            + FindCommand.COMMAND_WORD + " and " + FindRecordCommand.COMMAND_WORD + " commands have been reused.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Search result cache\n"
+            + FindCommand.COMMAND_WORD + ": %1$s\n"
+            + FindRecordCommand.COMMAND_WORD + ": %2$s";
+
+    public static final String MESSAGE_STATISTICS = "%1$d hits, %2$d misses, %3$d evictions "
+            + "(%4$d of %5$d results cached)";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS,
+                format(model.getPersonSearchCacheStatistics()), format(model.getRecordSearchCacheStatistics())));
+    }
+
+    /**
+     * Returns {@code statistics} formatted for the user.
+     */
+    public static String format(SearchResultCache.Statistics statistics) {
+        return String.format(MESSAGE_STATISTICS, statistics.getHitCount(), statistics.getMissCount(),
+                statistics.getEvictionCount(), statistics.getSize(), statistics.getCapacity());
+    }
+}
@@ -3,8 +3,12 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
 
 /**
  * Represents the result of a command execution.
@@ -22,6 +26,9 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** Feedback that replaces {@code feedbackToUser} once the command's work in the background is done, if any. */
+    private final CompletionStage<String> pendingFeedback;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -30,6 +37,19 @@ public class CommandResult {
         this.showHelp = showHelp;
         this.showAppointments = showAppointments;
         this.exit = exit;
+        this.pendingFeedback = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} that shows {@code feedbackToUser} until {@code pendingFeedback} is given,
+     * with other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, CompletionStage<String> pendingFeedback) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.showAppointments = false;
+        this.exit = false;
+        this.pendingFeedback = requireNonNull(pendingFeedback);
     }
 
     /**
@@ -40,6 +60,21 @@ public class CommandResult {
         this(feedbackToUser, false, false, false);
     }
 
+    /**
+     * Returns a {@code CommandResult} that reports the number of items shown, given by {@code count}, in
+     * {@code countFormat}. If the items are still being found in the background, it reports that they are being
+     * searched for until they are shown.
+     */
+    public static CommandResult ofCount(CompletableFuture<Integer> count, String countFormat) {
+        requireNonNull(count);
+        requireNonNull(countFormat);
+        if (count.isDone()) {
+            return new CommandResult(String.format(countFormat, count.join()));
+        }
+        return new CommandResult(Messages.MESSAGE_SEARCHING,
+                count.thenApply(shown -> String.format(countFormat, shown)));
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
@@ -56,6 +91,10 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<CompletionStage<String>> getPendingFeedback() {
+        return Optional.ofNullable(pendingFeedback);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -71,12 +110,13 @@ public class CommandResult {
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
                 && showAppointments == otherCommandResult.showAppointments
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && Objects.equals(pendingFeedback, otherCommandResult.pendingFeedback);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, showAppointments, exit);
+        return Objects.hash(feedbackToUser, showHelp, showAppointments, exit, pendingFeedback);
     }
 
     @Override
@@ -0,0 +1,32 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Makes all the changes to persons since the transaction began at once, and ends the transaction.
+ */
+public class CommitCommand extends Command {
+
+    public static final String COMMAND_WORD = "commit";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Saves all the changes to patients made since "
+            + BeginCommand.COMMAND_WORD + " together, and ends the transaction.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Committed the transaction";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.isInTransaction()) {
+            throw new CommandException(Messages.MESSAGE_NO_TRANSACTION);
+        }
+
+        model.commitTransaction();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -40,8 +40,7 @@ public class DeleteAppointmentCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Appointment> appointmentList = model.getAppointmentList();
-        List<Person> personList = model.getFilteredPersonList();
+        List<Appointment> appointmentList = model.getFilteredAppointmentList();
 
         if (targetIndex.getZeroBased() >= appointmentList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_APPOINTMENT_DISPLAYED_INDEX);
@@ -49,13 +48,8 @@ public class DeleteAppointmentCommand extends Command {
 
         Appointment appointmentToDelete = appointmentList.get(targetIndex.getZeroBased());
         Nric patientNric = appointmentToDelete.getNric();
-        Person personWithAppointment = personList.stream()
-                .filter(person -> person.getNric().equals(patientNric))
-                .findFirst()
-                .orElse(null);
-        if (personWithAppointment == null) {
-            throw new CommandException(MESSAGE_INVALID_NRIC);
-        }
+        Person personWithAppointment = model.findPersonByNric(patientNric)
+                .orElseThrow(() -> new CommandException(MESSAGE_INVALID_NRIC));
         UniqueAppointmentList newList = new UniqueAppointmentList();
         newList.setAppointments(personWithAppointment.getAppointments());
         newList.remove(appointmentToDelete);
@@ -68,7 +62,6 @@ public class DeleteAppointmentCommand extends Command {
                 personWithAppointment.isPinned());
 
         model.setPerson(personWithAppointment, newPatient);
-        model.resetAppointmentList();
         return new CommandResult(String.format(MESSAGE_DELETE_APPOINTMENT_SUCCESS,
                 Messages.format(appointmentToDelete, personWithAppointment)));
     }
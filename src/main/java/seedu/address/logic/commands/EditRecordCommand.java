@@ -80,14 +80,14 @@ public class EditRecordCommand extends Command {
         Person personToEdit = lastShownPersonList.get(patientIndex.getZeroBased());
 
         UniqueRecordList uniqueRecordList = personToEdit.getRecords();
-        List<Record> lastShownRecordList = uniqueRecordList.asUnmodifiableObservableList();
+        List<Record> lastShownRecordList = uniqueRecordList.asUnmodifiableList();
 
         if (recordIndex.getZeroBased() >= lastShownRecordList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_RECORD_DISPLAYED_INDEX);
         }
 
         Record recordToEdit = lastShownRecordList.get(recordIndex.getZeroBased());
-        Record editedRecord = createEditedRecord(recordToEdit, editRecordDescriptor);
+        Record editedRecord = createEditedRecord(recordToEdit, editRecordDescriptor, patientIndex.getZeroBased());
 
         if (recordToEdit.equals(editedRecord) || uniqueRecordList.contains(editedRecord)) {
             throw new CommandException(MESSAGE_DUPLICATE_RECORD);
@@ -110,10 +110,10 @@ public class EditRecordCommand extends Command {
 
     /**
      * Creates and returns a {@code Record} with the details of {@code recordToEdit}
-     * edited with {@code editRecordDescriptor}.
+     * edited with {@code editRecordDescriptor}, for the patient at {@code personIndex}.
      */
-    private Record createEditedRecord(Record recordToEdit,
-            EditRecordCommand.EditRecordDescriptor editRecordDescriptor) {
+    static Record createEditedRecord(Record recordToEdit,
+            EditRecordCommand.EditRecordDescriptor editRecordDescriptor, int personIndex) {
         assert recordToEdit != null;
 
         DateTime updatedDateTime = editRecordDescriptor.getDateTime().orElse(recordToEdit.getDateTime());
@@ -123,10 +123,13 @@ public class EditRecordCommand extends Command {
                 .orElse(recordToEdit.getMedications());
 
         return new Record(updatedDateTime, updatedConditions,
-                updatedMedications, filePath, patientIndex.getZeroBased());
+                updatedMedications, filePath, personIndex);
     }
 
-    private static Person createdEditedPerson(Person personToEdit, UniqueRecordList records) {
+    /**
+     * Creates and returns a {@code Person} with the details of {@code personToEdit} and the given {@code records}.
+     */
+    static Person createdEditedPerson(Person personToEdit, UniqueRecordList records) {
         assert personToEdit != null;
         Person editedPerson = new Person(personToEdit.getName(), personToEdit.getNric(), personToEdit.getEmail(),
                 personToEdit.getPhone(), personToEdit.getGender(),
@@ -0,0 +1,90 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+import seedu.address.model.record.Record;
+import seedu.address.model.shared.DateTime;
+import seedu.address.model.shared.Nric;
+
+/**
+ * Lists the patients with records made within a period, and filters the records of the patient being viewed and the
+ * appointments to those within the same period.
+ */
+public class FilterDateCommand extends Command {
+
+    public static final String COMMAND_WORD = "filterdate";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all patients with records made from the start "
+            + "date to the end date (both inclusive), and shows only the records of the patient being viewed and the "
+            + "appointments within those dates.\n"
+            + "Parameters: START_DATE END_DATE (dd-MM-yyyy)\n"
+            + "Example: " + COMMAND_WORD + " 01-01-2025 31-03-2025";
+
+    private final DateTime start;
+    private final DateTime end;
+
+    /**
+     * Creates a FilterDateCommand to filter by the period from {@code start} to {@code end}, both inclusive.
+     */
+    public FilterDateCommand(DateTime start, DateTime end) {
+        requireAllNonNull(start, end);
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Map<Nric, List<Record>> recordsByNric = model.getRecordsBetween(start, end);
+        model.updateFilteredPersonList(person -> recordsByNric.containsKey(person.getNric()));
+
+        List<Person> personBeingViewed = model.getPersonBeingViewed();
+        if (!personBeingViewed.isEmpty()) {
+            Set<Record> recordsOfPersonBeingViewed = new HashSet<>(
+                    model.getRecordsBetween(personBeingViewed.get(0).getNric(), start, end));
+            model.updateFilteredRecordList(recordsOfPersonBeingViewed::contains);
+        }
+
+        Set<Appointment> appointmentsWithinPeriod = new HashSet<>(model.getAppointmentsBetween(start, end));
+        model.updateFilteredAppointmentList(appointmentsWithinPeriod::contains);
+
+        int recordCount = recordsByNric.values().stream().mapToInt(List::size).sum();
+        return new CommandResult(String.format(Messages.MESSAGE_DATE_RANGE_OVERVIEW, recordCount,
+                recordsByNric.size(), model.getFilteredAppointmentList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterDateCommand)) {
+            return false;
+        }
+
+        FilterDateCommand otherFilterDateCommand = (FilterDateCommand) other;
+        return start.equals(otherFilterDateCommand.start)
+                && end.equals(otherFilterDateCommand.end);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("start", start)
+                .add("end", end)
+                .toString();
+    }
+}
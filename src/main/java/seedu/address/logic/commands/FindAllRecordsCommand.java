@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.record.Record;
+import seedu.address.model.shared.Nric;
+
+/**
+ * Finds the records of all patients in address book whose conditions or medications contain any of the argument
+ * keywords, and lists the patients they belong to.
+ * Keyword matching is case insensitive.
+ */
+public class FindAllRecordsCommand extends Command {
+
+    public static final String COMMAND_WORD = "searchallrecords";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the records of all patients whose conditions "
+            + "or medications contain any of the specified keywords (case-insensitive) and displays the patients "
+            + "they belong to as a list with index numbers.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " Ibuprofen Dengue";
+
+    private final List<String> keywords;
+
+    public FindAllRecordsCommand(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Map<Nric, List<Record>> matches = model.findRecords(keywords);
+        model.updateFilteredPersonList(person -> matches.containsKey(person.getNric()));
+
+        int recordCount = matches.values().stream().mapToInt(List::size).sum();
+        return new CommandResult(
+                String.format(Messages.MESSAGE_RECORDS_FOUND_OVERVIEW, recordCount, matches.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindAllRecordsCommand)) {
+            return false;
+        }
+
+        FindAllRecordsCommand otherFindAllRecordsCommand = (FindAllRecordsCommand) other;
+        return keywords.equals(otherFindAllRecordsCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
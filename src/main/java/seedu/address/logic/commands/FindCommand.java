@@ -1,36 +1,103 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.MARKER_FUZZY;
+import static seedu.address.logic.parser.CliSyntax.MARKER_QUERY;
+import static seedu.address.logic.parser.CliSyntax.MARKER_RANKED;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.shared.Nric;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the
  * argument keywords.
  * Keyword matching is case insensitive.
+ * In fuzzy mode, words that are a few edits away from the keywords also match, and only the best matches are listed.
+ * In ranked mode, only the most relevant matches are listed, most relevant first, as scored with the relevance weights
+ * in the user prefs.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "search";
 
+    public static final int MAX_FUZZY_MATCHES = 20;
+
+    public static final int MAX_RANKED_MATCHES = 50;
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Start the keywords with " + MARKER_FUZZY + " to also find slightly misspelt words, "
+            + "listing only the best " + MAX_FUZZY_MATCHES + " matches.\n"
+            + "Start the keywords with " + MARKER_RANKED + " to list the " + MAX_RANKED_MATCHES
+            + " most relevant matches first.\n"
+            + "Start the keywords with " + MARKER_QUERY + " to read them as a query, where they can be scoped to one "
+            + "detail with its prefix and combined with AND, OR, NOT and brackets. "
+            + "Start the query with EXPLAIN to see how it would be run.\n"
+            + "Parameters: [" + MARKER_FUZZY + "][" + MARKER_RANKED + "]KEYWORD [MORE_KEYWORDS]... "
+            + "or " + MARKER_QUERY + "[EXPLAIN] QUERY\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " " + MARKER_FUZZY + "alcie\n"
+            + "Example: " + COMMAND_WORD + " " + MARKER_RANKED + "tan penicillin\n"
+            + "Example: " + COMMAND_WORD + " " + MARKER_QUERY + "n/tan AND bt/O+ AND al/penicillin NOT g/F";
 
     private final NameContainsKeywordsPredicate predicate;
+    private final boolean isFuzzy;
+    private final boolean isRanked;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FindCommand to find the persons matching the keywords of {@code predicate}, also allowing slightly
+     * misspelt words if {@code isFuzzy} is true.
+     */
+    public FindCommand(NameContainsKeywordsPredicate predicate, boolean isFuzzy) {
+        this(predicate, isFuzzy, false);
+    }
+
+    /**
+     * Creates a FindCommand to find the persons matching the keywords of {@code predicate}, also allowing slightly
+     * misspelt words if {@code isFuzzy} is true, and listing the best matches first if {@code isRanked} is true.
+     */
+    public FindCommand(NameContainsKeywordsPredicate predicate, boolean isFuzzy, boolean isRanked) {
         this.predicate = predicate;
+        this.isFuzzy = isFuzzy;
+        this.isRanked = isRanked;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        if (isRanked) {
+            List<Nric> bestMatches = isFuzzy
+                    ? model.findPersonsFuzzy(predicate.getKeywords(), MAX_FUZZY_MATCHES)
+                    : model.findPersonsRanked(predicate.getKeywords(), MAX_RANKED_MATCHES);
+            Map<Nric, Integer> ranks = new HashMap<>();
+            for (Nric nric : bestMatches) {
+                ranks.put(nric, ranks.size());
+            }
+            model.updateFilteredPersonList(person -> ranks.containsKey(person.getNric()),
+                    Comparator.comparing(person -> ranks.get(person.getNric())));
+        } else if (isFuzzy) {
+            Set<Nric> bestMatches = new HashSet<>(model.findPersonsFuzzy(predicate.getKeywords(), MAX_FUZZY_MATCHES));
+            model.updateFilteredPersonList(person -> bestMatches.contains(person.getNric()));
+        } else {
+            // The fuzzy and ranked searches only look up the index for the best few matches, but this one tests
+            // every person, so it is done in the background and the count reported once they are shown
+            return CommandResult.ofCount(model.updateFilteredPersonListByKeywordsInBackground(predicate.getKeywords()),
+                    Messages.MESSAGE_PERSONS_LISTED_OVERVIEW);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -47,13 +114,17 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate)
+                && isFuzzy == otherFindCommand.isFuzzy
+                && isRanked == otherFindCommand.isRanked;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("isFuzzy", isFuzzy)
+                .add("isRanked", isRanked)
                 .toString();
     }
 }
@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.query.QueryNode;
+import seedu.address.model.person.query.QueryPlan;
+import seedu.address.model.shared.Nric;
+
+/**
+ * Finds and lists all persons in address book matched by a boolean query of keywords, each of which may be scoped to
+ * one detail. The query is compiled into a plan that looks the keywords up in an index, most selective first.
+ * Keyword matching is case insensitive.
+ */
+public class FindQueryCommand extends Command {
+
+    public static final String COMMAND_WORD = FindCommand.COMMAND_WORD;
+
+    public static final String MESSAGE_QUERY_PLAN = "Plan for %1$s (estimated cost %2$d):\n%3$s";
+
+    private final QueryNode query;
+    private final boolean isExplain;
+
+    /**
+     * Creates a FindQueryCommand to find the persons matched by {@code query}, or only to describe how they would be
+     * found if {@code isExplain} is true.
+     */
+    public FindQueryCommand(QueryNode query, boolean isExplain) {
+        requireNonNull(query);
+        this.query = query;
+        this.isExplain = isExplain;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        QueryPlan plan = model.planPersonQuery(query);
+        if (isExplain) {
+            return new CommandResult(String.format(MESSAGE_QUERY_PLAN, query, plan.getEstimatedCost(),
+                    plan.explain()));
+        }
+
+        Set<Nric> matches = new HashSet<>(plan.execute());
+        model.updateFilteredPersonList(person -> matches.contains(person.getNric()));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindQueryCommand)) {
+            return false;
+        }
+
+        FindQueryCommand otherFindQueryCommand = (FindQueryCommand) other;
+        return query.equals(otherFindQueryCommand.query)
+                && isExplain == otherFindQueryCommand.isExplain;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .add("isExplain", isExplain)
+                .toString();
+    }
+}
@@ -1,6 +1,10 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.MARKER_FUZZY;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
@@ -12,24 +16,39 @@ import seedu.address.model.record.RecordContainsKeywordsPredicate;
 /**
  * Finds and lists all records of a patient in address book that contain any of the arguement keywords.
  * Keyword matching is not case sensitive.
+ * In fuzzy mode, words that are a few edits away from the keywords also match.
  */
 public class FindRecordCommand extends Command {
     public static final String COMMAND_WORD = "searchrecord";
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all records of a patient that contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers \n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]... \n"
+            + "Start the keywords with " + MARKER_FUZZY + " to also find slightly misspelt words.\n"
+            + "Parameters: [" + MARKER_FUZZY + "]KEYWORD [MORE_KEYWORDS]... \n"
             + "Example: " + COMMAND_WORD + "Tylenol";
     private final RecordContainsKeywordsPredicate predicate;
+    private final boolean isFuzzy;
     public FindRecordCommand(RecordContainsKeywordsPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FindRecordCommand to find the records matching the keywords of {@code predicate}, also allowing
+     * slightly misspelt words if {@code isFuzzy} is true.
+     */
+    public FindRecordCommand(RecordContainsKeywordsPredicate predicate, boolean isFuzzy) {
         this.predicate = predicate;
+        this.isFuzzy = isFuzzy;
     }
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredRecordList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_RECORDS_LISTED_OVERVIEW, model.getFilteredRecordList().size())
-        );
+        List<String> keywords = new ArrayList<>(predicate.getKeywords());
+        if (isFuzzy) {
+            // Dates are not in the dictionary, so the keywords themselves are kept to still match them
+            keywords.addAll(model.findSimilarRecordWords(predicate.getKeywords()));
+        }
+        return CommandResult.ofCount(model.updateFilteredRecordListByKeywordsInBackground(keywords),
+                Messages.MESSAGE_RECORDS_LISTED_OVERVIEW);
     }
     @Override
     public boolean equals(Object other) {
@@ -42,12 +61,14 @@ public class FindRecordCommand extends Command {
         }
 
         FindRecordCommand otherFindRecordCommand = (FindRecordCommand) other;
-        return this.predicate.equals(otherFindRecordCommand.predicate);
+        return this.predicate.equals(otherFindRecordCommand.predicate)
+                && this.isFuzzy == otherFindRecordCommand.isFuzzy;
     }
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("isFuzzy", isFuzzy)
                 .toString();
     }
 }
@@ -0,0 +1,32 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Discards all the changes to persons since the transaction began, and ends the transaction.
+ */
+public class RollbackCommand extends Command {
+
+    public static final String COMMAND_WORD = "rollback";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Discards all the changes to patients made since "
+            + BeginCommand.COMMAND_WORD + ", and ends the transaction.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Rolled back the transaction";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.isInTransaction()) {
+            throw new CommandException(Messages.MESSAGE_NO_TRANSACTION);
+        }
+
+        model.rollbackTransaction();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands of a script, one for each line, in order.
+ * The commands are all parsed before any of them is run, and the filtered lists shown are only refreshed once all of
+ * them have run. Unless a transaction is already in progress, or the script begins or ends one itself, the changes to
+ * the persons are made in a transaction that is committed when the script ends, so that they change the persons once.
+ * The records of the person being viewed are still refreshed by each line that changes them.
+ * A line that cannot be parsed or run, even one that fails unexpectedly, is reported and skipped, and the lines after
+ * it are still run. As with any other command, the address book is saved once this command is done, rather than
+ * after each line.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a text file, one on each line, "
+            + "saving the changes once at the end.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " intake.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d of %2$d commands from %3$s in %4$d ms "
+            + "(%5$.1f commands per second)";
+    public static final String MESSAGE_FAILED_LINES = "\n%1$d failed:";
+    public static final String MESSAGE_FAILED_LINE = "\nLine %1$d: %2$s";
+    public static final String MESSAGE_UNEXPECTED_FAILURE = "Failed unexpectedly (%1$s)";
+
+    private static final Logger logger = LogsCenter.getLogger(RunCommand.class);
+
+    private final String scriptName;
+    private final SortedMap<Integer, Command> commands;
+    private final SortedMap<Integer, String> parseErrors;
+    private final LongSupplier nanoTimer;
+
+    /**
+     * Creates a RunCommand to run {@code commands}, keyed by their line numbers in the script named
+     * {@code scriptName}, also reporting the lines of the script that could not be parsed in {@code parseErrors}.
+     */
+    public RunCommand(String scriptName, Map<Integer, Command> commands, Map<Integer, String> parseErrors) {
+        this(scriptName, commands, parseErrors, System::nanoTime);
+    }
+
+    /**
+     * Creates a RunCommand as above, which times the commands with {@code nanoTimer}.
+     */
+    RunCommand(String scriptName, Map<Integer, Command> commands, Map<Integer, String> parseErrors,
+            LongSupplier nanoTimer) {
+        requireAllNonNull(scriptName, commands, parseErrors, nanoTimer);
+        this.scriptName = scriptName;
+        this.commands = new TreeMap<>(commands);
+        this.parseErrors = new TreeMap<>(parseErrors);
+        this.nanoTimer = nanoTimer;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        SortedMap<Integer, String> failures = new TreeMap<>(parseErrors);
+        int succeededCount = 0;
+
+        long start = nanoTimer.getAsLong();
+        boolean isBatched = !model.isInTransaction() && !isManagingTransaction();
+        model.suspendListUpdates();
+        if (isBatched) {
+            model.beginTransaction();
+        }
+        try {
+            for (Map.Entry<Integer, Command> line : commands.entrySet()) {
+                try {
+                    line.getValue().execute(model);
+                    succeededCount++;
+                } catch (CommandException ce) {
+                    failures.put(line.getKey(), ce.getMessage());
+                } catch (RuntimeException e) {
+                    // Reported like any other failed line, so that the lines that succeeded are committed and saved
+                    logger.severe("Line " + line.getKey() + " of " + scriptName + " failed unexpectedly: "
+                            + StringUtil.getDetails(e));
+                    failures.put(line.getKey(), String.format(MESSAGE_UNEXPECTED_FAILURE, e));
+                }
+            }
+        } finally {
+            if (isBatched) {
+                model.commitTransaction();
+            }
+            model.resumeListUpdates();
+        }
+        long elapsedNanos = nanoTimer.getAsLong() - start;
+
+        return new CommandResult(formatResult(succeededCount, elapsedNanos, failures));
+    }
+
+    /**
+     * Returns true if a line of the script begins, commits or rolls back a transaction, in which case its changes are
+     * made as the script's own transactions say.
+     */
+    private boolean isManagingTransaction() {
+        return commands.values().stream().anyMatch(command -> command instanceof BeginCommand
+                || command instanceof CommitCommand || command instanceof RollbackCommand);
+    }
+
+    private String formatResult(int succeededCount, long elapsedNanos, SortedMap<Integer, String> failures) {
+        int totalCount = commands.size() + parseErrors.size();
+        double commandsPerSecond = succeededCount / (Math.max(elapsedNanos, 1) / (double) TimeUnit.SECONDS.toNanos(1));
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_SUCCESS, succeededCount, totalCount,
+                scriptName, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), commandsPerSecond));
+        if (!failures.isEmpty()) {
+            result.append(String.format(MESSAGE_FAILED_LINES, failures.size()));
+            failures.forEach((lineNumber, message) ->
+                    result.append(String.format(MESSAGE_FAILED_LINE, lineNumber, message)));
+        }
+        return result.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return scriptName.equals(otherRunCommand.scriptName)
+                && commands.equals(otherRunCommand.commands)
+                && parseErrors.equals(otherRunCommand.parseErrors);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptName", scriptName)
+                .add("commands", commands)
+                .add("parseErrors", parseErrors)
+                .toString();
+    }
+}
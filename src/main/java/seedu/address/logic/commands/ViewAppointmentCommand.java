@@ -1,9 +1,12 @@
 package seedu.address.logic.commands;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_APPOINTMENTS;
+
 import seedu.address.model.Model;
 
 /**
- * Opens the Appointments window.
+ * Opens the Appointments window, showing all appointments.
  */
 public class ViewAppointmentCommand extends Command {
 
@@ -16,6 +19,8 @@ public class ViewAppointmentCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredAppointmentList(PREDICATE_SHOW_ALL_APPOINTMENTS);
         return new CommandResult(SHOWING_APPOINTMENTS_MESSAGE, false, true, false);
     }
 }
@@ -19,6 +19,8 @@ import seedu.address.model.shared.Name;
  */
 public class AddAppointmentCommandParser implements Parser<AddAppointmentCommand> {
 
+    private static final PrefixMatcher PREFIXES = new PrefixMatcher(PREFIX_NAME, PREFIX_DATE);
+
     /**
      * Parses the given {@code String} of arguments in the context of the
      * AddAppointmentCommand
@@ -28,7 +30,7 @@ public class AddAppointmentCommandParser implements Parser<AddAppointmentCommand
      */
     public AddAppointmentCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_DATE);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         Index index;
 
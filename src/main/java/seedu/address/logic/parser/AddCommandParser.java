@@ -32,6 +32,9 @@ import seedu.address.model.shared.Nric;
  */
 public class AddCommandParser implements Parser<AddCommand> {
 
+    private static final PrefixMatcher PREFIXES = new PrefixMatcher(PREFIX_NAME, PREFIX_NRIC, PREFIX_EMAIL,
+            PREFIX_PHONE, PREFIX_GENDER, PREFIX_AGE, PREFIX_BLOODTYPE, PREFIX_ALLERGIES);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddCommand
      * and returns an AddCommand object for execution.
@@ -39,9 +42,7 @@ public class AddCommandParser implements Parser<AddCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_NRIC, PREFIX_EMAIL,
-                PREFIX_PHONE, PREFIX_GENDER, PREFIX_AGE,
-                PREFIX_BLOODTYPE, PREFIX_ALLERGIES);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_NRIC, PREFIX_EMAIL, PREFIX_PHONE, PREFIX_GENDER,
                 PREFIX_EMAIL, PREFIX_AGE, PREFIX_BLOODTYPE)
@@ -20,10 +20,12 @@ import seedu.address.model.shared.DateTime;
  * Parses a user input and creates a AddRecordCommand object
  */
 public class AddRecordCommandParser implements Parser<AddRecordCommand> {
+
+    private static final PrefixMatcher PREFIXES = new PrefixMatcher(PREFIX_DATE, PREFIX_CONDITION, PREFIX_MEDICATION);
+
     @Override
     public AddRecordCommand parse(String userInput) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(userInput, PREFIX_DATE, PREFIX_CONDITION, PREFIX_MEDICATION);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(userInput, PREFIXES);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_DATE, PREFIX_CONDITION, PREFIX_MEDICATION)
                 || argMultimap.getPreamble().isEmpty()) {
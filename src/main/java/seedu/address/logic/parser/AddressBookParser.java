@@ -1,28 +1,39 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddAppointmentCommand;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddRecordCommand;
+import seedu.address.logic.commands.BeginCommand;
+import seedu.address.logic.commands.CacheStatsCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommitCommand;
 import seedu.address.logic.commands.DeleteAppointmentCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteRecordCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditRecordCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterDateCommand;
+import seedu.address.logic.commands.FindAllRecordsCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindRecordCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.PinCommand;
+import seedu.address.logic.commands.RollbackCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.UnpinCommand;
 import seedu.address.logic.commands.ViewAppointmentCommand;
 import seedu.address.logic.commands.ViewCommand;
@@ -30,14 +41,71 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ * The parser of each command is looked up by its command word in a {@code CommandRegistry}, so parsing is safe to do
+ * from several threads at once.
  */
 public class AddressBookParser {
 
+    public static final String MESSAGE_NESTED_SCRIPT = "A script cannot run another script";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+
+    private final CommandRegistry commandRegistry;
+
     /**
-     * Used for initial separation of command word and args.
+     * Creates an {@code AddressBookParser} that parses the commands of MedBook.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    public AddressBookParser() {
+        this(createDefaultRegistry());
+        commandRegistry.register(new RunCommandParser(this), RunCommand.COMMAND_WORD);
+    }
+
+    /**
+     * Creates an {@code AddressBookParser} that parses the commands registered in {@code commandRegistry}.
+     */
+    public AddressBookParser(CommandRegistry commandRegistry) {
+        requireNonNull(commandRegistry);
+        this.commandRegistry = commandRegistry;
+    }
+
+    /**
+     * Returns a {@code CommandRegistry} with the parsers of all the commands of MedBook.
+     */
+    public static CommandRegistry createDefaultRegistry() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(new AddCommandParser(), AddCommand.COMMAND_WORD);
+        registry.register(new AddRecordCommandParser(), AddRecordCommand.COMMAND_WORD);
+        registry.register(new EditCommandParser(), EditCommand.COMMAND_WORD);
+        registry.register(new EditRecordCommandParser(), EditRecordCommand.COMMAND_WORD);
+        registry.register(new DeleteCommandParser(), DeleteCommand.COMMAND_WORD);
+        registry.register(new DeleteRecordCommandParser(), DeleteRecordCommand.COMMAND_WORD);
+        registry.register(new PinCommandParser(), PinCommand.COMMAND_WORD);
+        registry.register(new UnpinCommandParser(), UnpinCommand.COMMAND_WORD);
+        registry.register(new AddAppointmentCommandParser(), AddAppointmentCommand.COMMAND_WORD);
+        registry.register(new DeleteAppointmentCommandParser(), DeleteAppointmentCommand.COMMAND_WORD);
+        registry.register(new ViewCommandParser(), ViewCommand.COMMAND_WORD);
+        registry.register(arguments -> new ViewAppointmentCommand(), ViewAppointmentCommand.COMMAND_WORD);
+        registry.register(new FindCommandParser(), FindCommand.COMMAND_WORD);
+        registry.register(new FindRecordCommandParser(), FindRecordCommand.COMMAND_WORD);
+        registry.register(new FindAllRecordsCommandParser(), FindAllRecordsCommand.COMMAND_WORD);
+        registry.register(new FilterDateCommandParser(), FilterDateCommand.COMMAND_WORD);
+        registry.register(arguments -> new ListCommand(), ListCommand.COMMAND_WORD);
+        registry.register(arguments -> new CacheStatsCommand(), CacheStatsCommand.COMMAND_WORD);
+        registry.register(arguments -> new ExitCommand(), ExitCommand.COMMAND_WORD);
+        registry.register(arguments -> new BeginCommand(), BeginCommand.COMMAND_WORD);
+        registry.register(arguments -> new CommitCommand(), CommitCommand.COMMAND_WORD);
+        registry.register(arguments -> new RollbackCommand(), RollbackCommand.COMMAND_WORD);
+        registry.register(arguments -> new HelpCommand(), HelpCommand.COMMAND_WORD);
+        return registry;
+    }
+
+    /**
+     * Returns the registry of the commands this parser parses, with which more commands, aliases and abbreviations
+     * can be registered.
+     */
+    public CommandRegistry getCommandRegistry() {
+        return commandRegistry;
+    }
 
     /**
      * Parses user input into command for execution.
@@ -49,13 +117,15 @@ public class AddressBookParser {
      *             if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty() || containsLineBreak(trimmedInput)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        final int commandWordEnd = findCommandWordEnd(trimmedInput);
+
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
 
         // Note to developers: Change the log level in config.json to enable lower level
         // (i.e., FINE, FINER and lower)
@@ -63,63 +133,86 @@ public class AddressBookParser {
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case AddRecordCommand.COMMAND_WORD:
-            return new AddRecordCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case EditRecordCommand.COMMAND_WORD:
-            return new EditRecordCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case DeleteRecordCommand.COMMAND_WORD:
-            return new DeleteRecordCommandParser().parse(arguments);
-
-        case PinCommand.COMMAND_WORD:
-            return new PinCommandParser().parse(arguments);
-
-        case UnpinCommand.COMMAND_WORD:
-            return new UnpinCommandParser().parse(arguments);
-
-        case AddAppointmentCommand.COMMAND_WORD:
-            return new AddAppointmentCommandParser().parse(arguments);
-
-        case DeleteAppointmentCommand.COMMAND_WORD:
-            return new DeleteAppointmentCommandParser().parse(arguments);
-
-        case ViewCommand.COMMAND_WORD:
-            return new ViewCommandParser().parse(arguments);
-
-        case ViewAppointmentCommand.COMMAND_WORD:
-            return new ViewAppointmentCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
+        Optional<Parser<? extends Command>> parser = commandRegistry.getParser(commandWord);
+        if (parser.isEmpty()) {
+            logger.finer("This user input caused a ParseException: " + userInput);
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        return parser.get().parse(arguments);
+    }
 
-        case FindRecordCommand.COMMAND_WORD:
-            return new FindRecordCommandParser().parse(arguments);
+    /**
+     * Parses each of {@code lines} into a command, and returns a command that runs them in order.
+     * Blank lines are skipped. Lines that cannot be parsed are reported when the returned command is run, rather than
+     * failing the whole script.
+     *
+     * @param scriptName the name of the script to report the results with
+     * @param lines the lines of the script
+     */
+    public RunCommand parseScript(String scriptName, List<String> lines) {
+        requireAllNonNull(scriptName, lines);
+        Map<Integer, Command> commands = new TreeMap<>();
+        Map<Integer, String> parseErrors = new TreeMap<>();
+        for (int i = 0; i < lines.size(); i++) {
+            int lineNumber = i + 1;
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            if (isScript(line.trim())) {
+                // Checked before parsing, as parsing a script that runs itself would never end
+                parseErrors.put(lineNumber, MESSAGE_NESTED_SCRIPT);
+                continue;
+            }
+            try {
+                commands.put(lineNumber, parseCommand(line));
+            } catch (ParseException pe) {
+                parseErrors.put(lineNumber, pe.getMessage());
+            }
+        }
+        return new RunCommand(scriptName, commands, parseErrors);
+    }
 
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
+    /**
+     * Returns true if the trimmed {@code input} is a command to run a script.
+     */
+    private boolean isScript(String trimmedInput) {
+        String commandWord = trimmedInput.substring(0, findCommandWordEnd(trimmedInput));
+        return commandRegistry.getParser(commandWord).filter(parser -> parser instanceof RunCommandParser).isPresent();
+    }
 
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
+    /**
+     * Returns the index of the first whitespace in {@code input}, which ends the command word, or the length of
+     * {@code input} if it has no whitespace.
+     */
+    private static int findCommandWordEnd(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            if (isWhitespace(input.charAt(i))) {
+                return i;
+            }
+        }
+        return input.length();
+    }
 
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
+    /**
+     * Returns true if {@code c} separates the command word from the arguments.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
 
-        default:
-            logger.finer("This user input caused a ParseException: " + userInput);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+    /**
+     * Returns true if {@code input} spans more than one line, as a command should be given on a single line.
+     * Several commands are run from a file with {@code run} instead.
+     */
+    private static boolean containsLineBreak(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
         }
+        return false;
     }
 
 }
@@ -17,4 +17,12 @@ public class CliSyntax {
     public static final Prefix PREFIX_DATE = new Prefix("d/");
     public static final Prefix PREFIX_CONDITION = new Prefix("c/");
     public static final Prefix PREFIX_MEDICATION = new Prefix("m/");
+
+    /* Marker definitions */
+    /** Put before the keywords of a search to also match words that are misspelt slightly. */
+    public static final String MARKER_FUZZY = "~";
+    /** Put before the keywords of a search to list the most relevant matches first. */
+    public static final String MARKER_RANKED = "^";
+    /** Put before a search to read it as a query, with operators, brackets and keywords scoped to one detail. */
+    public static final String MARKER_QUERY = "?";
 }
@@ -0,0 +1,74 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import seedu.address.logic.commands.Command;
+
+/**
+ * Maps command words, and any aliases or abbreviations of them, to the parsers of their commands.
+ * Each parser is created once when it is registered and reused for every input, so it must not keep any state
+ * between calls to {@link Parser#parse(String)}. Looking a parser up and registering one are safe to do from several
+ * threads at once.
+ */
+public class CommandRegistry {
+
+    public static final String MESSAGE_CONSTRAINTS = "Command words should not be blank or contain whitespace";
+    public static final String MESSAGE_DUPLICATE_COMMAND_WORD = "The command word \"%1$s\" is already registered";
+
+    private final Map<String, Parser<? extends Command>> parsersByWord = new ConcurrentHashMap<>();
+
+    /**
+     * Registers {@code parser} to parse the arguments of commands starting with {@code commandWord} or any of
+     * {@code aliases}.
+     *
+     * @throws IllegalArgumentException if any of the words is not a valid command word, or is already registered.
+     *     None of the words are registered then.
+     */
+    public synchronized void register(Parser<? extends Command> parser, String commandWord, String... aliases) {
+        requireNonNull(parser);
+        Set<String> words = new LinkedHashSet<>();
+        words.add(commandWord);
+        for (String alias : aliases) {
+            checkArgument(words.add(alias), String.format(MESSAGE_DUPLICATE_COMMAND_WORD, alias));
+        }
+        for (String word : words) {
+            checkArgument(isValidCommandWord(word), MESSAGE_CONSTRAINTS);
+            checkArgument(!parsersByWord.containsKey(word), String.format(MESSAGE_DUPLICATE_COMMAND_WORD, word));
+        }
+
+        for (String word : words) {
+            parsersByWord.put(word, parser);
+        }
+    }
+
+    /**
+     * Returns the parser registered for {@code commandWord}, if any.
+     */
+    public Optional<Parser<? extends Command>> getParser(String commandWord) {
+        requireNonNull(commandWord);
+        return Optional.ofNullable(parsersByWord.get(commandWord));
+    }
+
+    /**
+     * Returns true if {@code word} is a valid command word.
+     */
+    public static boolean isValidCommandWord(String word) {
+        requireNonNull(word);
+        if (word.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.isWhitespace(word.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -26,6 +26,9 @@ import seedu.address.model.person.Allergy;
  */
 public class EditCommandParser implements Parser<EditCommand> {
 
+    private static final PrefixMatcher PREFIXES = new PrefixMatcher(PREFIX_NAME, PREFIX_EMAIL, PREFIX_PHONE,
+            PREFIX_GENDER, PREFIX_AGE, PREFIX_BLOODTYPE, PREFIX_ALLERGIES);
+
     /**
      * Parses the given {@code String} of arguments in the context of the
      * EditCommand
@@ -36,8 +39,7 @@ public class EditCommandParser implements Parser<EditCommand> {
      */
     public EditCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_EMAIL, PREFIX_PHONE,
-                PREFIX_GENDER, PREFIX_AGE, PREFIX_BLOODTYPE, PREFIX_ALLERGIES);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         Index index;
 
@@ -23,6 +23,8 @@ import seedu.address.model.record.Medication;
  */
 public class EditRecordCommandParser implements Parser<EditRecordCommand> {
 
+    private static final PrefixMatcher PREFIXES = new PrefixMatcher(PREFIX_DATE, PREFIX_CONDITION, PREFIX_MEDICATION);
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
      * and returns an EditCommand object for execution.
@@ -30,8 +32,7 @@ public class EditRecordCommandParser implements Parser<EditRecordCommand> {
      */
     public EditRecordCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_DATE, PREFIX_CONDITION, PREFIX_MEDICATION);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         Index patientIndex;
         Index recordIndex;
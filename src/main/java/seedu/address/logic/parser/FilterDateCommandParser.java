@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.FilterDateCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.shared.DateTime;
+
+/**
+ * Parses input arguments and creates a new FilterDateCommand object
+ */
+public class FilterDateCommandParser implements Parser<FilterDateCommand> {
+
+    public static final String MESSAGE_INVALID_DATE = "Dates should be in the format of 'dd-MM-yyyy'";
+    public static final String MESSAGE_START_AFTER_END = "The start date should not be after the end date";
+
+    private static final String START_OF_DAY = " 0000";
+    private static final String END_OF_DAY = " 2359";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterDateCommand
+     * and returns a FilterDateCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FilterDateCommand parse(String args) throws ParseException {
+        String[] dates = args.trim().split("\\s+");
+        if (dates.length != 2 || dates[0].isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterDateCommand.MESSAGE_USAGE));
+        }
+
+        DateTime start = parseDate(dates[0], START_OF_DAY);
+        DateTime end = parseDate(dates[1], END_OF_DAY);
+        if (start.toEpochMinute() > end.toEpochMinute()) {
+            throw new ParseException(MESSAGE_START_AFTER_END);
+        }
+        return new FilterDateCommand(start, end);
+    }
+
+    /**
+     * Parses {@code date} into the {@code DateTime} at {@code time} on that date.
+     */
+    private static DateTime parseDate(String date, String time) throws ParseException {
+        if (!DateTime.isValidDateTime(date + time)) {
+            throw new ParseException(MESSAGE_INVALID_DATE);
+        }
+        return new DateTime(date + time);
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+
+import seedu.address.logic.commands.FindAllRecordsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FindAllRecordsCommand object
+ */
+public class FindAllRecordsCommandParser implements Parser<FindAllRecordsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindAllRecordsCommand
+     * and returns a FindAllRecordsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindAllRecordsCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindAllRecordsCommand.MESSAGE_USAGE));
+        }
+
+        String[] keywords = trimmedArgs.split("\\s+");
+        return new FindAllRecordsCommand(Arrays.asList(keywords));
+    }
+}
@@ -1,25 +1,53 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.MARKER_FUZZY;
+import static seedu.address.logic.parser.CliSyntax.MARKER_QUERY;
+import static seedu.address.logic.parser.CliSyntax.MARKER_RANKED;
 
 import java.util.Arrays;
 
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 /**
- * Parses input arguments and creates a new FindCommand object
+ * Parses input arguments and creates a new FindCommand object, or a FindQueryCommand object if the arguments start
+ * with the query marker. Without it, words such as {@code OR} and brackets are searched for as plain keywords.
  */
-public class FindCommandParser implements Parser<FindCommand> {
+public class FindCommandParser implements Parser<Command> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
-     * and returns a FindCommand object for execution.
+     * and returns a FindCommand or FindQueryCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public FindCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
+        if (trimmedArgs.startsWith(MARKER_QUERY)) {
+            String query = trimmedArgs.substring(MARKER_QUERY.length()).trim();
+            if (query.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            return new FindQueryCommandParser().parse(query);
+        }
+
+        boolean isFuzzy = false;
+        boolean isRanked = false;
+        // The markers may be given in either order, but each at most once
+        while (true) {
+            if (!isFuzzy && trimmedArgs.startsWith(MARKER_FUZZY)) {
+                isFuzzy = true;
+                trimmedArgs = trimmedArgs.substring(MARKER_FUZZY.length()).trim();
+            } else if (!isRanked && trimmedArgs.startsWith(MARKER_RANKED)) {
+                isRanked = true;
+                trimmedArgs = trimmedArgs.substring(MARKER_RANKED.length()).trim();
+            } else {
+                break;
+            }
+        }
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
@@ -27,7 +55,7 @@ public class FindCommandParser implements Parser<FindCommand> {
 
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)), isFuzzy, isRanked);
     }
 
 }
@@ -0,0 +1,190 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ALLERGIES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BLOODTYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GENDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NRIC;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.logic.commands.FindQueryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.PersonField;
+import seedu.address.model.person.query.QueryNode;
+
+/**
+ * Parses a boolean query for persons and creates a new FindQueryCommand object.
+ * A query is made of keywords, each optionally scoped to one detail with its prefix (e.g. {@code n/tan}), combined
+ * with {@code AND}, {@code OR}, {@code NOT} and brackets. {@code NOT} binds tightest and {@code OR} loosest; keywords
+ * next to each other without an operator are OR'ed, as in a plain search, and {@code A NOT B} means
+ * {@code A AND NOT B}. A query that starts with {@code EXPLAIN} is explained instead of run.
+ */
+public class FindQueryCommandParser implements Parser<FindQueryCommand> {
+
+    public static final String OPERATOR_AND = "AND";
+    public static final String OPERATOR_OR = "OR";
+    public static final String OPERATOR_NOT = "NOT";
+    public static final String KEYWORD_EXPLAIN = "EXPLAIN";
+
+    public static final String MESSAGE_MISSING_KEYWORD = "Expected a keyword at the end of the query";
+    public static final String MESSAGE_UNEXPECTED_TOKEN = "Expected a keyword instead of \"%1$s\" in the query";
+    public static final String MESSAGE_MISSING_VALUE = "Expected a keyword after %1$s in the query";
+    public static final String MESSAGE_UNCLOSED_BRACKET = "A \"(\" in the query is not closed";
+
+    private static final String OPEN_BRACKET = "(";
+    private static final String CLOSE_BRACKET = ")";
+
+    private static final Map<Prefix, PersonField> FIELDS_BY_PREFIX = new LinkedHashMap<>();
+
+    static {
+        FIELDS_BY_PREFIX.put(PREFIX_NAME, PersonField.NAME);
+        FIELDS_BY_PREFIX.put(PREFIX_NRIC, PersonField.NRIC);
+        FIELDS_BY_PREFIX.put(PREFIX_PHONE, PersonField.PHONE);
+        FIELDS_BY_PREFIX.put(PREFIX_EMAIL, PersonField.EMAIL);
+        FIELDS_BY_PREFIX.put(PREFIX_GENDER, PersonField.GENDER);
+        FIELDS_BY_PREFIX.put(PREFIX_AGE, PersonField.AGE);
+        FIELDS_BY_PREFIX.put(PREFIX_BLOODTYPE, PersonField.BLOOD_TYPE);
+        FIELDS_BY_PREFIX.put(PREFIX_ALLERGIES, PersonField.ALLERGY);
+    }
+
+    private List<String> tokens;
+    private int position;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindQueryCommand
+     * and returns a FindQueryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public FindQueryCommand parse(String args) throws ParseException {
+        tokens = tokenize(args);
+        position = 0;
+        boolean isExplain = !tokens.isEmpty() && tokens.get(0).equals(KEYWORD_EXPLAIN);
+        if (isExplain) {
+            position++;
+        }
+
+        QueryNode query = parseOr();
+        if (position < tokens.size()) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, tokens.get(position)));
+        }
+        return new FindQueryCommand(query, isExplain);
+    }
+
+    private QueryNode parseOr() throws ParseException {
+        List<QueryNode> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (position < tokens.size() && !peek().equals(CLOSE_BRACKET)) {
+            if (peek().equals(OPERATOR_OR)) {
+                position++;
+            }
+            operands.add(parseAnd());
+        }
+        return QueryNode.or(operands);
+    }
+
+    private QueryNode parseAnd() throws ParseException {
+        List<QueryNode> operands = new ArrayList<>();
+        operands.add(parseUnary());
+        while (position < tokens.size()) {
+            if (peek().equals(OPERATOR_AND)) {
+                position++;
+                operands.add(parseUnary());
+            } else if (peek().equals(OPERATOR_NOT)) {
+                position++;
+                operands.add(QueryNode.not(parseUnary()));
+            } else {
+                break;
+            }
+        }
+        return QueryNode.and(operands);
+    }
+
+    private QueryNode parseUnary() throws ParseException {
+        if (position < tokens.size() && peek().equals(OPERATOR_NOT)) {
+            position++;
+            return QueryNode.not(parseUnary());
+        }
+        return parsePrimary();
+    }
+
+    private QueryNode parsePrimary() throws ParseException {
+        if (position >= tokens.size()) {
+            throw new ParseException(MESSAGE_MISSING_KEYWORD);
+        }
+        String token = tokens.get(position++);
+        if (token.equals(OPEN_BRACKET)) {
+            QueryNode query = parseOr();
+            if (position >= tokens.size()) {
+                throw new ParseException(MESSAGE_UNCLOSED_BRACKET);
+            }
+            position++;
+            return query;
+        }
+        if (isOperator(token) || token.equals(CLOSE_BRACKET)) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, token));
+        }
+
+        Prefix prefix = getPrefix(token);
+        if (prefix == null) {
+            return QueryNode.term(token);
+        }
+        String word = token.substring(prefix.getPrefix().length());
+        if (word.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_VALUE, prefix));
+        }
+        return QueryNode.term(FIELDS_BY_PREFIX.get(prefix), word);
+    }
+
+    private String peek() {
+        return tokens.get(position);
+    }
+
+    private static boolean isOperator(String token) {
+        return token.equals(OPERATOR_AND) || token.equals(OPERATOR_OR) || token.equals(OPERATOR_NOT);
+    }
+
+    /**
+     * Returns the prefix of a detail that {@code token} starts with, or null if it does not start with one.
+     */
+    private static Prefix getPrefix(String token) {
+        for (Prefix prefix : FIELDS_BY_PREFIX.keySet()) {
+            if (token.startsWith(prefix.getPrefix())) {
+                return prefix;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Splits {@code args} into tokens at whitespace, with each bracket as a token of its own.
+     */
+    private static List<String> tokenize(String args) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (char c : args.toCharArray()) {
+            if (Character.isWhitespace(c) || c == '(' || c == ')') {
+                if (current.length() > 0) {
+                    tokens.add(current.toString());
+                    current.setLength(0);
+                }
+                if (!Character.isWhitespace(c)) {
+                    tokens.add(String.valueOf(c));
+                }
+            } else {
+                current.append(c);
+            }
+        }
+        if (current.length() > 0) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.MARKER_FUZZY;
 
 import java.util.Arrays;
 
@@ -16,11 +17,15 @@ public class FindRecordCommandParser implements Parser<FindRecordCommand> {
     @Override
     public FindRecordCommand parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
+        boolean isFuzzy = trimmedArgs.startsWith(MARKER_FUZZY);
+        if (isFuzzy) {
+            trimmedArgs = trimmedArgs.substring(MARKER_FUZZY.length()).trim();
+        }
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindRecordCommand.MESSAGE_USAGE));
         }
         String[] keywords = trimmedArgs.split("\\s+");
-        return new FindRecordCommand(new RecordContainsKeywordsPredicate(Arrays.asList(keywords)));
+        return new FindRecordCommand(new RecordContainsKeywordsPredicate(Arrays.asList(keywords)), isFuzzy);
     }
 }
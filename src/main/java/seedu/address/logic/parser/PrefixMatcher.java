@@ -0,0 +1,89 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * A set of prefixes compiled into a trie, so that whether any of them starts at a position of an arguments string
+ * can be found by reading each character after that position at most once, however many prefixes there are.
+ * A parser should compile its prefixes once and reuse the {@code PrefixMatcher} for every input.
+ * Guarantees: immutable, so it can be shared between threads.
+ */
+public class PrefixMatcher {
+
+    private final Node root = new Node();
+
+    /**
+     * Compiles {@code prefixes} into a {@code PrefixMatcher}.
+     */
+    public PrefixMatcher(Prefix... prefixes) {
+        requireNonNull(prefixes);
+        for (Prefix prefix : prefixes) {
+            requireNonNull(prefix);
+            root.add(prefix, 0);
+        }
+    }
+
+    /**
+     * Returns the longest of the prefixes that {@code argsString} has at {@code position}, or null if it has none.
+     */
+    public Prefix match(String argsString, int position) {
+        Node node = root;
+        Prefix longest = root.prefix;
+        for (int i = position; i < argsString.length(); i++) {
+            node = node.next(argsString.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.prefix != null) {
+                longest = node.prefix;
+            }
+        }
+        return longest;
+    }
+
+    /**
+     * A state of the trie, reached by reading the characters on the path from the root to it.
+     * It has an edge for each character that can be read next, and the prefix spelt by the path, if any.
+     */
+    private static class Node {
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private Prefix prefix;
+
+        /**
+         * Adds the states needed to read the characters of {@code prefix} from {@code depth} onwards.
+         */
+        void add(Prefix prefix, int depth) {
+            String word = prefix.getPrefix();
+            if (depth == word.length()) {
+                this.prefix = prefix;
+                return;
+            }
+
+            Node child = next(word.charAt(depth));
+            if (child == null) {
+                child = new Node();
+                labels = Arrays.copyOf(labels, labels.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                labels[labels.length - 1] = word.charAt(depth);
+                children[children.length - 1] = child;
+            }
+            child.add(prefix, depth + 1);
+        }
+
+        /**
+         * Returns the state reached by reading {@code c} from this state, or null if none is.
+         */
+        Node next(char c) {
+            // Prefixes are a few characters long, so there are too few edges for anything faster than a scan to pay off
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object for the commands in the file they name.
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read the commands in %1$s: %2$s";
+
+    private final AddressBookParser addressBookParser;
+
+    /**
+     * Creates a {@code RunCommandParser} that parses each line of a file with {@code addressBookParser}.
+     */
+    public RunCommandParser(AddressBookParser addressBookParser) {
+        requireNonNull(addressBookParser);
+        this.addressBookParser = addressBookParser;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format, or the file cannot be read
+     */
+    public RunCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+
+        List<String> lines;
+        try {
+            Path file = Paths.get(trimmedArgs);
+            lines = Files.readAllLines(file);
+        } catch (InvalidPathException | IOException e) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ_FILE, trimmedArgs, e.getMessage()), e);
+        }
+        return addressBookParser.parseScript(trimmedArgs, lines);
+    }
+}
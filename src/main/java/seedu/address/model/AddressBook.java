@@ -4,17 +4,37 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.appointment.Appointment;
-import seedu.address.model.appointment.UniqueAppointmentList;
+import seedu.address.model.appointment.AppointmentIndex;
+import seedu.address.model.person.IndexedKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChangeset;
+import seedu.address.model.person.PersonPrefixIndex;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.PersonSuggester;
+import seedu.address.model.person.RelevanceWeights;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.query.QueryNode;
+import seedu.address.model.person.query.QueryPlan;
+import seedu.address.model.person.query.QueryPlanner;
 import seedu.address.model.record.Record;
+import seedu.address.model.record.RecordDateIndex;
+import seedu.address.model.record.RecordSearchIndex;
 import seedu.address.model.record.UniqueRecordList;
+import seedu.address.model.shared.DateTime;
+import seedu.address.model.shared.Nric;
 
 /**
  * Wraps all data at the address-book level
@@ -25,7 +45,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList persons;
     private final UniquePersonList personBeingViewed;
     private final UniqueRecordList records;
-    private final UniqueAppointmentList appointments;
+    private AppointmentIndex appointmentIndex;
+    private PersonSearchIndex personSearchIndex;
+    private PersonPrefixIndex personPrefixIndex;
+    private RecordSearchIndex recordSearchIndex;
+    private RecordDateIndex recordDateIndex;
+    private long modificationCount = 0;
 
     /*
      * The 'unusual' code block below is a non-static initialization block,
@@ -40,7 +65,6 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         persons = new UniquePersonList();
         records = new UniqueRecordList();
-        appointments = new UniqueAppointmentList();
         personBeingViewed = new UniquePersonList();
     }
 
@@ -63,6 +87,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        modificationCount++;
     }
 
     public void setRecords(Person person) {
@@ -78,6 +103,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook) {
+            // The persons of another address book are already known to be unique
+            persons.setPersons(((AddressBook) newData).persons);
+            modificationCount++;
+            return;
+        }
         List<Person> fullList = newData.getPersonList();
         setPersons(fullList);
     }
@@ -93,6 +124,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person in the address book with the given {@code nric}, if there is one.
+     */
+    public Optional<Person> findPersonByNric(Nric nric) {
+        requireNonNull(nric);
+        return persons.findByNric(nric);
+    }
+
     /**
      * Returns true if the same record under the patient at {@code index} exists in the Medbook.
      */
@@ -107,6 +146,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        modificationCount++;
     }
 
     /**
@@ -120,6 +160,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        modificationCount++;
     }
 
     /**
@@ -128,6 +169,37 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        modificationCount++;
+    }
+
+    /**
+     * Returns an empty changeset of the persons in this address book, to keep changes aside in until they are all
+     * made with {@link #applyChangeset(PersonChangeset)}. The persons must not be changed in any other way meanwhile.
+     */
+    public PersonChangeset createChangeset() {
+        return new PersonChangeset(persons);
+    }
+
+    /**
+     * Makes the changes in {@code changeset}, which was created by this address book, all at once, so that they are
+     * seen as a single change of the persons.
+     */
+    public void applyChangeset(PersonChangeset changeset) {
+        requireNonNull(changeset);
+        if (changeset.isEmpty()) {
+            return;
+        }
+        persons.setPersons(changeset.applyTo(persons.asUnmodifiableObservableList()));
+        modificationCount++;
+    }
+
+    /**
+     * Returns the number of changes made to the persons in this address book so far.
+     * The count only ever increases, so two equal counts mean that nothing was changed in between.
+     * Changes to what is being viewed are not counted.
+     */
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     //// util methods
@@ -148,22 +220,240 @@ public class AddressBook implements ReadOnlyAddressBook {
         return records.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the appointments of all persons in chronological order, as an unmodifiable {@code ObservableList}
+     * that is kept up to date as persons change.
+     */
     public ObservableList<Appointment> getAppointmentList() {
-        resetAppointmentList();
-        return appointments.asUnmodifiableObservableList();
+        return getAppointmentIndex().asUnmodifiableObservableList();
+    }
+
+    /**
+     * Returns the appointments of all persons that take place from {@code start} to {@code end}, both inclusive,
+     * in chronological order.
+     */
+    public List<Appointment> getAppointmentsBetween(DateTime start, DateTime end) {
+        requireAllNonNull(start, end);
+        return getAppointmentIndex().getAppointmentsBetween(start, end);
+    }
+
+    /**
+     * Returns the index of the appointments of all persons.
+     * The index is only built when it is first needed, and from then on is updated with each change to the persons.
+     */
+    private AppointmentIndex getAppointmentIndex() {
+        if (appointmentIndex == null) {
+            appointmentIndex = new AppointmentIndex();
+            List<Appointment> allAppointments = new ArrayList<>();
+            for (Person person : persons) {
+                allAppointments.addAll(person.getAppointments().asUnmodifiableList());
+            }
+            appointmentIndex.setAppointments(allAppointments);
+            persons.asUnmodifiableObservableList().addListener(this::updateAppointmentIndex);
+        }
+        return appointmentIndex;
+    }
+
+    /**
+     * Updates the appointment index with the appointments of the persons removed and added in {@code change}.
+     */
+    private void updateAppointmentIndex(ListChangeListener.Change<? extends Person> change) {
+        forRemovedAndAdded(change, (removedPersons, addedPersons) -> {
+            List<Appointment> removedAppointments = new ArrayList<>();
+            List<Appointment> addedAppointments = new ArrayList<>();
+            for (Person removedPerson : removedPersons) {
+                removedAppointments.addAll(removedPerson.getAppointments().asUnmodifiableList());
+            }
+            for (Person addedPerson : addedPersons) {
+                addedAppointments.addAll(addedPerson.getAppointments().asUnmodifiableList());
+            }
+            appointmentIndex.update(removedAppointments, addedAppointments);
+        });
+    }
+
+    /**
+     * Returns a predicate that tests whether a person in this address book has any of {@code keywords} as a word in
+     * their details, using an index of those words.
+     */
+    public IndexedKeywordsPredicate getKeywordsPredicate(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return new IndexedKeywordsPredicate(keywords, getPersonSearchIndex());
+    }
+
+    /**
+     * Returns the NRICs of at most {@code limit} persons in this address book that have a word in their details
+     * within a few edits of any of {@code keywords}, best match first.
+     */
+    public List<Nric> findPersonsFuzzy(List<String> keywords, int limit) {
+        requireAllNonNull(keywords);
+        return getPersonSearchIndex().findFuzzy(keywords, limit);
+    }
+
+    /**
+     * Returns the NRICs of at most {@code limit} persons in this address book that have any of {@code keywords} as a
+     * word in their details, most relevant first, as scored with {@code weights}.
+     */
+    public List<Nric> findPersonsRanked(List<String> keywords, RelevanceWeights weights, int limit) {
+        requireAllNonNull(keywords, weights);
+        return getPersonSearchIndex().findRanked(keywords, weights, limit);
+    }
+
+    /**
+     * Returns a plan that finds the persons in this address book matched by {@code query}, using the index of the
+     * words in their details. The plan must be executed before the persons change.
+     */
+    public QueryPlan planPersonQuery(QueryNode query) {
+        requireAllNonNull(query);
+        return new QueryPlanner(getPersonSearchIndex()).plan(query);
+    }
+
+    /**
+     * Returns the index of the words in the details of all persons.
+     * The index is only built when it is first needed, and from then on is updated with each change to the persons.
+     */
+    private PersonSearchIndex getPersonSearchIndex() {
+        if (personSearchIndex == null) {
+            personSearchIndex = new PersonSearchIndex();
+            personSearchIndex.setPersons(persons.asUnmodifiableObservableList());
+            persons.asUnmodifiableObservableList().addListener(this::updatePersonSearchIndex);
+        }
+        return personSearchIndex;
+    }
+
+    /**
+     * Updates the person search index with the persons removed and added in {@code change}.
+     */
+    private void updatePersonSearchIndex(ListChangeListener.Change<? extends Person> change) {
+        forRemovedAndAdded(change, personSearchIndex::update);
+    }
+
+    /**
+     * Returns a suggester of the persons in this address book by the start of a word of their name or their NRIC.
+     * The suggester is kept up to date with each change to the persons, and may be used from any thread, but this
+     * method must be called from the thread that changes the persons.
+     */
+    public PersonSuggester getPersonSuggester() {
+        if (personPrefixIndex == null) {
+            personPrefixIndex = new PersonPrefixIndex();
+            personPrefixIndex.setPersons(persons.asUnmodifiableObservableList());
+            persons.asUnmodifiableObservableList().addListener(this::updatePersonPrefixIndex);
+        }
+        return personPrefixIndex;
+    }
+
+    /**
+     * Updates the person prefix index with the persons removed and added in {@code change}.
+     */
+    private void updatePersonPrefixIndex(ListChangeListener.Change<? extends Person> change) {
+        forRemovedAndAdded(change, personPrefixIndex::update);
+    }
+
+    /**
+     * Returns the records of all persons that have any of {@code keywords} as a word in their conditions or
+     * medications, grouped by the NRIC of the person they belong to.
+     */
+    public Map<Nric, List<Record>> findRecords(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return getRecordSearchIndex().findAny(keywords);
+    }
+
+    /**
+     * Returns the words in the conditions and medications of the records of all persons that are within a few edits
+     * of any of {@code keywords}, in lower case.
+     */
+    public Set<String> findSimilarRecordWords(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return getRecordSearchIndex().findSimilarWords(keywords);
+    }
+
+    /**
+     * Returns the index of the words in the records of all persons.
+     * The index is only built when it is first needed, and from then on is updated with each change to the persons.
+     */
+    private RecordSearchIndex getRecordSearchIndex() {
+        if (recordSearchIndex == null) {
+            recordSearchIndex = new RecordSearchIndex();
+            recordSearchIndex.setPersons(persons.asUnmodifiableObservableList());
+            persons.asUnmodifiableObservableList().addListener(this::updateRecordSearchIndex);
+        }
+        return recordSearchIndex;
+    }
+
+    /**
+     * Updates the record search index with the records of the persons removed and added in {@code change}.
+     */
+    private void updateRecordSearchIndex(ListChangeListener.Change<? extends Person> change) {
+        forRemovedAndAdded(change, recordSearchIndex::update);
+    }
+
+    /**
+     * Returns the records of all persons made from {@code start} to {@code end}, both inclusive, grouped by the NRIC
+     * of the person they belong to.
+     */
+    public Map<Nric, List<Record>> getRecordsBetween(DateTime start, DateTime end) {
+        requireAllNonNull(start, end);
+        return getRecordDateIndex().getRecordsBetween(start, end);
+    }
+
+    /**
+     * Returns the records of the person with the given {@code nric} made from {@code start} to {@code end}, both
+     * inclusive, in chronological order.
+     */
+    public List<Record> getRecordsBetween(Nric nric, DateTime start, DateTime end) {
+        requireAllNonNull(nric, start, end);
+        return getRecordDateIndex().getRecordsBetween(nric, start, end);
     }
 
     /**
-     * Resets the appointment list to include all appointments from all persons.
+     * Returns the index of the records of all persons by date.
+     * The index is only built when it is first needed, and from then on is updated with each change to the persons.
      */
-    public void resetAppointmentList() {
-        UniqueAppointmentList newList = new UniqueAppointmentList();
-        for (Person person : persons) {
-            for (Appointment appointment : person.getAppointments()) {
-                newList.add(appointment);
+    private RecordDateIndex getRecordDateIndex() {
+        if (recordDateIndex == null) {
+            recordDateIndex = new RecordDateIndex();
+            recordDateIndex.setPersons(persons.asUnmodifiableObservableList());
+            persons.asUnmodifiableObservableList().addListener(this::updateRecordDateIndex);
+        }
+        return recordDateIndex;
+    }
+
+    /**
+     * Updates the record date index with the records of the persons removed and added in {@code change}.
+     */
+    private void updateRecordDateIndex(ListChangeListener.Change<? extends Person> change) {
+        forRemovedAndAdded(change, recordDateIndex::update);
+    }
+
+    /**
+     * Passes all the persons removed and all the persons added in {@code change} to {@code action}, in one call.
+     * Permutations and updates, which do not change which persons are in the list, are skipped, and so are persons
+     * both removed and added, such as the persons left as they were when a changeset is applied.
+     */
+    private static void forRemovedAndAdded(ListChangeListener.Change<? extends Person> change,
+            BiConsumer<List<Person>, List<Person>> action) {
+        List<Person> removedPersons = new ArrayList<>();
+        List<Person> addedPersons = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            removedPersons.addAll(change.getRemoved());
+            addedPersons.addAll(change.getAddedSubList());
+        }
+
+        Set<Person> added = Collections.newSetFromMap(new IdentityHashMap<>());
+        added.addAll(addedPersons);
+        Set<Person> unchangedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person removedPerson : removedPersons) {
+            if (added.contains(removedPerson)) {
+                unchangedPersons.add(removedPerson);
             }
         }
-        appointments.setAppointments(newList);
+        if (!unchangedPersons.isEmpty()) {
+            removedPersons.removeIf(unchangedPersons::contains);
+            addedPersons.removeIf(unchangedPersons::contains);
+        }
+        action.accept(removedPersons, addedPersons);
     }
 
     public ObservableList<Person> getPersonBeingViewed() {
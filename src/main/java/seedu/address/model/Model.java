@@ -1,6 +1,12 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -8,7 +14,12 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSuggester;
+import seedu.address.model.person.query.QueryNode;
+import seedu.address.model.person.query.QueryPlan;
 import seedu.address.model.record.Record;
+import seedu.address.model.shared.DateTime;
+import seedu.address.model.shared.Nric;
 
 /**
  * The API of the Model component.
@@ -59,12 +70,23 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a counter that increases whenever the address book data is changed.
+     * It can be compared with an earlier value to tell whether the data has to be saved again.
+     */
+    long getModificationCount();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in
      * the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the person in the address book with the given {@code nric}, if there is one.
+     */
+    Optional<Person> findPersonByNric(Nric nric);
+
     /**
      * Returns true if the same record exists under the patient in the Medbook
      */
@@ -90,7 +112,7 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
-    /** Returns an unmodifiable view of the filtered person list */
+    /** Returns an unmodifiable view of the filtered person list, in the order the persons are shown in */
     ObservableList<Person> getFilteredPersonList();
 
     /**
@@ -102,13 +124,121 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and shows the persons
+     * in the order given by {@code comparator} instead of the order they were added in.
+     * The order is kept until the filter is updated again.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
+
+    /**
+     * Updates the filter of the filtered person list to the persons with any of {@code keywords} as a word in their
+     * name, NRIC, phone, allergies, gender, blood type, age or email, ignoring case.
+     * Gives the same persons as filtering by {@code NameContainsKeywordsPredicate}, but looks the keywords up in an
+     * index instead of checking the details of every person.
+     * The persons found for a recent search with the same keywords are reused if no person has changed since.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void updateFilteredPersonListByKeywords(List<String> keywords);
+
+    /**
+     * Returns how often the persons found by {@link #updateFilteredPersonListByKeywords(List)} have been reused.
+     */
+    SearchResultCache.Statistics getPersonSearchCacheStatistics();
+
+    /**
+     * Updates the filter of the filtered person list as {@link #updateFilteredPersonListByKeywords(List)} does, but
+     * tests the persons in parallel, in the background, and shows the persons found in a single update once they are
+     * handed back, so that the calling thread is not held up by the search.
+     * The search is cancelled if the filter is updated again before the persons found are shown.
+     * Getting the filtered person list before then waits for the search and shows the persons found first, so that the
+     * commands run after this one, such as those given an index, see them.
+     *
+     * @return The number of persons shown, once they are shown. It is already complete if the persons found for the
+     *     keywords were reused, and never completes if the search is cancelled.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    CompletableFuture<Integer> updateFilteredPersonListByKeywordsInBackground(List<String> keywords);
+
+    /**
+     * Returns the NRICs of at most {@code limit} persons that have a word in their details within a few edits of any
+     * of {@code keywords}, ignoring case, best match first.
+     * Persons that match more of the keywords come first, and among those, persons whose words are closer to the
+     * keywords.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    List<Nric> findPersonsFuzzy(List<String> keywords, int limit);
+
+    /**
+     * Returns the NRICs of at most {@code limit} persons that have any of {@code keywords} as a word in their details,
+     * ignoring case, most relevant first, as scored with the relevance weights in the user prefs.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    List<Nric> findPersonsRanked(List<String> keywords, int limit);
+
+    /**
+     * Returns a plan that finds the persons matched by {@code query}, visiting the details of as few persons as
+     * possible. The persons it finds can be shown with {@link #updateFilteredPersonList(Predicate)}.
+     * The plan must be executed before the address book changes.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    QueryPlan planPersonQuery(QueryNode query);
+
+    /**
+     * Returns a suggester of persons by the start of a word of their name or their NRIC, which is kept up to date as
+     * persons change.
+     * The suggester may be used from any thread, but this method must be called from the thread that changes the
+     * model.
+     */
+    PersonSuggester getPersonSuggester();
+
+    /**
+     * Returns the records of all persons that have any of {@code keywords} as a word in their conditions or
+     * medications, ignoring case, grouped by the NRIC of the person they belong to.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    Map<Nric, List<Record>> findRecords(List<String> keywords);
+
+    /**
+     * Returns the words in the conditions and medications of the records of all persons that are within a few edits
+     * of any of {@code keywords}, in lower case.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    Set<String> findSimilarRecordWords(List<String> keywords);
+
     /** Returns an unmodifiable view of the pinned person list */
     ObservableList<Person> getPinnedPersonList();
 
-    /** Returns an unmodifiable view of the filtered appointment list */
+    /** Returns an unmodifiable view of the appointments of all persons, in chronological order */
     ObservableList<Appointment> getAppointmentList();
 
-    void resetAppointmentList();
+    /**
+     * Returns the appointments of all persons that take place from {@code start} to {@code end}, both inclusive,
+     * in chronological order.
+     */
+    List<Appointment> getAppointmentsBetween(DateTime start, DateTime end);
+
+    /** Returns an unmodifiable view of the filtered appointment list, in chronological order */
+    ObservableList<Appointment> getFilteredAppointmentList();
+
+    /**
+     * Updates the filter of the filtered appointment list to filter by the given {@code predicate}.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredAppointmentList(Predicate<Appointment> predicate);
+
+    /**
+     * Returns the records of all persons made from {@code start} to {@code end}, both inclusive, grouped by the NRIC
+     * of the person they belong to.
+     */
+    Map<Nric, List<Record>> getRecordsBetween(DateTime start, DateTime end);
+
+    /**
+     * Returns the records of the person with the given {@code nric} made from {@code start} to {@code end}, both
+     * inclusive, in chronological order.
+     */
+    List<Record> getRecordsBetween(Nric nric, DateTime start, DateTime end);
 
     ObservableList<Record> getRecordList();
 
@@ -126,6 +256,78 @@ public interface Model {
      */
     void updateFilteredRecordList(Predicate<Record> predicate);
 
+    /**
+     * Updates the filter of the filtered record list to the records with any of {@code keywords} as a word in their
+     * date, conditions or medications, ignoring case, as {@code RecordContainsKeywordsPredicate} does.
+     * The records found for a recent search with the same keywords are reused if the record list has not changed
+     * since.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void updateFilteredRecordListByKeywords(List<String> keywords);
+
+    /**
+     * Returns how often the records found by {@link #updateFilteredRecordListByKeywords(List)} have been reused.
+     */
+    SearchResultCache.Statistics getRecordSearchCacheStatistics();
+
+    /**
+     * Updates the filter of the filtered record list as {@link #updateFilteredRecordListByKeywords(List)} does, but
+     * tests the records in parallel, in the background, and shows the records found in a single update once they are
+     * handed back, so that the calling thread is not held up by the search.
+     * The search is cancelled if the filter is updated again before the records found are shown.
+     * Getting the filtered record list before then waits for the search and shows the records found first, so that the
+     * commands run after this one, such as those given an index, see them.
+     *
+     * @return The number of records shown, once they are shown. It is already complete if the records found for the
+     *     keywords were reused, and never completes if the search is cancelled.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    CompletableFuture<Integer> updateFilteredRecordListByKeywordsInBackground(List<String> keywords);
+
     ObservableList<Person> getPersonBeingViewed();
 
+    /**
+     * Stops refreshing the filtered person, record and appointment lists each time their filters are updated, until
+     * {@link #resumeListUpdates()} is called, so that running many commands in a row does not refresh the lists shown
+     * after each of them. A filtered list that is got while updates are suspended is refreshed first, so commands
+     * still see the lists as they would otherwise be. Changes to the persons and records themselves are not deferred.
+     */
+    void suspendListUpdates();
+
+    /**
+     * Refreshes each filtered list whose filter was updated since {@link #suspendListUpdates()} was called, once, with
+     * its last filter, and refreshes the lists each time their filters are updated again.
+     */
+    void resumeListUpdates();
+
+    /**
+     * Starts a transaction. Until it is committed or rolled back, the persons added, edited and deleted are kept
+     * aside instead of changing the address book, so the persons shown and the data saved stay as they were.
+     * Looking persons, records and appointments up, and the filtered person and appointment lists got by commands,
+     * include the changes made so far.
+     *
+     * @throws IllegalStateException if a transaction is already in progress.
+     */
+    void beginTransaction();
+
+    /**
+     * Makes all the changes to the persons kept aside since the transaction began to the address book at once, and
+     * ends the transaction.
+     *
+     * @throws IllegalStateException if there is no transaction in progress.
+     */
+    void commitTransaction();
+
+    /**
+     * Discards all the changes to the persons kept aside since the transaction began, and ends the transaction.
+     *
+     * @throws IllegalStateException if there is no transaction in progress.
+     */
+    void rollbackTransaction();
+
+    /**
+     * Returns true if a transaction is in progress.
+     */
+    boolean isInTransaction();
+
 }
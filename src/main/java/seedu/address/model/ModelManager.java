@@ -4,55 +4,108 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.IndexedKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChangeset;
+import seedu.address.model.person.PersonSuggester;
+import seedu.address.model.person.query.QueryNode;
+import seedu.address.model.person.query.QueryPlan;
 import seedu.address.model.record.Record;
+import seedu.address.model.record.RecordContainsKeywordsPredicate;
+import seedu.address.model.shared.DateTime;
+import seedu.address.model.shared.Nric;
 
 /**
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
+    /** The number of most recent searches whose results are kept, for each of persons and records. */
+    public static final int SEARCH_CACHE_CAPACITY = 32;
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
-    private static ModelManager instance;
     private final AddressBook addressBook;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
     private final FilteredList<Record> filteredRecords;
+    private FilteredList<Appointment> filteredAppointments;
     private final UserPrefs userPrefs;
+    private final SearchResultCache<NameContainsKeywordsPredicate, IndexedKeywordsPredicate> personSearchCache =
+            new SearchResultCache<>(SEARCH_CACHE_CAPACITY);
+    private final SearchResultCache<RecordContainsKeywordsPredicate, Set<Record>> recordSearchCache =
+            new SearchResultCache<>(SEARCH_CACHE_CAPACITY);
+    private long recordListVersion = 0;
+    private final SearchExecutor personSearchExecutor;
+    private final SearchExecutor recordSearchExecutor;
+    private final boolean isSearchingInBackground;
+    private boolean isListUpdateSuspended = false;
+    private final Map<ObservableList<?>, Runnable> pendingListUpdates = new IdentityHashMap<>();
+    private PersonChangeset transaction;
+    private AddressBook transactionView; // The persons with the changes of the transaction, built when first needed
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Searches that would be done in the background are done on the calling thread, and their results shown before
+     * they return.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+        this(addressBook, userPrefs, Runnable::run, false);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, which shows the results of searches in the
+     * background through {@code searchPublisher}, such as {@code Platform::runLater} to show them on the JavaFX
+     * application thread. The publisher must run them on the thread that changes the model.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, Executor searchPublisher) {
+        this(addressBook, userPrefs, searchPublisher, true);
+    }
+
+    private ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, Executor searchPublisher,
+            boolean isSearchingInBackground) {
+        requireAllNonNull(addressBook, userPrefs, searchPublisher);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
         filteredRecords = new FilteredList<>(this.addressBook.getRecordList());
-        instance = this;
+        personSearchExecutor = new SearchExecutor(ForkJoinPool.commonPool(), searchPublisher);
+        recordSearchExecutor = new SearchExecutor(ForkJoinPool.commonPool(), searchPublisher);
+        this.isSearchingInBackground = isSearchingInBackground;
     }
 
     public ModelManager() {
         this(new AddressBook(), new UserPrefs());
     }
 
-    public static Model getInstance() {
-        if (instance == null) {
-            instance = new ModelManager(/* necessary initializations */);
-        }
-        return instance;
-    }
-
     // =========== UserPrefs
     // ==================================================================================
 
@@ -102,32 +155,64 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
+        if (isInTransaction()) {
+            return transaction.contains(person);
+        }
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public Optional<Person> findPersonByNric(Nric nric) {
+        requireNonNull(nric);
+        if (isInTransaction()) {
+            return transaction.findByNric(nric);
+        }
+        return addressBook.findPersonByNric(nric);
+    }
+
     @Override
     public boolean hasRecord(Record record, Index index) {
         requireAllNonNull(record, index);
-        return addressBook.hasRecord(record, index);
+        return getReadView().hasRecord(record, index);
     }
 
     @Override
     public void deletePerson(Person target) {
+        if (isInTransaction()) {
+            transaction.remove(target);
+            transactionView = null;
+            return;
+        }
         addressBook.removePerson(target);
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
+        if (isInTransaction()) {
+            transaction.add(person);
+            transactionView = null;
+        } else {
+            addressBook.addPerson(person);
+        }
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
+        if (isInTransaction()) {
+            transaction.setPerson(target, editedPerson);
+            transactionView = null;
+            return;
+        }
         addressBook.setPerson(target, editedPerson);
     }
 
@@ -137,17 +222,129 @@ public class ModelManager implements Model {
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the
      * internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, in the order given by the last ranked search, if any.
+     * During a transaction, returns a copy of that list with the changes made so far instead, followed by the persons
+     * added, so that the list shown only changes once they are committed.
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        // A command that reads the list, such as by index, must see the result of a search made before it
+        personSearchExecutor.finishPending();
+        applyPendingUpdate(sortedPersons);
+        if (isInTransaction()) {
+            return FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(transaction.applyTo(sortedPersons)));
+        }
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        personSearchExecutor.cancel();
+        showPersons(predicate, null);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+        requireAllNonNull(predicate, comparator);
+        personSearchExecutor.cancel();
+        showPersons(predicate, comparator);
+    }
+
+    /**
+     * Shows the persons matching {@code predicate}, in the order given by {@code comparator}, or in the order they
+     * were added in if it is null.
+     */
+    private void showPersons(Predicate<Person> predicate, Comparator<Person> comparator) {
+        updateList(sortedPersons, () -> {
+            // Cleared first, so that persons outside the last ranking are never compared by its comparator
+            if (comparator == null && sortedPersons.getComparator() != null) {
+                sortedPersons.setComparator(null);
+            }
+            filteredPersons.setPredicate(predicate);
+            if (comparator != null) {
+                sortedPersons.setComparator(comparator);
+            }
+        });
+    }
+
+    @Override
+    public void updateFilteredPersonListByKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        // The predicate keeps the persons it found, and looks them up again only once the persons have changed
+        personSearchExecutor.cancel();
+        showPersons(getKeywordsPredicate(keywords), null);
+    }
+
+    @Override
+    public CompletableFuture<Integer> updateFilteredPersonListByKeywordsInBackground(List<String> keywords) {
+        requireNonNull(keywords);
+        IndexedKeywordsPredicate predicate = getKeywordsPredicate(keywords);
+        if (!isSearchingInBackground) {
+            personSearchExecutor.cancel();
+            showPersons(predicate, null);
+            return CompletableFuture.completedFuture(getFilteredPersonList().size());
+        }
+
+        // Only the snapshot is tested on the threads of the search, as the index must not be read there
+        CompletableFuture<Integer> shownCount = new CompletableFuture<>();
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        personSearchExecutor.submit(persons, predicate.snapshot(), predicate, found -> {
+            showPersons(found, null);
+            shownCount.complete(getFilteredPersonList().size());
+        });
+        return shownCount;
+    }
+
+    /**
+     * Returns the predicate for persons with any of {@code keywords} as a word in their details, reusing the one from
+     * a recent search with the same keywords, which keeps the persons it found, if no person has changed since.
+     */
+    private IndexedKeywordsPredicate getKeywordsPredicate(List<String> keywords) {
+        NameContainsKeywordsPredicate search = new NameContainsKeywordsPredicate(normalizeKeywords(keywords));
+        return personSearchCache.computeIfAbsent(search, addressBook.getModificationCount(),
+                unused -> addressBook.getKeywordsPredicate(search.getKeywords()));
+    }
+
+    @Override
+    public SearchResultCache.Statistics getPersonSearchCacheStatistics() {
+        return personSearchCache.getStatistics();
+    }
+
+    @Override
+    public List<Nric> findPersonsFuzzy(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        return addressBook.findPersonsFuzzy(keywords, limit);
+    }
+
+    @Override
+    public List<Nric> findPersonsRanked(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        return addressBook.findPersonsRanked(keywords, userPrefs.getRelevanceWeights(), limit);
+    }
+
+    @Override
+    public QueryPlan planPersonQuery(QueryNode query) {
+        requireNonNull(query);
+        return addressBook.planPersonQuery(query);
+    }
+
+    @Override
+    public PersonSuggester getPersonSuggester() {
+        return addressBook.getPersonSuggester();
+    }
+
+    @Override
+    public Map<Nric, List<Record>> findRecords(List<String> keywords) {
+        requireNonNull(keywords);
+        return getReadView().findRecords(keywords);
+    }
+
+    @Override
+    public Set<String> findSimilarRecordWords(List<String> keywords) {
+        requireNonNull(keywords);
+        return getReadView().findSimilarRecordWords(keywords);
     }
 
     @Override
@@ -168,8 +365,47 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void resetAppointmentList() {
-        this.addressBook.resetAppointmentList();
+    public List<Appointment> getAppointmentsBetween(DateTime start, DateTime end) {
+        requireAllNonNull(start, end);
+        return getReadView().getAppointmentsBetween(start, end);
+    }
+
+    @Override
+    public ObservableList<Appointment> getFilteredAppointmentList() {
+        // Created when first needed, so that the appointments are only put in order if they are shown
+        if (filteredAppointments == null) {
+            filteredAppointments = new FilteredList<>(addressBook.getAppointmentList());
+        }
+        applyPendingUpdate(filteredAppointments);
+        if (isInTransaction()) {
+            // As with the persons, commands see the appointments with the changes made so far
+            List<Appointment> appointments = new ArrayList<>(getReadView().getAppointmentList());
+            Predicate<? super Appointment> predicate = filteredAppointments.getPredicate();
+            if (predicate != null) {
+                appointments.removeIf(appointment -> !predicate.test(appointment));
+            }
+            return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(appointments));
+        }
+        return filteredAppointments;
+    }
+
+    @Override
+    public void updateFilteredAppointmentList(Predicate<Appointment> predicate) {
+        requireNonNull(predicate);
+        getFilteredAppointmentList();
+        updateList(filteredAppointments, () -> filteredAppointments.setPredicate(predicate));
+    }
+
+    @Override
+    public Map<Nric, List<Record>> getRecordsBetween(DateTime start, DateTime end) {
+        requireAllNonNull(start, end);
+        return getReadView().getRecordsBetween(start, end);
+    }
+
+    @Override
+    public List<Record> getRecordsBetween(Nric nric, DateTime start, DateTime end) {
+        requireAllNonNull(nric, start, end);
+        return getReadView().getRecordsBetween(nric, start, end);
     }
 
     @Override
@@ -179,6 +415,8 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Record> getFilteredRecordList() {
+        recordSearchExecutor.finishPending();
+        applyPendingUpdate(filteredRecords);
         return filteredRecords;
     }
 
@@ -186,13 +424,96 @@ public class ModelManager implements Model {
     public void updateRecordList(Person person) {
         requireNonNull(person);
         this.addressBook.setRecords(person);
+        recordListVersion++;
         updateFilteredRecordList(PREDICATE_SHOW_ALL_RECORDS);
     }
 
     @Override
     public void updateFilteredRecordList(Predicate<Record> predicate) {
         requireNonNull(predicate);
-        filteredRecords.setPredicate(predicate);
+        recordSearchExecutor.cancel();
+        updateList(filteredRecords, () -> filteredRecords.setPredicate(predicate));
+    }
+
+    @Override
+    public void updateFilteredRecordListByKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        RecordContainsKeywordsPredicate search = new RecordContainsKeywordsPredicate(normalizeKeywords(keywords));
+        Set<Record> matches = recordSearchCache.computeIfAbsent(search, recordListVersion, this::findRecordsInList);
+        recordSearchExecutor.cancel();
+        showRecords(matches);
+    }
+
+    /**
+     * Shows the records in {@code matches}, which are compared by identity.
+     */
+    private void showRecords(Set<Record> matches) {
+        updateList(filteredRecords, () -> filteredRecords.setPredicate(matches::contains));
+    }
+
+    @Override
+    public CompletableFuture<Integer> updateFilteredRecordListByKeywordsInBackground(List<String> keywords) {
+        requireNonNull(keywords);
+        RecordContainsKeywordsPredicate search = new RecordContainsKeywordsPredicate(normalizeKeywords(keywords));
+        Set<Record> cached = recordSearchCache.get(search, recordListVersion);
+        if (cached == null && !isSearchingInBackground) {
+            cached = findRecordsInList(search);
+            recordSearchCache.put(search, recordListVersion, cached);
+        }
+        if (cached != null) {
+            recordSearchExecutor.cancel();
+            showRecords(cached);
+            return CompletableFuture.completedFuture(getFilteredRecordList().size());
+        }
+
+        CompletableFuture<Integer> shownCount = new CompletableFuture<>();
+        List<Record> records = new ArrayList<>(addressBook.getRecordList());
+        long version = recordListVersion;
+        recordSearchExecutor.submitForPositions(records, search, positions -> {
+            Set<Record> matches = toRecordSet(records, positions);
+            // Changing the record list cancels the search, so the records found are still those of this version
+            recordSearchCache.put(search, version, matches);
+            showRecords(matches);
+            shownCount.complete(getFilteredRecordList().size());
+        });
+        return shownCount;
+    }
+
+    @Override
+    public SearchResultCache.Statistics getRecordSearchCacheStatistics() {
+        return recordSearchCache.getStatistics();
+    }
+
+    /**
+     * Returns the records in the record list that match {@code predicate}.
+     * The records are compared by identity, as the list cannot change without a new version being cached.
+     */
+    private Set<Record> findRecordsInList(Predicate<Record> predicate) {
+        List<Record> records = addressBook.getRecordList();
+        return toRecordSet(records, recordSearchExecutor.evaluate(records, predicate));
+    }
+
+    /**
+     * Returns the records of {@code records} at {@code positions}, compared by identity.
+     */
+    private static Set<Record> toRecordSet(List<Record> records, BitSet positions) {
+        Set<Record> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+            matches.add(records.get(i));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns {@code keywords} trimmed, in lower case, without duplicates and sorted, so that searches that can only
+     * give the same results share a cached result.
+     */
+    private static List<String> normalizeKeywords(List<String> keywords) {
+        Set<String> normalized = new TreeSet<>();
+        for (String keyword : keywords) {
+            normalized.add(keyword.trim().toLowerCase(Locale.ROOT));
+        }
+        return new ArrayList<>(normalized);
     }
 
     @Override
@@ -200,6 +521,103 @@ public class ModelManager implements Model {
         return this.addressBook.getPersonBeingViewed();
     }
 
+    // =========== List Updates
+    // ===============================================================================
+
+    @Override
+    public void suspendListUpdates() {
+        isListUpdateSuspended = true;
+    }
+
+    @Override
+    public void resumeListUpdates() {
+        isListUpdateSuspended = false;
+        List<Runnable> updates = new ArrayList<>(pendingListUpdates.values());
+        pendingListUpdates.clear();
+        updates.forEach(Runnable::run);
+    }
+
+    /**
+     * Refreshes {@code list} with {@code update} now, or, if list updates are suspended, when the list is next got or
+     * list updates are resumed, replacing any earlier update of the list not applied yet.
+     */
+    private void updateList(ObservableList<?> list, Runnable update) {
+        if (isListUpdateSuspended) {
+            pendingListUpdates.put(list, update);
+        } else {
+            update.run();
+        }
+    }
+
+    /**
+     * Applies the update of {@code list} that is waiting for list updates to be resumed, if any.
+     */
+    private void applyPendingUpdate(ObservableList<?> list) {
+        Runnable update = pendingListUpdates.remove(list);
+        if (update != null) {
+            update.run();
+        }
+    }
+
+    // =========== Transactions
+    // ===============================================================================
+
+    /**
+     * Returns the address book to look records and appointments up in: the address book itself, or during a
+     * transaction, a copy of its persons with the changes made so far, which is only made again once they change.
+     */
+    private AddressBook getReadView() {
+        if (!isInTransaction()) {
+            return addressBook;
+        }
+        if (transactionView == null) {
+            transactionView = new AddressBook();
+            transactionView.setPersons(transaction.applyTo(addressBook.getPersonList()));
+        }
+        return transactionView;
+    }
+
+    @Override
+    public void beginTransaction() {
+        if (isInTransaction()) {
+            throw new IllegalStateException("A transaction is already in progress");
+        }
+        transaction = addressBook.createChangeset();
+    }
+
+    @Override
+    public void commitTransaction() {
+        if (!isInTransaction()) {
+            throw new IllegalStateException("There is no transaction in progress");
+        }
+        addressBook.applyChangeset(transaction);
+        transaction = null;
+        transactionView = null;
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        if (!isInTransaction()) {
+            throw new IllegalStateException("There is no transaction in progress");
+        }
+        transaction = null;
+        transactionView = null;
+
+        // The records shown may be those of a person as they were changed in the transaction
+        List<Person> personBeingViewed = addressBook.getPersonBeingViewed();
+        if (!personBeingViewed.isEmpty()) {
+            Person viewed = personBeingViewed.get(0);
+            addressBook.findPersonByNric(viewed.getNric())
+                    .filter(person -> !person.equals(viewed))
+                    .ifPresent(this::updateRecordList);
+        }
+    }
+
+    @Override
+    public boolean isInTransaction() {
+        return transaction != null;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -214,7 +632,31 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
-                && filteredRecords.equals(otherModelManager.filteredRecords);
+                && getFilteredPersonList().equals(otherModelManager.getFilteredPersonList())
+                && getFilteredRecordList().equals(otherModelManager.getFilteredRecordList())
+                && getShownAppointments().equals(otherModelManager.getShownAppointments());
+    }
+
+    /**
+     * Returns the appointments shown, in the order of the persons they belong to.
+     * They are found from the persons rather than the filtered list of appointments, so that comparing models does
+     * not create that list, or the appointment index it is kept in order by, if it was never needed.
+     */
+    private List<Appointment> getShownAppointments() {
+        Predicate<? super Appointment> predicate = null;
+        if (filteredAppointments != null) {
+            applyPendingUpdate(filteredAppointments);
+            predicate = filteredAppointments.getPredicate();
+        }
+
+        List<Appointment> shown = new ArrayList<>();
+        for (Person person : getReadView().getPersonList()) {
+            for (Appointment appointment : person.getAppointments().asUnmodifiableList()) {
+                if (predicate == null || predicate.test(appointment)) {
+                    shown.add(appointment);
+                }
+            }
+        }
+        return shown;
     }
 }
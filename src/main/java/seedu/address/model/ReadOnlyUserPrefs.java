@@ -3,6 +3,8 @@ package seedu.address.model;
 import java.nio.file.Path;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.model.person.RelevanceWeights;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +15,13 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    StorageSettings getStorageSettings();
+
+    RelevanceWeights getRelevanceWeights();
+
+    /**
+     * Returns true if commands should run on a background thread instead of the JavaFX application thread.
+     */
+    boolean isAsyncCommandExecution();
+
 }
@@ -0,0 +1,244 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Tests the items of a list against a predicate in parallel, by splitting the list into chunks that are tested on the
+ * threads of a {@code ForkJoinPool}, and gives the positions of the matching items as a {@code BitSet}.
+ * A search can be run in the background, in which case its result is handed over through a publisher, such as the
+ * JavaFX application thread, so that it can be shown in a single update. Starting a new background search cancels the
+ * one before it. A background search can also be finished early on the publisher's thread, for when its result is
+ * needed before the publisher gets to it.
+ */
+public class SearchExecutor {
+
+    /**
+     * The most items tested by one task; larger ranges of items are split between tasks.
+     * Ranges are split at multiples of 64, so that no two tasks set bits in the same word of the result.
+     */
+    public static final int CHUNK_SIZE = 4096;
+
+    private final ForkJoinPool pool;
+    private final Executor publisher;
+    private Search pendingSearch;
+
+    /**
+     * Creates a {@code SearchExecutor} that tests items on the threads of {@code pool}, and hands the results of
+     * background searches over through {@code publisher}.
+     */
+    public SearchExecutor(ForkJoinPool pool, Executor publisher) {
+        requireAllNonNull(pool, publisher);
+        this.pool = pool;
+        this.publisher = publisher;
+    }
+
+    /**
+     * Returns the positions of the items of {@code items} that match {@code predicate}, waiting for them to be found.
+     * {@code items} must not change while this method runs.
+     */
+    public <T> BitSet evaluate(List<T> items, Predicate<? super T> predicate) {
+        requireAllNonNull(items, predicate);
+        long[] matches = new long[getWordCount(items)];
+        pool.invoke(new Chunk<>(items, 0, items.size(), predicate, new Search(), matches));
+        return BitSet.valueOf(matches);
+    }
+
+    /**
+     * Finds the positions of the items of {@code items} that match {@code predicate} in the background, then passes a
+     * predicate with the results found to {@code onMatched} through the publisher, unless the search was cancelled by
+     * then. The predicate passed looks up the result for each item of {@code items} instead of testing it again, and
+     * tests any other item with {@code predicate}, so it can be used to filter a list in a single quick update.
+     * Any background search still running is cancelled first.
+     * {@code items} must not change until the search is done, so it should usually be a copy.
+     */
+    public <T> Search submit(List<T> items, Predicate<? super T> predicate, Consumer<? super Predicate<T>> onMatched) {
+        return submit(items, predicate, predicate, onMatched);
+    }
+
+    /**
+     * Searches as above, but tests the items of {@code items} with {@code searchPredicate}, which must be safe to test
+     * on other threads, and leaves any other item to be tested with {@code predicate} by the predicate passed to
+     * {@code onMatched}. This lets a predicate that reads data only safe to read on the publisher's thread be
+     * searched with a copy of what it would read, taken before the search starts.
+     */
+    public <T> Search submit(List<T> items, Predicate<? super T> searchPredicate, Predicate<? super T> predicate,
+            Consumer<? super Predicate<T>> onMatched) {
+        requireAllNonNull(items, searchPredicate, predicate, onMatched);
+        return submitForPositions(items, searchPredicate,
+                matches -> onMatched.accept(toPredicate(items, matches, predicate)));
+    }
+
+    /**
+     * Finds the positions of the items of {@code items} that match {@code predicate} in the background, as
+     * {@link #submit(List, Predicate, Consumer)} does, and passes them to {@code onFound} through the publisher,
+     * unless the search was cancelled by then.
+     */
+    public synchronized <T> Search submitForPositions(List<T> items, Predicate<? super T> predicate,
+            Consumer<BitSet> onFound) {
+        requireAllNonNull(items, predicate, onFound);
+        cancel();
+
+        Search search = new Search();
+        search.onFound = onFound;
+        search.result = CompletableFuture.supplyAsync(() -> {
+            long[] matches = new long[getWordCount(items)];
+            new Chunk<>(items, 0, items.size(), predicate, search, matches).invoke();
+            return BitSet.valueOf(matches);
+        }, pool);
+        search.result.thenAccept(matches -> publisher.execute(() -> passOn(search, matches)));
+        pendingSearch = search;
+        return search;
+    }
+
+    /**
+     * Waits for the last background search to be done, if it has not been passed on or cancelled yet, and passes its
+     * result on now rather than through the publisher. Must be called on the publisher's thread.
+     */
+    public void finishPending() {
+        Search search;
+        synchronized (this) {
+            search = pendingSearch;
+        }
+        if (search == null) {
+            return;
+        }
+
+        BitSet matches;
+        try {
+            matches = search.join();
+        } catch (CancellationException e) {
+            return;
+        }
+        passOn(search, matches);
+    }
+
+    /**
+     * Passes {@code matches} on to whoever waits for the result of {@code search}, unless it was cancelled or passed on
+     * already, which may have happened while it was waiting to be published.
+     */
+    private void passOn(Search search, BitSet matches) {
+        Consumer<BitSet> onFound;
+        synchronized (this) {
+            onFound = search.isCancelled() ? null : search.onFound;
+            search.onFound = null;
+            if (pendingSearch == search) {
+                pendingSearch = null;
+            }
+        }
+        if (onFound != null) {
+            onFound.accept(matches);
+        }
+    }
+
+    /**
+     * Cancels the last background search, if it has not been published yet.
+     */
+    public synchronized void cancel() {
+        if (pendingSearch != null) {
+            pendingSearch.cancel();
+            pendingSearch = null;
+        }
+    }
+
+    private static int getWordCount(List<?> items) {
+        return (items.size() + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    /**
+     * Returns a predicate that gives the result in {@code matches} for each item of {@code items}, found by identity,
+     * and tests any other item with {@code predicate}.
+     */
+    private static <T> Predicate<T> toPredicate(List<T> items, BitSet matches, Predicate<? super T> predicate) {
+        Map<T, Boolean> results = new IdentityHashMap<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            results.put(items.get(i), matches.get(i));
+        }
+        return item -> {
+            Boolean result = results.get(item);
+            return result != null ? result : predicate.test(item);
+        };
+    }
+
+    /**
+     * A search that may still be running in the background.
+     */
+    public static class Search {
+        private volatile boolean isCancelled = false;
+        private CompletableFuture<BitSet> result = new CompletableFuture<>();
+        private Consumer<BitSet> onFound; // Only used while holding the lock of the executor
+
+        /**
+         * Stops the search as soon as possible. Its result will not be published.
+         */
+        public void cancel() {
+            isCancelled = true;
+            result.cancel(false);
+        }
+
+        public boolean isCancelled() {
+            return isCancelled;
+        }
+
+        /**
+         * Returns the positions of the matching items, waiting for them to be found.
+         * @throws java.util.concurrent.CancellationException if the search was cancelled.
+         */
+        public BitSet join() {
+            return result.join();
+        }
+    }
+
+    /**
+     * Sets the bits of the matching items among the items from {@code from}, inclusive, to {@code to}, exclusive, by
+     * testing them itself if there are few enough, or by splitting them in two and testing each part in parallel
+     * otherwise. {@code from} must be a multiple of 64.
+     */
+    private static class Chunk<T> extends RecursiveAction {
+        private final List<T> items;
+        private final int from;
+        private final int to;
+        private final Predicate<? super T> predicate;
+        private final Search search;
+        private final long[] matches;
+
+        Chunk(List<T> items, int from, int to, Predicate<? super T> predicate, Search search, long[] matches) {
+            this.items = items;
+            this.from = from;
+            this.to = to;
+            this.predicate = predicate;
+            this.search = search;
+            this.matches = matches;
+        }
+
+        @Override
+        protected void compute() {
+            if (search.isCancelled()) {
+                return;
+            }
+            if (to - from <= CHUNK_SIZE) {
+                for (int i = from; i < to; i++) {
+                    if (predicate.test(items.get(i))) {
+                        matches[i / Long.SIZE] |= 1L << i;
+                    }
+                }
+                return;
+            }
+
+            int middle = from + ((to - from) / 2 / Long.SIZE * Long.SIZE);
+            invokeAll(new Chunk<>(items, from, middle, predicate, search, matches),
+                    new Chunk<>(items, middle, to, predicate, search, matches));
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Caches the results of the most recently used searches, keyed by what was searched for.
+ * Each result is stored with the version of the data it was computed from, and is only reused while the data is still
+ * at that version, so that a change to the data never gives a stale result.
+ * When the cache is full, the result that was used least recently is evicted to make room for a new one.
+ *
+ * @param <K> the type of what is searched for, which must implement {@code equals} and {@code hashCode}
+ * @param <V> the type of the results
+ */
+public class SearchResultCache<K, V> {
+
+    public static final String MESSAGE_CONSTRAINTS = "Capacity of a search result cache should be positive";
+
+    private final int capacity;
+    private final Map<K, CachedResult<V>> results;
+    private long hitCount = 0;
+    private long missCount = 0;
+    private long evictionCount = 0;
+
+    /**
+     * Creates an empty cache that holds the results of at most {@code capacity} searches.
+     */
+    public SearchResultCache(int capacity) {
+        checkArgument(capacity > 0, MESSAGE_CONSTRAINTS);
+        this.capacity = capacity;
+        // Ordered by access, so that the first entry is always the least recently used one
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CachedResult<V>> eldest) {
+                if (size() <= SearchResultCache.this.capacity) {
+                    return false;
+                }
+                evictionCount++;
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns the result of searching for {@code key} in the data at {@code version}.
+     * The cached result is returned if there is one for that version, otherwise the result is computed with
+     * {@code search} and cached in place of any result for an older version.
+     */
+    public V computeIfAbsent(K key, long version, Function<? super K, ? extends V> search) {
+        requireAllNonNull(key, search);
+        V cached = get(key, version);
+        if (cached != null) {
+            return cached;
+        }
+
+        V value = search.apply(key);
+        put(key, version, value);
+        return value;
+    }
+
+    /**
+     * Returns the result of searching for {@code key} in the data at {@code version} if it is cached, or null if it
+     * is not, in which case it should be searched for and then given to {@link #put(Object, long, Object)}.
+     * Each call counts as a hit or a miss, whether or not the result is put in the cache afterwards.
+     */
+    public V get(K key, long version) {
+        requireAllNonNull(key);
+        CachedResult<V> cached = results.get(key);
+        if (cached != null && cached.version == version) {
+            hitCount++;
+            return cached.value;
+        }
+        missCount++;
+        return null;
+    }
+
+    /**
+     * Caches {@code value} as the result of searching for {@code key} in the data at {@code version}, in place of any
+     * result for an older version.
+     */
+    public void put(K key, long version, V value) {
+        requireAllNonNull(key, value);
+        results.put(key, new CachedResult<>(version, value));
+    }
+
+    /**
+     * Returns the number of results cached.
+     */
+    public int size() {
+        return results.size();
+    }
+
+    /**
+     * Returns how often this cache has been used so far.
+     */
+    public Statistics getStatistics() {
+        return new Statistics(hitCount, missCount, evictionCount, results.size(), capacity);
+    }
+
+    /**
+     * A result and the version of the data it was computed from.
+     */
+    private static class CachedResult<V> {
+        private final long version;
+        private final V value;
+
+        CachedResult(long version, V value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+
+    /**
+     * The numbers of hits, misses and evictions of a {@code SearchResultCache}, and how full it is, at one point in
+     * time. A search that finds a result cached for an older version of the data counts as a miss.
+     */
+    public static class Statistics {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final int size;
+        private final int capacity;
+
+        /**
+         * Every field must be non-negative.
+         */
+        public Statistics(long hitCount, long missCount, long evictionCount, int size, int capacity) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.size = size;
+            this.capacity = capacity;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Statistics)) {
+                return false;
+            }
+
+            Statistics otherStatistics = (Statistics) other;
+            return hitCount == otherStatistics.hitCount
+                    && missCount == otherStatistics.missCount
+                    && evictionCount == otherStatistics.evictionCount
+                    && size == otherStatistics.size
+                    && capacity == otherStatistics.capacity;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(hitCount, missCount, evictionCount, size, capacity);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("hits", hitCount)
+                    .add("misses", missCount)
+                    .add("evictions", evictionCount)
+                    .add("size", size)
+                    .add("capacity", capacity)
+                    .toString();
+        }
+    }
+}
@@ -7,6 +7,8 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.model.person.RelevanceWeights;
 
 /**
  * Represents User's preferences.
@@ -15,6 +17,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "medbook.json");
+    private StorageSettings storageSettings = new StorageSettings();
+    private RelevanceWeights relevanceWeights = new RelevanceWeights();
+    private boolean isAsyncCommandExecution = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +41,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setStorageSettings(newUserPrefs.getStorageSettings());
+        setRelevanceWeights(newUserPrefs.getRelevanceWeights());
+        setAsyncCommandExecution(newUserPrefs.isAsyncCommandExecution());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +64,32 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public StorageSettings getStorageSettings() {
+        return storageSettings;
+    }
+
+    public void setStorageSettings(StorageSettings storageSettings) {
+        requireNonNull(storageSettings);
+        this.storageSettings = storageSettings;
+    }
+
+    public RelevanceWeights getRelevanceWeights() {
+        return relevanceWeights;
+    }
+
+    public void setRelevanceWeights(RelevanceWeights relevanceWeights) {
+        requireNonNull(relevanceWeights);
+        this.relevanceWeights = relevanceWeights;
+    }
+
+    public boolean isAsyncCommandExecution() {
+        return isAsyncCommandExecution;
+    }
+
+    public void setAsyncCommandExecution(boolean isAsyncCommandExecution) {
+        this.isAsyncCommandExecution = isAsyncCommandExecution;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +103,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && storageSettings.equals(otherUserPrefs.storageSettings)
+                && relevanceWeights.equals(otherUserPrefs.relevanceWeights)
+                && isAsyncCommandExecution == otherUserPrefs.isAsyncCommandExecution;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, storageSettings, relevanceWeights,
+                isAsyncCommandExecution);
     }
 
     @Override
@@ -82,6 +120,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nStorage Settings : " + storageSettings);
+        sb.append("\nRelevance Weights : " + relevanceWeights);
+        sb.append("\nAsync Command Execution : " + isAsyncCommandExecution);
         return sb.toString();
     }
 
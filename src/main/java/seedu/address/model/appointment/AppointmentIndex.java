@@ -0,0 +1,156 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.shared.DateTime;
+
+/**
+ * An index of appointments in chronological order, which is updated one appointment at a time instead of being
+ * rebuilt whenever it changes.
+ * Appointments are grouped by the minute at which they take place, so finding the appointments within a period takes
+ * O(log n) time plus the number of appointments found. The same appointments are also kept in a sorted observable
+ * list for display.
+ * Appointments are compared using {@code Appointment#equals(Object)}, and the index does not check for duplicates.
+ */
+public class AppointmentIndex {
+
+    /** Orders appointments by date and time, then by name and NRIC so that the order is total. */
+    public static final Comparator<Appointment> CHRONOLOGICAL_ORDER = Comparator
+            .comparing((Appointment appointment) -> appointment.getDateTime().dateTime)
+            .thenComparing(appointment -> appointment.getName().fullName)
+            .thenComparing(appointment -> appointment.getNric() == null ? "" : appointment.getNric().nric);
+
+    // Changes to more appointments than this at once are applied by rebuilding the observable list in one go
+    private static final int BULK_UPDATE_THRESHOLD = 32;
+
+    private final NavigableMap<Long, List<Appointment>> appointmentsByMinute = new TreeMap<>();
+    private final ObservableList<Appointment> internalList = FXCollections.observableArrayList();
+    private final ObservableList<Appointment> internalUnmodifiableList =
+            FXCollections.unmodifiableObservableList(internalList);
+
+    /**
+     * Replaces the contents of this index with {@code appointments}.
+     */
+    public void setAppointments(Collection<Appointment> appointments) {
+        requireAllNonNull(appointments);
+        appointmentsByMinute.clear();
+        for (Appointment appointment : appointments) {
+            addToMinute(appointment);
+        }
+        List<Appointment> sortedAppointments = new ArrayList<>(appointments);
+        sortedAppointments.sort(CHRONOLOGICAL_ORDER);
+        internalList.setAll(sortedAppointments);
+    }
+
+    /**
+     * Removes {@code removed} from this index and then adds {@code added} to it.
+     * Each appointment in {@code removed} must be in the index.
+     */
+    public void update(Collection<Appointment> removed, Collection<Appointment> added) {
+        requireAllNonNull(removed);
+        requireAllNonNull(added);
+        for (Appointment appointment : removed) {
+            removeFromMinute(appointment);
+        }
+        for (Appointment appointment : added) {
+            addToMinute(appointment);
+        }
+
+        if (removed.size() + added.size() > BULK_UPDATE_THRESHOLD) {
+            rebuildList(removed, added);
+            return;
+        }
+        for (Appointment appointment : removed) {
+            internalList.remove(Collections.binarySearch(internalList, appointment, CHRONOLOGICAL_ORDER));
+        }
+        for (Appointment appointment : added) {
+            int index = Collections.binarySearch(internalList, appointment, CHRONOLOGICAL_ORDER);
+            internalList.add(index < 0 ? -index - 1 : index, appointment);
+        }
+    }
+
+    /**
+     * Returns the appointments that take place from {@code start} to {@code end}, both inclusive, in chronological
+     * order.
+     */
+    public List<Appointment> getAppointmentsBetween(DateTime start, DateTime end) {
+        requireAllNonNull(start, end);
+        List<Appointment> appointments = new ArrayList<>();
+        if (start.toEpochMinute() > end.toEpochMinute()) {
+            return appointments;
+        }
+        for (List<Appointment> appointmentsInMinute : appointmentsByMinute
+                .subMap(start.toEpochMinute(), true, end.toEpochMinute(), true).values()) {
+            appointments.addAll(appointmentsInMinute);
+        }
+        return appointments;
+    }
+
+    public int size() {
+        return internalList.size();
+    }
+
+    /**
+     * Returns the indexed appointments, in chronological order, as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Appointment> asUnmodifiableObservableList() {
+        return internalUnmodifiableList;
+    }
+
+    private void addToMinute(Appointment appointment) {
+        List<Appointment> appointmentsInMinute = appointmentsByMinute.computeIfAbsent(
+                appointment.getDateTime().toEpochMinute(), minute -> new ArrayList<>());
+        int index = Collections.binarySearch(appointmentsInMinute, appointment, CHRONOLOGICAL_ORDER);
+        appointmentsInMinute.add(index < 0 ? -index - 1 : index, appointment);
+    }
+
+    private void removeFromMinute(Appointment appointment) {
+        requireNonNull(appointment);
+        long minute = appointment.getDateTime().toEpochMinute();
+        List<Appointment> appointmentsInMinute = appointmentsByMinute.get(minute);
+        if (appointmentsInMinute == null || !appointmentsInMinute.remove(appointment)) {
+            throw new IllegalArgumentException("Appointment is not in the index: " + appointment);
+        }
+        if (appointmentsInMinute.isEmpty()) {
+            appointmentsByMinute.remove(minute);
+        }
+    }
+
+    /**
+     * Replaces the observable list with one that has {@code removed} taken out of it and {@code added} merged into it,
+     * so that observers see a single change.
+     */
+    private void rebuildList(Collection<Appointment> removed, Collection<Appointment> added) {
+        Set<Appointment> removedAppointments = new HashSet<>(removed);
+        List<Appointment> addedAppointments = new ArrayList<>(added);
+        addedAppointments.sort(CHRONOLOGICAL_ORDER);
+
+        List<Appointment> merged = new ArrayList<>(internalList.size() - removed.size() + added.size());
+        int addedIndex = 0;
+        for (Appointment appointment : internalList) {
+            if (removedAppointments.contains(appointment)) {
+                continue;
+            }
+            while (addedIndex < addedAppointments.size()
+                    && CHRONOLOGICAL_ORDER.compare(addedAppointments.get(addedIndex), appointment) < 0) {
+                merged.add(addedAppointments.get(addedIndex++));
+            }
+            merged.add(appointment);
+        }
+        merged.addAll(addedAppointments.subList(addedIndex, addedAppointments.size()));
+        internalList.setAll(merged);
+    }
+}
@@ -3,11 +3,14 @@ package seedu.address.model.appointment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentVector;
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
 
@@ -15,22 +18,25 @@ import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
  * A list of appointments that enforces uniqueness between its elements and does not allow nulls.
  * An appointment is considered unique by comparing using {@code Appointment#equals(Appointment)}.
  *
+ * The appointments are held in a {@code PersistentVector}, so copying a list shares its appointments instead of
+ * copying them, and an observable view of the list is only created once it is asked for.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Appointment#equals(Appointment)
  */
 public class UniqueAppointmentList implements Iterable<Appointment> {
 
-    private final ObservableList<Appointment> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Appointment> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private PersistentVector<Appointment> internalAppointments = PersistentVector.empty();
+    private ObservableList<Appointment> internalList;
+    private ObservableList<Appointment> internalUnmodifiableList;
 
     /**
      * Returns true if the list contains an equivalent appointment as the given argument.
      */
     public boolean contains(Appointment toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return internalAppointments.contains(toCheck);
     }
 
     /**
@@ -42,7 +48,10 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
         if (contains(toAdd)) {
             throw new DuplicateAppointmentException();
         }
-        internalList.add(toAdd);
+        internalAppointments = internalAppointments.plus(toAdd);
+        if (internalList != null) {
+            internalList.add(toAdd);
+        }
     }
 
     /**
@@ -54,7 +63,7 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
     public void setAppointment(Appointment target, Appointment editedappointment) {
         requireAllNonNull(target, editedappointment);
 
-        int index = internalList.indexOf(target);
+        int index = internalAppointments.indexOf(target);
         if (index == -1) {
             throw new AppointmentNotFoundException();
         }
@@ -63,7 +72,10 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
             throw new DuplicateAppointmentException();
         }
 
-        internalList.set(index, editedappointment);
+        internalAppointments = internalAppointments.with(index, editedappointment);
+        if (internalList != null) {
+            internalList.set(index, editedappointment);
+        }
     }
 
     /**
@@ -72,14 +84,25 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
      */
     public void remove(Appointment toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalAppointments.indexOf(toRemove);
+        if (index == -1) {
             throw new AppointmentNotFoundException();
         }
+
+        internalAppointments = internalAppointments.minus(index);
+        if (internalList != null) {
+            internalList.remove(index);
+        }
     }
 
+    /**
+     * Replaces the contents of this list with those of {@code replacement}.
+     * The appointments are shared with {@code replacement} rather than copied, so this takes constant time unless
+     * this list is being observed.
+     */
     public void setAppointments(UniqueAppointmentList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceAll(replacement.internalAppointments);
     }
 
     /**
@@ -92,19 +115,31 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
             throw new DuplicateAppointmentException();
         }
 
-        internalList.setAll(appointments);
+        replaceAll(PersistentVector.copyOf(appointments));
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the appointments as an unmodifiable {@code List}, without creating an observable view of them.
+     */
+    public List<Appointment> asUnmodifiableList() {
+        return internalAppointments;
+    }
+
+    /**
+     * Returns the backing list as an unmodifiable {@code ObservableList}, which is kept up to date with later
+     * changes to this list.
      */
     public ObservableList<Appointment> asUnmodifiableObservableList() {
+        if (internalList == null) {
+            internalList = FXCollections.observableArrayList(internalAppointments);
+            internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+        }
         return internalUnmodifiableList;
     }
 
     @Override
     public Iterator<Appointment> iterator() {
-        return internalList.iterator();
+        return internalAppointments.iterator();
     }
 
     @Override
@@ -119,28 +154,34 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
         }
 
         UniqueAppointmentList otherUniqueAppointmentList = (UniqueAppointmentList) other;
-        return internalList.equals(otherUniqueAppointmentList.internalList);
+        return internalAppointments.equals(otherUniqueAppointmentList.internalAppointments);
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return internalAppointments.hashCode();
     }
 
     @Override
     public String toString() {
-        return internalList.toString();
+        return internalAppointments.toString();
+    }
+
+    private void replaceAll(PersistentVector<Appointment> appointments) {
+        internalAppointments = appointments;
+        if (internalList != null) {
+            internalList.setAll(appointments);
+        }
     }
 
     /**
      * Returns true if {@code appointments} contains only unique appointments.
      */
     private boolean appointmentsAreUnique(List<Appointment> appointments) {
-        for (int i = 0; i < appointments.size() - 1; i++) {
-            for (int j = i + 1; j < appointments.size(); j++) {
-                if (appointments.get(i).equals(appointments.get(j))) {
-                    return false;
-                }
+        Set<Appointment> seenAppointments = new HashSet<>();
+        for (Appointment appointment : appointments) {
+            if (!seenAppointments.add(appointment)) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,103 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.shared.Nric;
+
+/**
+ * Tests that a {@code Person}'s details match any of the keywords given, as {@code NameContainsKeywordsPredicate}
+ * does, by looking the keywords up in a {@code PersonSearchIndex} instead of splitting the details of every person.
+ * The matching persons are looked up once for each version of the index.
+ * The index must only be read on the thread that changes the persons, so this predicate must only be tested there.
+ * To test persons on other threads, test them with a {@link #snapshot()} taken on that thread instead.
+ */
+public class IndexedKeywordsPredicate implements Predicate<Person> {
+    private final List<String> keywords;
+    private final PersonSearchIndex index;
+    // Replaced as a whole, so that the version and the persons looked up for it are always read together
+    private volatile Matches matches = new Matches(-1, Collections.emptySet());
+
+    /**
+     * Creates a predicate that looks up {@code keywords} in {@code index}.
+     */
+    public IndexedKeywordsPredicate(List<String> keywords, PersonSearchIndex index) {
+        requireAllNonNull(keywords, index);
+        this.keywords = keywords;
+        this.index = index;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        if (!index.isIndexed(person)) {
+            // The index may not have caught up with a change to the persons yet
+            Set<String> words = PersonSearchIndex.getWords(person);
+            return keywords.stream().anyMatch(keyword -> words.contains(PersonSearchIndex.normalize(keyword)));
+        }
+        return getMatchingNrics().contains(person.getNric());
+    }
+
+    /**
+     * Returns a predicate that gives the same results as this one for the persons indexed now, without reading the
+     * index again, so that it can be tested on any thread. It must be taken on the thread that changes the persons.
+     */
+    public Predicate<Person> snapshot() {
+        Set<Nric> matchingNrics = getMatchingNrics();
+        return person -> matchingNrics.contains(person.getNric());
+    }
+
+    /**
+     * Returns the NRICs of the matching persons in the index, looking them up again if the index has changed since
+     * they were last looked up.
+     */
+    private Set<Nric> getMatchingNrics() {
+        Matches current = matches;
+        long version = index.getVersion();
+        if (current.version != version) {
+            current = new Matches(version, Collections.unmodifiableSet(new HashSet<>(index.findAny(keywords))));
+            matches = current;
+        }
+        return current.nrics;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexedKeywordsPredicate)) {
+            return false;
+        }
+
+        IndexedKeywordsPredicate otherIndexedKeywordsPredicate = (IndexedKeywordsPredicate) other;
+        return keywords.equals(otherIndexedKeywordsPredicate.keywords)
+                && index == otherIndexedKeywordsPredicate.index;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+
+    /**
+     * The NRICs of the persons matching, as looked up in a version of the index.
+     * Guarantees: immutable.
+     */
+    private static class Matches {
+        private final long version;
+        private final Set<Nric> nrics;
+
+        Matches(long version, Set<Nric> nrics) {
+            this.version = version;
+            this.nrics = nrics;
+        }
+    }
+}
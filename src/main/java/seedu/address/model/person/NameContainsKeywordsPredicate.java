@@ -3,38 +3,62 @@ package seedu.address.model.person;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.commons.util.WordMatcher;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final WordMatcher[] matchers;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matchers = new WordMatcher[keywords.size()];
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword)
-                        ||
-                        StringUtil.containsWordIgnoreCase(person.getNric().nric, keyword)
-                        ||
-                        StringUtil.containsWordIgnoreCase(person.getPhone().value, keyword)
-                        ||
-                        person.getAllergies().stream()
-                                .anyMatch(hobby -> StringUtil.containsWordIgnoreCase(hobby.allergy, keyword))
-                        ||
-                        StringUtil.containsWordIgnoreCase(person.getGender().gender, keyword)
-                        ||
-                        StringUtil.containsWordIgnoreCase(person.getBloodType().bloodType, keyword)
-                        ||
-                        StringUtil.containsWordIgnoreCase(person.getAge().age.toString(), keyword)
-                        ||
-                        StringUtil.containsWordIgnoreCase(person.getEmail().value, keyword));
+        for (int i = 0; i < matchers.length; i++) {
+            if (matches(person, getMatcher(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(Person person, WordMatcher matcher) {
+        if (matcher.matches(person.getName().fullName)
+                || matcher.matches(person.getNric().nric)
+                || matcher.matches(person.getPhone().value)
+                || matcher.matches(person.getGender().gender)
+                || matcher.matches(person.getBloodType().bloodType)
+                || matcher.matches(person.getAge().age.toString())
+                || matcher.matches(person.getEmail().value)) {
+            return true;
+        }
+        for (Allergy allergy : person.getAllergies()) {
+            if (matcher.matches(allergy.allergy)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the matcher for the keyword at {@code index}, created when it is first needed and reused for every
+     * person after that.
+     */
+    private WordMatcher getMatcher(int index) {
+        if (matchers[index] == null) {
+            matchers[index] = new WordMatcher(keywords.get(index));
+        }
+        return matchers[index];
     }
 
     @Override
@@ -52,6 +76,11 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -0,0 +1,162 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.shared.Nric;
+
+/**
+ * Changes to the persons of a {@code UniquePersonList} that are kept aside instead of being made to the list, so that
+ * they can all be made at once with {@link #applyTo(List)}, or dropped by discarding the changeset.
+ * Adding, replacing and removing persons follow the same rules as in {@code UniquePersonList}, checked against the
+ * persons of the list with the changes made so far. The list must not be changed while the changeset is in use.
+ *
+ * Only the persons that are changed are kept, so the changeset takes no more space than the changes made to it.
+ *
+ * @see UniquePersonList
+ */
+public class PersonChangeset {
+
+    private final UniquePersonList base;
+
+    /** The person with each NRIC that was changed, or null if there is no longer a person with that NRIC. */
+    private final Map<Nric, Person> changedPersons = new HashMap<>();
+
+    /** The person now in the place of each person of the list that was changed, or null if it was removed. */
+    private final Map<Nric, Person> replacements = new HashMap<>();
+
+    /** The NRIC of the person of the list that each changed person is in the place of. */
+    private final Map<Nric, Nric> replacedNrics = new HashMap<>();
+
+    /** The persons added, in the order they were added in. */
+    private final List<Person> addedPersons = new ArrayList<>();
+
+    /**
+     * Creates an empty changeset of the persons of {@code base}.
+     */
+    public PersonChangeset(UniquePersonList base) {
+        requireNonNull(base);
+        this.base = base;
+    }
+
+    /**
+     * Returns true if there is a person with the same identity as {@code toCheck} once the changes are made.
+     */
+    public boolean contains(Person toCheck) {
+        requireNonNull(toCheck);
+        return findByNric(toCheck.getNric()).isPresent();
+    }
+
+    /**
+     * Returns the person with the given {@code nric} once the changes are made, if there is one.
+     */
+    public Optional<Person> findByNric(Nric nric) {
+        requireNonNull(nric);
+        if (changedPersons.containsKey(nric)) {
+            return Optional.ofNullable(changedPersons.get(nric));
+        }
+        return base.findByNric(nric);
+    }
+
+    /**
+     * Adds a person after the persons of the list.
+     * The person must not already exist once the changes are made.
+     */
+    public void add(Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        addedPersons.add(toAdd);
+        changedPersons.put(toAdd.getNric(), toAdd);
+    }
+
+    /**
+     * Replaces the person {@code target} with {@code editedPerson}, keeping its place.
+     * {@code target} must exist once the changes are made.
+     * The person identity of {@code editedPerson} must not be the same as another person that exists then.
+     */
+    public void setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        requireExisting(target);
+        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+            throw new DuplicatePersonException();
+        }
+
+        int addedIndex = addedPersons.indexOf(target);
+        if (addedIndex != -1) {
+            addedPersons.set(addedIndex, editedPerson);
+        } else {
+            Nric replacedNric = takeReplacedNric(target);
+            replacements.put(replacedNric, editedPerson);
+            replacedNrics.put(editedPerson.getNric(), replacedNric);
+        }
+        changedPersons.put(target.getNric(), null);
+        changedPersons.put(editedPerson.getNric(), editedPerson);
+    }
+
+    /**
+     * Removes the equivalent person.
+     * The person must exist once the changes are made.
+     */
+    public void remove(Person toRemove) {
+        requireNonNull(toRemove);
+        requireExisting(toRemove);
+
+        if (!addedPersons.remove(toRemove)) {
+            replacements.put(takeReplacedNric(toRemove), null);
+        }
+        changedPersons.put(toRemove.getNric(), null);
+    }
+
+    /**
+     * Returns true if making the changes would not change the persons of the list.
+     */
+    public boolean isEmpty() {
+        return replacements.isEmpty() && addedPersons.isEmpty();
+    }
+
+    /**
+     * Returns {@code persons}, which are persons of the list in any order, with the changes made to them, followed by
+     * the persons added.
+     */
+    public List<Person> applyTo(List<Person> persons) {
+        requireAllNonNull(persons);
+        List<Person> changed = new ArrayList<>(persons.size() + addedPersons.size());
+        for (Person person : persons) {
+            Nric nric = person.getNric();
+            Person replacement = replacements.containsKey(nric) ? replacements.get(nric) : person;
+            if (replacement != null) {
+                changed.add(replacement);
+            }
+        }
+        changed.addAll(addedPersons);
+        return changed;
+    }
+
+    /**
+     * Throws a {@code PersonNotFoundException} if {@code person} does not exist once the changes are made.
+     */
+    private void requireExisting(Person person) {
+        if (!person.equals(findByNric(person.getNric()).orElse(null))) {
+            throw new PersonNotFoundException();
+        }
+    }
+
+    /**
+     * Returns the NRIC of the person of the list that {@code person}, which is not an added person, is in the place
+     * of, forgetting that it is in that place.
+     */
+    private Nric takeReplacedNric(Person person) {
+        Nric replacedNric = replacedNrics.remove(person.getNric());
+        return replacedNric == null ? person.getNric() : replacedNric;
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * The details of a {@code Person} that can be searched, each split into words in the same way.
+ */
+public enum PersonField {
+    NAME("name", person -> Collections.singletonList(person.getName().fullName)),
+    NRIC("NRIC", person -> Collections.singletonList(person.getNric().nric)),
+    PHONE("phone", person -> Collections.singletonList(person.getPhone().value)),
+    EMAIL("email", person -> Collections.singletonList(person.getEmail().value)),
+    GENDER("gender", person -> Collections.singletonList(person.getGender().gender)),
+    AGE("age", person -> Collections.singletonList(person.getAge().age.toString())),
+    BLOOD_TYPE("blood type", person -> Collections.singletonList(person.getBloodType().bloodType)),
+    ALLERGY("allergy", person -> person.getAllergies().stream()
+            .map(allergy -> allergy.allergy)
+            .collect(Collectors.toList()));
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final String description;
+    private final Function<Person, List<String>> detailsGetter;
+
+    PersonField(String description, Function<Person, List<String>> detailsGetter) {
+        this.description = description;
+        this.detailsGetter = detailsGetter;
+    }
+
+    /**
+     * Returns the distinct words, in lower case, in this detail of {@code person}.
+     */
+    public Set<String> getWords(Person person) {
+        requireNonNull(person);
+        Set<String> words = new HashSet<>();
+        for (String detail : detailsGetter.apply(person)) {
+            for (String word : WHITESPACE.split(detail)) {
+                if (!word.isEmpty()) {
+                    words.add(word.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return words;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
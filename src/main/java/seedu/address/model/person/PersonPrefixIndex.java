@@ -0,0 +1,123 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+import seedu.address.model.shared.Nric;
+
+/**
+ * A sorted index of the words in the names and the NRICs of persons, for finding the persons with a word that starts
+ * with a given prefix.
+ * Finding the persons takes O(log n) time plus the number of words that start with the prefix, up to the number of
+ * persons wanted.
+ * The index is changed by one thread, but may be searched from any number of other threads at the same time. A search
+ * made while the index is being changed may or may not see the change.
+ */
+public class PersonPrefixIndex implements PersonSuggester {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final NavigableMap<String, Set<Nric>> nricsByWord = new ConcurrentSkipListMap<>();
+    private final Map<Nric, Person> personsByNric = new ConcurrentHashMap<>();
+
+    /**
+     * Replaces the contents of this index with {@code persons}.
+     */
+    public void setPersons(Collection<Person> persons) {
+        requireAllNonNull(persons);
+        nricsByWord.clear();
+        personsByNric.clear();
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Removes {@code removed} from this index and then adds {@code added} to it.
+     */
+    public void update(Collection<Person> removed, Collection<Person> added) {
+        requireAllNonNull(removed);
+        requireAllNonNull(added);
+        for (Person person : removed) {
+            remove(person);
+        }
+        for (Person person : added) {
+            add(person);
+        }
+    }
+
+    @Override
+    public List<Person> suggest(String prefix, int limit) {
+        requireNonNull(prefix);
+        String normalizedPrefix = prefix.trim().toLowerCase(Locale.ROOT);
+        Set<Person> suggestions = new LinkedHashSet<>();
+        if (normalizedPrefix.isEmpty()) {
+            return new ArrayList<>(suggestions);
+        }
+
+        for (Map.Entry<String, Set<Nric>> entry : nricsByWord.tailMap(normalizedPrefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(normalizedPrefix)) {
+                break;
+            }
+            for (Nric nric : entry.getValue()) {
+                if (suggestions.size() >= limit) {
+                    return new ArrayList<>(suggestions);
+                }
+                Person person = personsByNric.get(nric);
+                // The person may have been removed since the word was found
+                if (person != null) {
+                    suggestions.add(person);
+                }
+            }
+        }
+        return new ArrayList<>(suggestions);
+    }
+
+    /**
+     * Returns the words, in lower case, that {@code person} can be found by.
+     */
+    private static Set<String> getWords(Person person) {
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : WHITESPACE.split(person.getName().fullName)) {
+            if (!word.isEmpty()) {
+                words.add(word.toLowerCase(Locale.ROOT));
+            }
+        }
+        words.add(person.getNric().nric.toLowerCase(Locale.ROOT));
+        return words;
+    }
+
+    private void add(Person person) {
+        // The person is added before its words, so that a word found by a search always leads to a person
+        personsByNric.put(person.getNric(), person);
+        for (String word : getWords(person)) {
+            nricsByWord.computeIfAbsent(word, unused -> ConcurrentHashMap.newKeySet()).add(person.getNric());
+        }
+    }
+
+    private void remove(Person person) {
+        for (String word : getWords(person)) {
+            Set<Nric> nrics = nricsByWord.get(word);
+            if (nrics == null) {
+                continue;
+            }
+            nrics.remove(person.getNric());
+            if (nrics.isEmpty()) {
+                nricsByWord.remove(word);
+            }
+        }
+        personsByNric.remove(person.getNric());
+    }
+}
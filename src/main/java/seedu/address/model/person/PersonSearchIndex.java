@@ -0,0 +1,360 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import seedu.address.model.shared.Nric;
+import seedu.address.model.shared.TrigramDictionary;
+
+/**
+ * An inverted index from the words in the details of persons to the persons that have them.
+ * The searchable details are the same as those of {@code NameContainsKeywordsPredicate}: name, NRIC, phone, allergies,
+ * gender, blood type, age and email. Each is split into words at whitespace, and words are matched ignoring case.
+ * The words of each {@code PersonField} are also indexed on their own, so that a word can be looked up in one detail.
+ * Persons are identified in the index by their NRIC.
+ * The indexed words are also kept in a {@code TrigramDictionary}, so that persons can be found by words that are
+ * misspelt slightly.
+ */
+public class PersonSearchIndex {
+
+    /** Orders fuzzy matches from the best to the worst, and the same matches always in the same order. */
+    private static final Comparator<FuzzyMatch> BEST_FIRST = Comparator
+            .comparingInt((FuzzyMatch match) -> -match.matchedKeywords)
+            .thenComparingInt(match -> match.totalDistance)
+            .thenComparing(match -> match.nric.nric);
+
+    /** Orders ranked matches from the highest score to the lowest, and the same matches always in the same order. */
+    private static final Comparator<RankedMatch> HIGHEST_SCORE_FIRST = Comparator
+            .comparingLong((RankedMatch match) -> -match.score)
+            .thenComparingInt(match -> -match.matchedKeywords)
+            .thenComparing(match -> match.nric.nric);
+
+    private final Map<String, Set<Nric>> nricsByWord = new HashMap<>();
+    private final Map<PersonField, Map<String, Set<Nric>>> nricsByFieldWord = new EnumMap<>(PersonField.class);
+    private final Map<Nric, Person> indexedPersons = new HashMap<>();
+    private final Map<Nric, Set<String>> wordsByNric = new HashMap<>();
+    private final TrigramDictionary dictionary = new TrigramDictionary();
+    private long version = 0;
+
+    /**
+     * Replaces the contents of this index with {@code persons}.
+     */
+    public void setPersons(Collection<Person> persons) {
+        requireAllNonNull(persons);
+        nricsByWord.clear();
+        nricsByFieldWord.clear();
+        indexedPersons.clear();
+        wordsByNric.clear();
+        dictionary.clear();
+        for (Person person : persons) {
+            add(person);
+        }
+        version++;
+    }
+
+    /**
+     * Removes {@code removed} from this index and then adds {@code added} to it.
+     */
+    public void update(Collection<Person> removed, Collection<Person> added) {
+        requireAllNonNull(removed);
+        requireAllNonNull(added);
+        for (Person person : removed) {
+            remove(person);
+        }
+        for (Person person : added) {
+            add(person);
+        }
+        version++;
+    }
+
+    /**
+     * Returns a number that changes whenever the contents of this index change.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns true if {@code person}, and not an older or newer version of it, is the one in this index.
+     */
+    public boolean isIndexed(Person person) {
+        requireNonNull(person);
+        return indexedPersons.get(person.getNric()) == person;
+    }
+
+    /**
+     * Returns the number of persons in this index.
+     */
+    public int size() {
+        return indexedPersons.size();
+    }
+
+    /**
+     * Returns an unmodifiable view of the NRICs of all persons in this index.
+     */
+    public Set<Nric> getIndexedNrics() {
+        return Collections.unmodifiableSet(indexedPersons.keySet());
+    }
+
+    /**
+     * Returns an unmodifiable view of the NRICs of the persons that have {@code keyword} as a word in any of their
+     * details. The view must not be used after this index changes.
+     */
+    public Set<Nric> getPostings(String keyword) {
+        requireNonNull(keyword);
+        return Collections.unmodifiableSet(nricsByWord.getOrDefault(normalize(keyword), Collections.emptySet()));
+    }
+
+    /**
+     * Returns an unmodifiable view of the NRICs of the persons that have {@code keyword} as a word in their
+     * {@code field}. The view must not be used after this index changes.
+     */
+    public Set<Nric> getPostings(PersonField field, String keyword) {
+        requireAllNonNull(field, keyword);
+        return Collections.unmodifiableSet(nricsByFieldWord.getOrDefault(field, Collections.emptyMap())
+                .getOrDefault(normalize(keyword), Collections.emptySet()));
+    }
+
+    /**
+     * Returns the NRICs of the persons that have any of {@code keywords} as a word in their details.
+     */
+    public Set<Nric> findAny(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        Set<Nric> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            matches.addAll(nricsByWord.getOrDefault(normalize(keyword), Collections.emptySet()));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the NRICs of the persons that have every one of {@code keywords} as a word in their details.
+     */
+    public Set<Nric> findAll(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        Set<Nric> matches = null;
+        for (String keyword : keywords) {
+            Set<Nric> postings = nricsByWord.getOrDefault(normalize(keyword), Collections.emptySet());
+            if (matches == null) {
+                matches = new HashSet<>(postings);
+            } else {
+                matches.retainAll(postings);
+            }
+            if (matches.isEmpty()) {
+                break;
+            }
+        }
+        return matches == null ? new HashSet<>() : matches;
+    }
+
+    /**
+     * Returns the NRICs of at most {@code limit} persons that have a word in their details within a few edits of any
+     * of {@code keywords}, best match first.
+     * Persons that match more of the keywords come first, and among those, persons whose words are fewer edits away
+     * from the keywords. How many edits are allowed depends on the length of each keyword, as given by
+     * {@link TrigramDictionary#getMaxDistance(int)}.
+     */
+    public List<Nric> findFuzzy(Collection<String> keywords, int limit) {
+        requireAllNonNull(keywords);
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        Map<Nric, FuzzyMatch> matches = new HashMap<>();
+        for (String keyword : new HashSet<>(normalizeAll(keywords))) {
+            Map<Nric, Integer> closestDistances = new HashMap<>();
+            dictionary.findSimilar(keyword, TrigramDictionary.getMaxDistance(keyword.length()))
+                    .forEach((word, distance) -> {
+                        for (Nric nric : nricsByWord.get(word)) {
+                            closestDistances.merge(nric, distance, Math::min);
+                        }
+                    });
+            closestDistances.forEach((nric, distance) ->
+                    matches.computeIfAbsent(nric, FuzzyMatch::new).addKeyword(distance));
+        }
+
+        List<Nric> rankedNrics = new ArrayList<>();
+        for (FuzzyMatch match : selectBest(matches.values(), BEST_FIRST, limit)) {
+            rankedNrics.add(match.nric);
+        }
+        return rankedNrics;
+    }
+
+    /**
+     * Returns the NRICs of at most {@code limit} persons that have any of {@code keywords} as a word in their details,
+     * most relevant first, as scored with {@code weights}.
+     * Each keyword adds the weight of every detail of a person that it is a word in to their score, and the coverage
+     * weight once if it is in any of them.
+     */
+    public List<Nric> findRanked(Collection<String> keywords, RelevanceWeights weights, int limit) {
+        requireAllNonNull(keywords, weights);
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        Map<Nric, RankedMatch> matches = new HashMap<>();
+        for (String keyword : new HashSet<>(normalizeAll(keywords))) {
+            Map<Nric, Integer> keywordScores = new HashMap<>();
+            nricsByFieldWord.forEach((field, nricsByWordInField) -> {
+                int weight = weights.getWeight(field);
+                for (Nric nric : nricsByWordInField.getOrDefault(keyword, Collections.emptySet())) {
+                    keywordScores.merge(nric, weight, Integer::sum);
+                }
+            });
+            keywordScores.forEach((nric, score) -> matches.computeIfAbsent(nric, RankedMatch::new)
+                    .addKeyword(score + weights.getCoverageWeight()));
+        }
+
+        List<Nric> rankedNrics = new ArrayList<>();
+        for (RankedMatch match : selectBest(matches.values(), HIGHEST_SCORE_FIRST, limit)) {
+            rankedNrics.add(match.nric);
+        }
+        return rankedNrics;
+    }
+
+    /**
+     * Returns the best {@code limit} of {@code matches}, best first, as ordered by {@code bestFirst}.
+     * Only the best matches seen so far are kept in a heap while going through the matches, instead of sorting all
+     * of them.
+     */
+    private static <T> List<T> selectBest(Collection<T> matches, Comparator<T> bestFirst, int limit) {
+        // The worst of the best matches is kept at the head so that it can be replaced
+        PriorityQueue<T> bestMatches = new PriorityQueue<>(bestFirst.reversed());
+        for (T match : matches) {
+            if (bestMatches.size() < limit) {
+                bestMatches.add(match);
+            } else if (bestFirst.compare(match, bestMatches.peek()) < 0) {
+                bestMatches.poll();
+                bestMatches.add(match);
+            }
+        }
+
+        List<T> rankedMatches = new ArrayList<>(bestMatches);
+        rankedMatches.sort(bestFirst);
+        return rankedMatches;
+    }
+
+    /**
+     * Returns the distinct words, in lower case, in the searchable details of {@code person}.
+     */
+    public static Set<String> getWords(Person person) {
+        requireNonNull(person);
+        Set<String> words = new HashSet<>();
+        for (PersonField field : PersonField.values()) {
+            words.addAll(field.getWords(person));
+        }
+        return words;
+    }
+
+    /**
+     * Returns {@code keyword} in the form that words are indexed in.
+     */
+    public static String normalize(String keyword) {
+        return keyword.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> normalizeAll(Collection<String> keywords) {
+        List<String> normalized = new ArrayList<>(keywords.size());
+        for (String keyword : keywords) {
+            String word = normalize(keyword);
+            if (!word.isEmpty()) {
+                normalized.add(word);
+            }
+        }
+        return normalized;
+    }
+
+    private void add(Person person) {
+        Set<String> words = getWords(person);
+        indexedPersons.put(person.getNric(), person);
+        wordsByNric.put(person.getNric(), words);
+        for (String word : words) {
+            nricsByWord.computeIfAbsent(word, unused -> {
+                dictionary.add(word);
+                return new HashSet<>();
+            }).add(person.getNric());
+        }
+        for (PersonField field : PersonField.values()) {
+            Map<String, Set<Nric>> nricsByWordInField =
+                    nricsByFieldWord.computeIfAbsent(field, unused -> new HashMap<>());
+            for (String word : field.getWords(person)) {
+                nricsByWordInField.computeIfAbsent(word, unused -> new HashSet<>()).add(person.getNric());
+            }
+        }
+    }
+
+    private void remove(Person person) {
+        Set<String> words = wordsByNric.remove(person.getNric());
+        Person indexedPerson = indexedPersons.remove(person.getNric());
+        if (words == null) {
+            return;
+        }
+        for (PersonField field : PersonField.values()) {
+            Map<String, Set<Nric>> nricsByWordInField = nricsByFieldWord.get(field);
+            for (String word : field.getWords(indexedPerson)) {
+                Set<Nric> nrics = nricsByWordInField.get(word);
+                nrics.remove(person.getNric());
+                if (nrics.isEmpty()) {
+                    nricsByWordInField.remove(word);
+                }
+            }
+        }
+        for (String word : words) {
+            Set<Nric> nrics = nricsByWord.get(word);
+            nrics.remove(person.getNric());
+            if (nrics.isEmpty()) {
+                nricsByWord.remove(word);
+                dictionary.remove(word);
+            }
+        }
+    }
+
+    /**
+     * How closely the details of a person match the keywords of a fuzzy search.
+     */
+    private static class FuzzyMatch {
+        private final Nric nric;
+        private int matchedKeywords = 0;
+        private int totalDistance = 0;
+
+        private FuzzyMatch(Nric nric) {
+            this.nric = nric;
+        }
+
+        private void addKeyword(int distance) {
+            matchedKeywords++;
+            totalDistance += distance;
+        }
+    }
+
+    /**
+     * How relevant the details of a person are to the keywords of a ranked search.
+     */
+    private static class RankedMatch {
+        private final Nric nric;
+        private int matchedKeywords = 0;
+        private long score = 0;
+
+        private RankedMatch(Nric nric) {
+            this.nric = nric;
+        }
+
+        private void addKeyword(int keywordScore) {
+            matchedKeywords++;
+            score += keywordScore;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package seedu.address.model.person;
+
+import java.util.List;
+
+/**
+ * Suggests persons whose details start with what the user has typed so far.
+ * Implementations may be called from any thread.
+ */
+@FunctionalInterface
+public interface PersonSuggester {
+
+    /**
+     * Returns up to {@code limit} distinct persons with a word of their name, or their NRIC, that starts with
+     * {@code prefix}, ignoring case.
+     */
+    List<Person> suggest(String prefix, int limit);
+}
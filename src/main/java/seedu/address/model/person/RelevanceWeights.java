@@ -0,0 +1,119 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The weights used to rank the persons found by a search.
+ * Each keyword that is a word in a detail of a person adds the weight of that detail to their score, once for each
+ * detail it is in, and the coverage weight once if it is in any, so that persons matching more of the keywords rank
+ * higher than persons matching one keyword in many details.
+ * Guarantees: immutable.
+ */
+public class RelevanceWeights implements Serializable {
+
+    public static final int DEFAULT_COVERAGE_WEIGHT = 10;
+
+    public static final String MESSAGE_CONSTRAINTS = "Relevance weights should not be negative";
+
+    private static final Map<PersonField, Integer> DEFAULT_FIELD_WEIGHTS = new EnumMap<>(PersonField.class);
+
+    static {
+        DEFAULT_FIELD_WEIGHTS.put(PersonField.NRIC, 8);
+        DEFAULT_FIELD_WEIGHTS.put(PersonField.NAME, 6);
+        DEFAULT_FIELD_WEIGHTS.put(PersonField.PHONE, 6);
+        DEFAULT_FIELD_WEIGHTS.put(PersonField.EMAIL, 4);
+        DEFAULT_FIELD_WEIGHTS.put(PersonField.ALLERGY, 3);
+        DEFAULT_FIELD_WEIGHTS.put(PersonField.BLOOD_TYPE, 2);
+        DEFAULT_FIELD_WEIGHTS.put(PersonField.AGE, 1);
+        DEFAULT_FIELD_WEIGHTS.put(PersonField.GENDER, 1);
+    }
+
+    private final Map<PersonField, Integer> fieldWeights;
+    private final int coverageWeight;
+
+    /**
+     * Constructs a {@code RelevanceWeights} with the default weights, which rank identifying details such as the
+     * NRIC and name above details that many persons share.
+     */
+    public RelevanceWeights() {
+        this(DEFAULT_FIELD_WEIGHTS, DEFAULT_COVERAGE_WEIGHT);
+    }
+
+    /**
+     * Constructs a {@code RelevanceWeights} with the given weight for each detail and coverage weight.
+     * Details without a weight in {@code fieldWeights} keep their default weight.
+     */
+    public RelevanceWeights(Map<PersonField, Integer> fieldWeights, int coverageWeight) {
+        requireNonNull(fieldWeights);
+        checkArgument(coverageWeight >= 0, MESSAGE_CONSTRAINTS);
+        Map<PersonField, Integer> weights = new EnumMap<>(DEFAULT_FIELD_WEIGHTS);
+        fieldWeights.forEach((field, weight) -> {
+            requireNonNull(field);
+            checkArgument(weight != null && weight >= 0, MESSAGE_CONSTRAINTS);
+            weights.put(field, weight);
+        });
+        this.fieldWeights = Collections.unmodifiableMap(weights);
+        this.coverageWeight = coverageWeight;
+    }
+
+    /**
+     * Returns the score added for a keyword that is a word in {@code field}.
+     */
+    public int getWeight(PersonField field) {
+        requireNonNull(field);
+        return fieldWeights.getOrDefault(field, DEFAULT_FIELD_WEIGHTS.get(field));
+    }
+
+    /**
+     * Returns the score added for each keyword that is a word in any detail.
+     */
+    public int getCoverageWeight() {
+        return coverageWeight;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RelevanceWeights)) {
+            return false;
+        }
+
+        RelevanceWeights otherRelevanceWeights = (RelevanceWeights) other;
+        for (PersonField field : PersonField.values()) {
+            if (getWeight(field) != otherRelevanceWeights.getWeight(field)) {
+                return false;
+            }
+        }
+        return coverageWeight == otherRelevanceWeights.coverageWeight;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Objects.hash(coverageWeight);
+        for (PersonField field : PersonField.values()) {
+            hash = 31 * hash + getWeight(field);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("fieldWeights", fieldWeights)
+                .add("coverageWeight", coverageWeight)
+                .toString();
+    }
+}
@@ -3,13 +3,19 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.shared.Nric;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +24,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are also indexed by their NRIC, which is what identifies them, so checking for duplicates and looking up a
+ * person by NRIC take constant time.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +36,22 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Nric, Person> personsByNric = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByNric.containsKey(toCheck.getNric());
+    }
+
+    /**
+     * Returns the person in the list with the given {@code nric}, if there is one.
+     */
+    public Optional<Person> findByNric(Nric nric) {
+        requireNonNull(nric);
+        return Optional.ofNullable(personsByNric.get(nric));
     }
 
     /**
@@ -46,6 +64,7 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        personsByNric.put(toAdd.getNric(), toAdd);
     }
 
     /**
@@ -56,8 +75,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!target.equals(personsByNric.get(target.getNric()))) {
             throw new PersonNotFoundException();
         }
 
@@ -65,6 +83,9 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        int index = internalList.indexOf(target);
+        personsByNric.remove(target.getNric());
+        personsByNric.put(editedPerson.getNric(), editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -74,13 +95,17 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!toRemove.equals(personsByNric.get(toRemove.getNric()))) {
             throw new PersonNotFoundException();
         }
+        personsByNric.remove(toRemove.getNric());
+        internalList.remove(toRemove);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        personsByNric.clear();
+        personsByNric.putAll(replacement.personsByNric);
         internalList.setAll(replacement.internalList);
     }
 
@@ -94,6 +119,10 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        personsByNric.clear();
+        for (Person person : persons) {
+            personsByNric.put(person.getNric(), person);
+        }
         internalList.setAll(persons);
     }
 
@@ -138,11 +167,10 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Nric> seenNrics = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenNrics.add(person.getNric())) {
+                return false;
             }
         }
         return true;
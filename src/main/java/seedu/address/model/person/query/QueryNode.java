@@ -0,0 +1,194 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.PersonField;
+
+/**
+ * A node of the syntax tree of a boolean query for persons.
+ * A query is made of terms, each matching the persons with a word in one detail or in any detail, combined with AND,
+ * OR and NOT. Nodes are immutable.
+ */
+public abstract class QueryNode {
+
+    /**
+     * Returns a query that matches the persons that have {@code word} in their {@code field}.
+     */
+    public static QueryNode term(PersonField field, String word) {
+        requireAllNonNull(field, word);
+        return new Term(field, word);
+    }
+
+    /**
+     * Returns a query that matches the persons that have {@code word} in any of their details.
+     */
+    public static QueryNode term(String word) {
+        requireNonNull(word);
+        return new Term(null, word);
+    }
+
+    /**
+     * Returns a query that matches the persons matched by every one of {@code operands}.
+     */
+    public static QueryNode and(List<QueryNode> operands) {
+        requireAllNonNull(operands);
+        return operands.size() == 1 ? operands.get(0) : new And(operands);
+    }
+
+    /**
+     * Returns a query that matches the persons matched by any of {@code operands}.
+     */
+    public static QueryNode or(List<QueryNode> operands) {
+        requireAllNonNull(operands);
+        return operands.size() == 1 ? operands.get(0) : new Or(operands);
+    }
+
+    /**
+     * Returns a query that matches the persons not matched by {@code operand}.
+     */
+    public static QueryNode not(QueryNode operand) {
+        requireNonNull(operand);
+        return new Not(operand);
+    }
+
+    /**
+     * A query that matches the persons with a word in one detail, or in any detail if it has no field.
+     */
+    public static final class Term extends QueryNode {
+        private final PersonField field;
+        private final String word;
+
+        private Term(PersonField field, String word) {
+            this.field = field;
+            this.word = word;
+        }
+
+        public Optional<PersonField> getField() {
+            return Optional.ofNullable(field);
+        }
+
+        public String getWord() {
+            return word;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Term)) {
+                return false;
+            }
+            Term otherTerm = (Term) other;
+            return Objects.equals(field, otherTerm.field) && word.equals(otherTerm.word);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(field, word);
+        }
+
+        @Override
+        public String toString() {
+            return field == null ? word : field + ":" + word;
+        }
+    }
+
+    /**
+     * A query that matches the persons matched by every one of its operands.
+     */
+    public static final class And extends QueryNode {
+        private final List<QueryNode> operands;
+
+        private And(List<QueryNode> operands) {
+            this.operands = Collections.unmodifiableList(new ArrayList<>(operands));
+        }
+
+        public List<QueryNode> getOperands() {
+            return operands;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof And && operands.equals(((And) other).operands));
+        }
+
+        @Override
+        public int hashCode() {
+            return operands.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream().map(QueryNode::toString).collect(Collectors.joining(" AND ", "(", ")"));
+        }
+    }
+
+    /**
+     * A query that matches the persons matched by any of its operands.
+     */
+    public static final class Or extends QueryNode {
+        private final List<QueryNode> operands;
+
+        private Or(List<QueryNode> operands) {
+            this.operands = Collections.unmodifiableList(new ArrayList<>(operands));
+        }
+
+        public List<QueryNode> getOperands() {
+            return operands;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof Or && operands.equals(((Or) other).operands));
+        }
+
+        @Override
+        public int hashCode() {
+            return operands.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream().map(QueryNode::toString).collect(Collectors.joining(" OR ", "(", ")"));
+        }
+    }
+
+    /**
+     * A query that matches the persons not matched by its operand.
+     */
+    public static final class Not extends QueryNode {
+        private final QueryNode operand;
+
+        private Not(QueryNode operand) {
+            this.operand = operand;
+        }
+
+        public QueryNode getOperand() {
+            return operand;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof Not && operand.equals(((Not) other).operand));
+        }
+
+        @Override
+        public int hashCode() {
+            return operand.hashCode() * 31 + 1;
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + operand;
+        }
+    }
+}
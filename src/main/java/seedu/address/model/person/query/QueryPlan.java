@@ -0,0 +1,220 @@
+package seedu.address.model.person.query;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.shared.Nric;
+
+/**
+ * A compiled query for persons: a tree of steps that look words up in a {@code PersonSearchIndex} and combine the
+ * NRICs found, with an estimate of how many persons each step gives and how much work it takes.
+ * The cost of a step is the estimated number of NRICs it visits, counting each index lookup as one.
+ * A plan must be executed before the index it was compiled against changes.
+ */
+public abstract class QueryPlan {
+
+    private static final String INDENT = "  ";
+
+    /**
+     * Returns the estimated number of persons this plan gives.
+     */
+    public abstract long getEstimatedRows();
+
+    /**
+     * Returns the estimated cost of executing this plan, including its steps.
+     */
+    public abstract long getEstimatedCost();
+
+    /**
+     * Returns the NRICs of the persons matched by the query. The set returned may be a view of the index, so it must
+     * not be modified, nor used after the index changes.
+     */
+    public abstract Set<Nric> execute();
+
+    /**
+     * Returns a description of the steps of this plan, one per line, in the order they are executed.
+     */
+    public String explain() {
+        StringBuilder builder = new StringBuilder();
+        describe(builder, "", "");
+        return builder.toString().stripTrailing();
+    }
+
+    /**
+     * Appends a line describing this step, with {@code label} in front, and then the lines describing its steps.
+     */
+    abstract void describe(StringBuilder builder, String indent, String label);
+
+    void describeLine(StringBuilder builder, String indent, String label, String step) {
+        builder.append(indent).append(label).append(step)
+                .append(" (~").append(getEstimatedRows()).append(" persons, cost ").append(getEstimatedCost())
+                .append(")\n");
+    }
+
+    /**
+     * Looks up the persons that have a word, in one detail or in any detail.
+     */
+    static class Lookup extends QueryPlan {
+        private final PersonSearchIndex index;
+        private final QueryNode.Term term;
+        private final long rows;
+
+        Lookup(PersonSearchIndex index, QueryNode.Term term) {
+            this.index = index;
+            this.term = term;
+            this.rows = execute().size();
+        }
+
+        @Override
+        public long getEstimatedRows() {
+            return rows;
+        }
+
+        @Override
+        public long getEstimatedCost() {
+            return 1;
+        }
+
+        @Override
+        public Set<Nric> execute() {
+            return term.getField()
+                    .map(field -> index.getPostings(field, term.getWord()))
+                    .orElseGet(() -> index.getPostings(term.getWord()));
+        }
+
+        @Override
+        void describe(StringBuilder builder, String indent, String label) {
+            describeLine(builder, indent, label, "LOOKUP " + term);
+        }
+    }
+
+    /**
+     * Intersects the persons given by its included steps, starting from the smallest, and then removes the persons
+     * given by its excluded steps. With no included steps, starts from all persons.
+     */
+    static class Intersect extends QueryPlan {
+        private final PersonSearchIndex index;
+        private final List<QueryPlan> included;
+        private final List<QueryPlan> excluded;
+        private final long rows;
+        private final long cost;
+
+        /**
+         * Creates a step that runs {@code included} and then {@code excluded} in the order given.
+         */
+        Intersect(PersonSearchIndex index, List<QueryPlan> included, List<QueryPlan> excluded) {
+            this.index = index;
+            this.included = new ArrayList<>(included);
+            this.excluded = new ArrayList<>(excluded);
+
+            // Estimates assume that the persons matched by different steps are independent of each other
+            long total = Math.max(index.size(), 1);
+            double estimatedRows = included.isEmpty() ? total : included.get(0).getEstimatedRows();
+            long estimatedCost = Math.round(estimatedRows);
+            for (int i = 0; i < included.size(); i++) {
+                QueryPlan step = included.get(i);
+                estimatedCost += step.getEstimatedCost();
+                if (i > 0) {
+                    estimatedCost += Math.round(estimatedRows);
+                    estimatedRows = estimatedRows * step.getEstimatedRows() / total;
+                }
+            }
+            for (QueryPlan step : excluded) {
+                estimatedCost += step.getEstimatedCost() + Math.round(estimatedRows);
+                estimatedRows = estimatedRows * (total - step.getEstimatedRows()) / total;
+            }
+            this.rows = Math.round(estimatedRows);
+            this.cost = estimatedCost;
+        }
+
+        @Override
+        public long getEstimatedRows() {
+            return rows;
+        }
+
+        @Override
+        public long getEstimatedCost() {
+            return cost;
+        }
+
+        @Override
+        public Set<Nric> execute() {
+            Set<Nric> result = new HashSet<>(included.isEmpty() ? index.getIndexedNrics() : included.get(0).execute());
+            for (QueryPlan step : included.subList(Math.min(1, included.size()), included.size())) {
+                if (result.isEmpty()) {
+                    return result;
+                }
+                result.retainAll(step.execute());
+            }
+            for (QueryPlan step : excluded) {
+                if (result.isEmpty()) {
+                    return result;
+                }
+                result.removeAll(step.execute());
+            }
+            return result;
+        }
+
+        @Override
+        void describe(StringBuilder builder, String indent, String label) {
+            describeLine(builder, indent, label, included.isEmpty() ? "ALL PERSONS" : "INTERSECT");
+            for (QueryPlan step : included) {
+                step.describe(builder, indent + INDENT, "");
+            }
+            for (QueryPlan step : excluded) {
+                step.describe(builder, indent + INDENT, "EXCEPT ");
+            }
+        }
+    }
+
+    /**
+     * Unites the persons given by its steps.
+     */
+    static class Union extends QueryPlan {
+        private final List<QueryPlan> steps;
+        private final long rows;
+        private final long cost;
+
+        Union(PersonSearchIndex index, List<QueryPlan> steps) {
+            this.steps = new ArrayList<>(steps);
+            long estimatedRows = 0;
+            long estimatedCost = 0;
+            for (QueryPlan step : steps) {
+                estimatedRows += step.getEstimatedRows();
+                estimatedCost += step.getEstimatedCost() + step.getEstimatedRows();
+            }
+            this.rows = Math.min(estimatedRows, index.size());
+            this.cost = estimatedCost;
+        }
+
+        @Override
+        public long getEstimatedRows() {
+            return rows;
+        }
+
+        @Override
+        public long getEstimatedCost() {
+            return cost;
+        }
+
+        @Override
+        public Set<Nric> execute() {
+            Set<Nric> result = new HashSet<>();
+            for (QueryPlan step : steps) {
+                result.addAll(step.execute());
+            }
+            return result;
+        }
+
+        @Override
+        void describe(StringBuilder builder, String indent, String label) {
+            describeLine(builder, indent, label, "UNION");
+            for (QueryPlan step : steps) {
+                step.describe(builder, indent + INDENT, "");
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.model.person.PersonSearchIndex;
+
+/**
+ * Compiles queries for persons into plans that run against a {@code PersonSearchIndex}.
+ * Nested ANDs and ORs are flattened, and a NOT under an AND becomes a removal from the intersection instead of a
+ * complement of all persons. The operands of an AND are intersected from the one expected to give the fewest persons,
+ * so that each later intersection only visits the persons still left, and its removals are made from the one expected
+ * to remove the most.
+ */
+public class QueryPlanner {
+
+    private final PersonSearchIndex index;
+
+    public QueryPlanner(PersonSearchIndex index) {
+        requireNonNull(index);
+        this.index = index;
+    }
+
+    /**
+     * Returns a plan that finds the persons matched by {@code query}.
+     */
+    public QueryPlan plan(QueryNode query) {
+        requireNonNull(query);
+        if (query instanceof QueryNode.Term) {
+            return new QueryPlan.Lookup(index, (QueryNode.Term) query);
+        } else if (query instanceof QueryNode.And) {
+            return planAnd(((QueryNode.And) query).getOperands());
+        } else if (query instanceof QueryNode.Or) {
+            return planOr(((QueryNode.Or) query).getOperands());
+        } else {
+            return planAnd(List.of(query));
+        }
+    }
+
+    private QueryPlan planAnd(List<QueryNode> operands) {
+        List<QueryPlan> included = new ArrayList<>();
+        List<QueryPlan> excluded = new ArrayList<>();
+        for (QueryNode operand : flattenAnd(operands)) {
+            if (operand instanceof QueryNode.Not) {
+                QueryNode negated = ((QueryNode.Not) operand).getOperand();
+                if (negated instanceof QueryNode.Not) {
+                    included.add(plan(((QueryNode.Not) negated).getOperand()));
+                } else {
+                    excluded.add(plan(negated));
+                }
+            } else {
+                included.add(plan(operand));
+            }
+        }
+        if (included.size() == 1 && excluded.isEmpty()) {
+            return included.get(0);
+        }
+        included.sort(Comparator.comparingLong(QueryPlan::getEstimatedRows));
+        excluded.sort(Comparator.comparingLong(QueryPlan::getEstimatedRows).reversed());
+        return new QueryPlan.Intersect(index, included, excluded);
+    }
+
+    private QueryPlan planOr(List<QueryNode> operands) {
+        List<QueryPlan> steps = new ArrayList<>();
+        for (QueryNode operand : flattenOr(operands)) {
+            steps.add(plan(operand));
+        }
+        return new QueryPlan.Union(index, steps);
+    }
+
+    private static List<QueryNode> flattenAnd(List<QueryNode> operands) {
+        List<QueryNode> flattened = new ArrayList<>();
+        for (QueryNode operand : operands) {
+            if (operand instanceof QueryNode.And) {
+                flattened.addAll(flattenAnd(((QueryNode.And) operand).getOperands()));
+            } else {
+                flattened.add(operand);
+            }
+        }
+        return flattened;
+    }
+
+    private static List<QueryNode> flattenOr(List<QueryNode> operands) {
+        List<QueryNode> flattened = new ArrayList<>();
+        for (QueryNode operand : operands) {
+            if (operand instanceof QueryNode.Or) {
+                flattened.addAll(flattenOr(((QueryNode.Or) operand).getOperands()));
+            } else {
+                flattened.add(operand);
+            }
+        }
+        return flattened;
+    }
+}
@@ -9,12 +9,7 @@ import java.util.List;
 import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.logic.commands.EditRecordCommand;
-import seedu.address.model.Model;
-import seedu.address.model.ModelManager;
 import seedu.address.model.shared.DateTime;
-import seedu.address.storage.Storage;
-import seedu.address.storage.StorageManager;
 
 /**
  * Record of condition of a patient and date and time in which a patient visits
@@ -25,7 +20,7 @@ public class Record {
     private final List<Condition> conditions = new ArrayList<>();
     private final List<Medication> medications = new ArrayList<>();
     private final DateTime dateTime;
-    private Path filePath;
+    private final Path filePath;
     private final Integer personIndex;
 
     /**
@@ -57,21 +52,6 @@ public class Record {
         return filePath; // Getter for the file path
     }
 
-    // Set the filePath. This is the new setter method
-    public void setFilePath(Path filePath, int displayedIndex) {
-        requireAllNonNull(filePath); // Ensure the provided filePath is not null
-        this.filePath = filePath;
-        Model model = ModelManager.getInstance();
-        EditRecordCommand.EditRecordDescriptor editRecordDescriptor = new EditRecordCommand.EditRecordDescriptor();
-        editRecordDescriptor.setFilePath(filePath);
-        try {
-            Storage storage = StorageManager.getInstance();
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (Exception c) {
-            c.printStackTrace();
-        }
-    }
-
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
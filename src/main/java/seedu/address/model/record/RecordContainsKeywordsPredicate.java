@@ -3,29 +3,64 @@ package seedu.address.model.record;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.commons.util.WordMatcher;
 
 /**
  * Tests that a {@code Record} matches any of the keywords given.
  */
 public class RecordContainsKeywordsPredicate implements Predicate<Record> {
     private final List<String> keywords;
+    private final WordMatcher[] matchers;
     public RecordContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matchers = new WordMatcher[keywords.size()];
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
     @Override
     public boolean test(Record record) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(record.getDateTime().toString(), keyword)
-                        ||
-                        record.getConditions().stream()
-                                .anyMatch(condition -> StringUtil.containsWordIgnoreCase(condition.condition, keyword))
-                        ||
-                        record.getMedications().stream()
-                                .anyMatch(medication -> StringUtil.containsWordIgnoreCase(medication.medication,
-                                        keyword)));
+        if (matchers.length == 0) {
+            return false;
+        }
+        // The date is formatted once for all keywords
+        String dateTime = record.getDateTime().toString();
+        for (int i = 0; i < matchers.length; i++) {
+            WordMatcher matcher = getMatcher(i);
+            if (matcher.matches(dateTime) || matchesConditionOrMedication(record, matcher)) {
+                return true;
+            }
+        }
+        return false;
     }
+
+    private static boolean matchesConditionOrMedication(Record record, WordMatcher matcher) {
+        for (Condition condition : record.getConditions()) {
+            if (matcher.matches(condition.condition)) {
+                return true;
+            }
+        }
+        for (Medication medication : record.getMedications()) {
+            if (matcher.matches(medication.medication)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the matcher for the keyword at {@code index}, created when it is first needed and reused for every
+     * record after that.
+     */
+    private WordMatcher getMatcher(int index) {
+        if (matchers[index] == null) {
+            matchers[index] = new WordMatcher(keywords.get(index));
+        }
+        return matchers[index];
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -38,6 +73,10 @@ public class RecordContainsKeywordsPredicate implements Predicate<Record> {
         return keywords.equals(otherRecordContainsKeywordsPredicate.keywords);
     }
     @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+    @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("keywords", keywords)
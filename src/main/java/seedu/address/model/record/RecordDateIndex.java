@@ -0,0 +1,121 @@
+package seedu.address.model.record;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.shared.DateTime;
+import seedu.address.model.shared.Nric;
+
+/**
+ * An index of the records of all persons by the minute at which they were made, both for each person and across all
+ * persons.
+ * Finding the records within a period takes O(log n) time plus the number of records found, and dates are compared
+ * as numbers of minutes without being formatted.
+ * Persons are identified in the index by their NRIC.
+ */
+public class RecordDateIndex {
+
+    private final NavigableMap<Long, Map<Nric, List<Record>>> recordsByMinute = new TreeMap<>();
+    private final Map<Nric, NavigableMap<Long, List<Record>>> recordsByPerson = new HashMap<>();
+
+    /**
+     * Replaces the contents of this index with the records of {@code persons}.
+     */
+    public void setPersons(Collection<Person> persons) {
+        requireAllNonNull(persons);
+        recordsByMinute.clear();
+        recordsByPerson.clear();
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Removes the records of {@code removed} from this index and then adds the records of {@code added} to it.
+     */
+    public void update(Collection<Person> removed, Collection<Person> added) {
+        requireAllNonNull(removed);
+        requireAllNonNull(added);
+        for (Person person : removed) {
+            remove(person.getNric());
+        }
+        for (Person person : added) {
+            add(person);
+        }
+    }
+
+    /**
+     * Returns the records of all persons made from {@code start} to {@code end}, both inclusive, grouped by the NRIC
+     * of the person they belong to. The records of each person are in chronological order.
+     */
+    public Map<Nric, List<Record>> getRecordsBetween(DateTime start, DateTime end) {
+        requireAllNonNull(start, end);
+        Map<Nric, List<Record>> recordsFound = new LinkedHashMap<>();
+        if (start.toEpochMinute() > end.toEpochMinute()) {
+            return recordsFound;
+        }
+        for (Map<Nric, List<Record>> recordsInMinute : recordsByMinute
+                .subMap(start.toEpochMinute(), true, end.toEpochMinute(), true).values()) {
+            recordsInMinute.forEach((nric, records) ->
+                    recordsFound.computeIfAbsent(nric, unused -> new ArrayList<>()).addAll(records));
+        }
+        return recordsFound;
+    }
+
+    /**
+     * Returns the records of the person with the given {@code nric} made from {@code start} to {@code end}, both
+     * inclusive, in chronological order.
+     */
+    public List<Record> getRecordsBetween(Nric nric, DateTime start, DateTime end) {
+        requireAllNonNull(nric, start, end);
+        List<Record> recordsFound = new ArrayList<>();
+        NavigableMap<Long, List<Record>> recordsOfPerson = recordsByPerson.get(nric);
+        if (recordsOfPerson == null || start.toEpochMinute() > end.toEpochMinute()) {
+            return recordsFound;
+        }
+        for (List<Record> recordsInMinute : recordsOfPerson
+                .subMap(start.toEpochMinute(), true, end.toEpochMinute(), true).values()) {
+            recordsFound.addAll(recordsInMinute);
+        }
+        return recordsFound;
+    }
+
+    private void add(Person person) {
+        Nric nric = person.getNric();
+        List<Record> records = person.getRecords().asUnmodifiableList();
+        if (records.isEmpty()) {
+            return;
+        }
+        NavigableMap<Long, List<Record>> recordsOfPerson = new TreeMap<>();
+        for (Record record : records) {
+            long minute = record.getDateTime().toEpochMinute();
+            recordsOfPerson.computeIfAbsent(minute, unused -> new ArrayList<>()).add(record);
+        }
+        recordsByPerson.put(nric, recordsOfPerson);
+        recordsOfPerson.forEach((minute, recordsInMinute) ->
+                recordsByMinute.computeIfAbsent(minute, unused -> new LinkedHashMap<>()).put(nric, recordsInMinute));
+    }
+
+    private void remove(Nric nric) {
+        NavigableMap<Long, List<Record>> recordsOfPerson = recordsByPerson.remove(nric);
+        if (recordsOfPerson == null) {
+            return;
+        }
+        for (Long minute : recordsOfPerson.keySet()) {
+            Map<Nric, List<Record>> recordsInMinute = recordsByMinute.get(minute);
+            recordsInMinute.remove(nric);
+            if (recordsInMinute.isEmpty()) {
+                recordsByMinute.remove(minute);
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package seedu.address.model.record;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.shared.Nric;
+import seedu.address.model.shared.TrigramDictionary;
+
+/**
+ * An inverted index from the words in the conditions and medications of the records of all persons to the records,
+ * and the persons they belong to, that have them.
+ * Words are matched ignoring case, so looking up a word takes time in proportion to the number of records found
+ * rather than to the number of records in the index.
+ * Persons are identified in the index by their NRIC.
+ * The indexed words are also kept in a {@code TrigramDictionary}, so that misspelt keywords can be corrected to them.
+ */
+public class RecordSearchIndex {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, Map<Nric, List<Record>>> recordsByWord = new HashMap<>();
+    private final Map<Nric, List<Record>> indexedRecords = new HashMap<>();
+    private final TrigramDictionary dictionary = new TrigramDictionary();
+
+    /**
+     * Replaces the contents of this index with the records of {@code persons}.
+     */
+    public void setPersons(Collection<Person> persons) {
+        requireAllNonNull(persons);
+        recordsByWord.clear();
+        indexedRecords.clear();
+        dictionary.clear();
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Removes the records of {@code removed} from this index and then adds the records of {@code added} to it.
+     */
+    public void update(Collection<Person> removed, Collection<Person> added) {
+        requireAllNonNull(removed);
+        requireAllNonNull(added);
+        for (Person person : removed) {
+            remove(person.getNric());
+        }
+        for (Person person : added) {
+            add(person);
+        }
+    }
+
+    /**
+     * Returns the records that have any of {@code keywords} as a word in their conditions or medications, grouped by
+     * the NRIC of the person they belong to.
+     */
+    public Map<Nric, List<Record>> findAny(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        Map<Nric, Set<Record>> matches = new LinkedHashMap<>();
+        for (String keyword : keywords) {
+            Map<Nric, List<Record>> postings = recordsByWord.getOrDefault(normalize(keyword), Collections.emptyMap());
+            for (Map.Entry<Nric, List<Record>> entry : postings.entrySet()) {
+                matches.computeIfAbsent(entry.getKey(), unused -> new LinkedHashSet<>()).addAll(entry.getValue());
+            }
+        }
+
+        Map<Nric, List<Record>> matchesByNric = new LinkedHashMap<>();
+        matches.forEach((nric, records) -> matchesByNric.put(nric, new ArrayList<>(records)));
+        return matchesByNric;
+    }
+
+    /**
+     * Returns the words, in lower case, in the conditions and medications of any record that are within a few edits
+     * of any of {@code keywords}. How many edits are allowed depends on the length of each keyword, as given by
+     * {@link TrigramDictionary#getMaxDistance(int)}.
+     */
+    public Set<String> findSimilarWords(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        Set<String> similarWords = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            String word = normalize(keyword);
+            similarWords.addAll(dictionary.findSimilar(word, TrigramDictionary.getMaxDistance(word.length())).keySet());
+        }
+        return similarWords;
+    }
+
+    /**
+     * Returns the distinct words, in lower case, in the conditions and medications of {@code record}.
+     */
+    public static Set<String> getWords(Record record) {
+        Set<String> words = new HashSet<>();
+        for (Condition condition : record.getConditions()) {
+            addWords(words, condition.condition);
+        }
+        for (Medication medication : record.getMedications()) {
+            addWords(words, medication.medication);
+        }
+        return words;
+    }
+
+    private static String normalize(String keyword) {
+        return keyword.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void addWords(Set<String> words, String detail) {
+        for (String word : WHITESPACE.split(detail)) {
+            if (!word.isEmpty()) {
+                words.add(normalize(word));
+            }
+        }
+    }
+
+    private void add(Person person) {
+        Nric nric = person.getNric();
+        List<Record> records = person.getRecords().asUnmodifiableList();
+        if (records.isEmpty()) {
+            return;
+        }
+        indexedRecords.put(nric, records);
+        for (Record record : records) {
+            for (String word : getWords(record)) {
+                recordsByWord.computeIfAbsent(word, unused -> {
+                    dictionary.add(word);
+                    return new HashMap<>();
+                })
+                        .computeIfAbsent(nric, unused -> new ArrayList<>())
+                        .add(record);
+            }
+        }
+    }
+
+    private void remove(Nric nric) {
+        List<Record> records = indexedRecords.remove(nric);
+        if (records == null) {
+            return;
+        }
+        Set<String> words = new HashSet<>();
+        for (Record record : records) {
+            words.addAll(getWords(record));
+        }
+        for (String word : words) {
+            Map<Nric, List<Record>> postings = recordsByWord.get(word);
+            postings.remove(nric);
+            if (postings.isEmpty()) {
+                recordsByWord.remove(word);
+                dictionary.remove(word);
+            }
+        }
+    }
+}
@@ -3,11 +3,14 @@ package seedu.address.model.record;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentVector;
 import seedu.address.model.record.exceptions.DuplicateRecordException;
 import seedu.address.model.record.exceptions.RecordNotFoundException;
 
@@ -20,35 +23,38 @@ import seedu.address.model.record.exceptions.RecordNotFoundException;
  * record being added, updated, removed is
  * unique in terms of identity in the UniqueRecordList.
  *
+ * The records are held in a {@code PersistentVector}, so copying a list shares its records instead of copying them,
+ * and an observable view of the list is only created once it is asked for.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Record#equals(Object)
  */
 public class UniqueRecordList implements Iterable<Record> {
-    private final ObservableList<Record> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Record> internalUnmodifiableList = FXCollections
-            .unmodifiableObservableList(internalList);
+    private PersistentVector<Record> internalRecords = PersistentVector.empty();
+    private ObservableList<Record> internalList;
+    private ObservableList<Record> internalUnmodifiableList;
 
     /**
      * Returns true if the list contains an equivalent record as the given argument.
      */
     public boolean contains(Record toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return internalRecords.contains(toCheck);
     }
 
     /**
      * Returns a record at a specified index.
      */
     public Record get(int index) {
-        return internalList.get(index);
+        return internalRecords.get(index);
     }
 
     /**
      * Returns the size of the internalList
      */
     public int size() {
-        return internalList.size();
+        return internalRecords.size();
     }
 
     /**
@@ -59,7 +65,10 @@ public class UniqueRecordList implements Iterable<Record> {
         if (contains(recordToAdd)) {
             throw new DuplicateRecordException();
         }
-        internalList.add(recordToAdd);
+        internalRecords = internalRecords.plus(recordToAdd);
+        if (internalList != null) {
+            internalList.add(recordToAdd);
+        }
     }
 
     /**
@@ -72,7 +81,7 @@ public class UniqueRecordList implements Iterable<Record> {
     public void setRecord(Record target, Record editedRecord) {
         requireAllNonNull(target, editedRecord);
 
-        int index = internalList.indexOf(target);
+        int index = internalRecords.indexOf(target);
         if (index == -1) {
             throw new RecordNotFoundException();
         }
@@ -81,7 +90,10 @@ public class UniqueRecordList implements Iterable<Record> {
             throw new DuplicateRecordException();
         }
 
-        internalList.set(index, editedRecord);
+        internalRecords = internalRecords.with(index, editedRecord);
+        if (internalList != null) {
+            internalList.set(index, editedRecord);
+        }
     }
 
     /**
@@ -90,14 +102,25 @@ public class UniqueRecordList implements Iterable<Record> {
      */
     public void remove(Record recordToRemove) {
         requireNonNull(recordToRemove);
-        if (!internalList.remove(recordToRemove)) {
+        int index = internalRecords.indexOf(recordToRemove);
+        if (index == -1) {
             throw new RecordNotFoundException();
         }
+
+        internalRecords = internalRecords.minus(index);
+        if (internalList != null) {
+            internalList.remove(index);
+        }
     }
 
+    /**
+     * Replaces the contents of this list with those of {@code replacement}.
+     * The records are shared with {@code replacement} rather than copied, so this takes constant time unless this
+     * list is being observed.
+     */
     public void setRecords(UniqueRecordList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceAll(replacement.internalRecords);
     }
 
     /**
@@ -110,16 +133,31 @@ public class UniqueRecordList implements Iterable<Record> {
             throw new DuplicateRecordException();
         }
 
-        internalList.setAll(records);
+        replaceAll(PersistentVector.copyOf(records));
+    }
+
+    /**
+     * Returns the records as an unmodifiable {@code List}, without creating an observable view of them.
+     */
+    public List<Record> asUnmodifiableList() {
+        return internalRecords;
     }
 
+    /**
+     * Returns the backing list as an unmodifiable {@code ObservableList}, which is kept up to date with later
+     * changes to this list.
+     */
     public ObservableList<Record> asUnmodifiableObservableList() {
+        if (internalList == null) {
+            internalList = FXCollections.observableArrayList(internalRecords);
+            internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+        }
         return internalUnmodifiableList;
     }
 
     @Override
     public Iterator<Record> iterator() {
-        return internalList.iterator();
+        return internalRecords.iterator();
     }
 
     @Override
@@ -134,28 +172,34 @@ public class UniqueRecordList implements Iterable<Record> {
         }
 
         UniqueRecordList otherUniqueRecordList = (UniqueRecordList) other;
-        return internalList.equals(otherUniqueRecordList.internalList);
+        return internalRecords.equals(otherUniqueRecordList.internalRecords);
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return internalRecords.hashCode();
     }
 
     @Override
     public String toString() {
-        return internalList.toString();
+        return internalRecords.toString();
+    }
+
+    private void replaceAll(PersistentVector<Record> records) {
+        internalRecords = records;
+        if (internalList != null) {
+            internalList.setAll(records);
+        }
     }
 
     /**
      * Returns true if {@code records} contains only unique records.
      */
     private boolean recordsAreUnique(List<Record> records) {
-        for (int i = 0; i < records.size() - 1; i++) {
-            for (int j = i + 1; j < records.size(); j++) {
-                if (records.get(i).equals(records.get(j))) {
-                    return false;
-                }
+        Set<Record> seenRecords = new HashSet<>();
+        for (Record record : records) {
+            if (!seenRecords.add(record)) {
+                return false;
             }
         }
         return true;
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
@@ -16,6 +17,9 @@ public class DateTime {
 
     public static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd-MM-uuuu HHmm")
             .withResolverStyle(ResolverStyle.STRICT);
+
+    private static final long SECONDS_PER_MINUTE = 60;
+
     public final LocalDateTime dateTime;
 
     /**
@@ -41,6 +45,14 @@ public class DateTime {
         }
     }
 
+    /**
+     * Returns the number of minutes from the epoch of 1970-01-01T00:00 to this date and time.
+     * Date-times are only precise to the minute, so this identifies them uniquely and orders them chronologically.
+     */
+    public long toEpochMinute() {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) / SECONDS_PER_MINUTE;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,149 @@
+package seedu.address.model.shared;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A dictionary of words that finds the words within a small edit distance of a given word.
+ * Each word is indexed by its trigrams, the runs of three characters in it after padding it with spaces. A word within
+ * edit distance {@code d} of another shares all but at most {@code 3d} of its distinct trigrams, so only the words
+ * under the {@code 3d + 1} rarest trigrams of the word looked up can match, and only those are compared in full.
+ * Finding similar words therefore takes time in proportion to the sizes of a few trigram lists rather than to the
+ * number of words in the dictionary.
+ */
+public class TrigramDictionary {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final String START_PADDING = "  ";
+    private static final String END_PADDING = " ";
+
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+    private final Set<String> words = new HashSet<>();
+
+    /**
+     * Returns the largest edit distance at which a word of {@code length} characters is considered similar to another.
+     * Words of one or two characters must match exactly, as almost any other short word is one edit away.
+     */
+    public static int getMaxDistance(int length) {
+        if (length <= 2) {
+            return 0;
+        }
+        return length <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Adds {@code word} to this dictionary, if it is not in it already.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        if (!words.add(word)) {
+            return;
+        }
+        for (String trigram : getTrigrams(word)) {
+            wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+        }
+    }
+
+    /**
+     * Removes {@code word} from this dictionary, if it is in it.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        if (!words.remove(word)) {
+            return;
+        }
+        for (String trigram : getTrigrams(word)) {
+            Set<String> wordsWithTrigram = wordsByTrigram.get(trigram);
+            wordsWithTrigram.remove(word);
+            if (wordsWithTrigram.isEmpty()) {
+                wordsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Removes all words from this dictionary.
+     */
+    public void clear() {
+        words.clear();
+        wordsByTrigram.clear();
+    }
+
+    /**
+     * Returns true if {@code word} is in this dictionary.
+     */
+    public boolean contains(String word) {
+        return words.contains(word);
+    }
+
+    /**
+     * Returns the number of words in this dictionary.
+     */
+    public int size() {
+        return words.size();
+    }
+
+    /**
+     * Returns the words in this dictionary within {@code maxDistance} edits of {@code word}, including {@code word}
+     * itself if it is in the dictionary, each mapped to its edit distance from {@code word}.
+     */
+    public Map<String, Integer> findSimilar(String word, int maxDistance) {
+        requireNonNull(word);
+        Map<String, Integer> similarWords = new HashMap<>();
+        if (maxDistance <= 0) {
+            if (words.contains(word)) {
+                similarWords.put(word, 0);
+            }
+            return similarWords;
+        }
+
+        for (String candidate : getCandidates(word, maxDistance)) {
+            int distance = StringUtil.getEditDistance(word, candidate, maxDistance);
+            if (distance <= maxDistance) {
+                similarWords.put(candidate, distance);
+            }
+        }
+        return similarWords;
+    }
+
+    /**
+     * Returns the words that share enough trigrams with {@code word} to be within {@code maxDistance} edits of it.
+     */
+    private Collection<String> getCandidates(String word, int maxDistance) {
+        List<String> trigrams = new ArrayList<>(getTrigrams(word));
+        int minimumShared = trigrams.size() - GRAM_LENGTH * maxDistance;
+        if (minimumShared <= 0) {
+            // Too short for the trigrams to rule anything out
+            return words;
+        }
+
+        trigrams.sort(Comparator.comparingInt(trigram ->
+                wordsByTrigram.getOrDefault(trigram, Collections.emptySet()).size()));
+        Set<String> candidates = new HashSet<>();
+        for (String trigram : trigrams.subList(0, trigrams.size() - minimumShared + 1)) {
+            candidates.addAll(wordsByTrigram.getOrDefault(trigram, Collections.emptySet()));
+        }
+        return candidates;
+    }
+
+    private static Set<String> getTrigrams(String word) {
+        String padded = START_PADDING + word + END_PADDING;
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
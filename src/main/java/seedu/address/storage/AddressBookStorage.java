@@ -42,4 +42,13 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Blocks until every save requested so far has been written.
+     * Storages that write synchronously have nothing to wait for.
+     *
+     * @throws IOException if there was any problem writing a pending save to the file.
+     */
+    default void flush() throws IOException {
+    }
+
 }
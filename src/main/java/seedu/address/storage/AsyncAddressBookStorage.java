@@ -0,0 +1,162 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Saves AddressBook data through another {@code AddressBookStorage} on a single background thread, so that the
+ * thread requesting a save does not wait for the disk.
+ * A save only takes a snapshot of the address book's persons on the calling thread. Saves requested while an earlier
+ * one is still waiting to be written are merged, so that only the latest snapshot is written.
+ * Failures of background saves are passed to the failure handler, since the caller has already moved on.
+ */
+public class AsyncAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookStorage.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final Consumer<IOException> failureHandler;
+    private final ExecutorService writer;
+    private final AtomicReference<ReadOnlyAddressBook> pendingSnapshot = new AtomicReference<>();
+
+    /**
+     * Creates an {@code AsyncAddressBookStorage} that writes through {@code addressBookStorage} and reports failed
+     * background saves to {@code failureHandler}. The handler is called on the background thread.
+     */
+    public AsyncAddressBookStorage(AddressBookStorage addressBookStorage, Consumer<IOException> failureHandler) {
+        requireNonNull(addressBookStorage);
+        requireNonNull(failureHandler);
+        this.addressBookStorage = addressBookStorage;
+        this.failureHandler = failureHandler;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return addressBookStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        try {
+            flush();
+        } catch (IOException e) {
+            logger.warning("Pending save failed before reading " + filePath + ": " + StringUtil.getDetails(e));
+        }
+        return addressBookStorage.readAddressBook(filePath);
+    }
+
+    /**
+     * Schedules {@code addressBook}, as it is now, to be saved in the background, and returns immediately.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        ReadOnlyAddressBook snapshot = takeSnapshot(addressBook);
+        if (pendingSnapshot.getAndSet(snapshot) == null) {
+            writer.execute(this::writePendingSnapshot);
+        } else {
+            logger.fine("Merged save into the one already waiting to be written");
+        }
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code filePath}.
+     * Saves to the storage's own file are done in the background; saves to any other file wait for all pending
+     * saves and are then written immediately.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        flush();
+        addressBookStorage.saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        Future<?> flushed = writer.submit(() -> {
+            ReadOnlyAddressBook snapshot = pendingSnapshot.getAndSet(null);
+            if (snapshot != null) {
+                addressBookStorage.saveAddressBook(snapshot);
+            }
+            addressBookStorage.flush();
+            return null;
+        });
+
+        try {
+            flushed.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for pending saves");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Writes the latest snapshot, if it has not been written yet. Runs on the background thread.
+     */
+    private void writePendingSnapshot() {
+        ReadOnlyAddressBook snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            addressBookStorage.saveAddressBook(snapshot);
+        } catch (IOException e) {
+            logger.warning("Background save failed: " + StringUtil.getDetails(e));
+            failureHandler.accept(e);
+        } catch (RuntimeException e) {
+            logger.severe("Background save failed: " + StringUtil.getDetails(e));
+            failureHandler.accept(new IOException(e));
+        }
+    }
+
+    /**
+     * Returns an address book holding the persons currently in {@code addressBook}.
+     * Persons are immutable, so copying the list is enough to keep the snapshot unaffected by later changes.
+     */
+    private static ReadOnlyAddressBook takeSnapshot(ReadOnlyAddressBook addressBook) {
+        ObservableList<Person> persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getPersonList()));
+        return () -> persons;
+    }
+}
@@ -0,0 +1,232 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus a write-ahead journal on the hard disk.
+ * Each save appends only the patients that changed since the previous save to the journal. The whole address book
+ * is written to the snapshot at checkpoints, after which the journal is cleared. When reading, the journal is
+ * replayed over the snapshot.
+ * Reading from or saving to any file other than the snapshot is done as a plain json import or export.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path journalFilePath;
+    private final int checkpointInterval;
+    private final JsonAddressBookStorage snapshotStorage;
+    private final PersonChangeTracker changeTracker = new PersonChangeTracker();
+    private int entriesSinceCheckpoint = 0;
+
+    /**
+     * Constructs a new JournalAddressBookStorage that keeps its snapshot at {@code filePath}.
+     */
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, StorageSettings.DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Constructs a new JournalAddressBookStorage that keeps its snapshot at {@code filePath} and writes a new
+     * snapshot after every {@code checkpointInterval} journal entries.
+     */
+    public JournalAddressBookStorage(Path filePath, int checkpointInterval) {
+        this(new JsonAddressBookStorage(filePath), checkpointInterval);
+    }
+
+    /**
+     * Constructs a new JournalAddressBookStorage that writes its snapshots through {@code snapshotStorage} after
+     * every {@code checkpointInterval} journal entries. The journal is kept next to the snapshot.
+     */
+    public JournalAddressBookStorage(JsonAddressBookStorage snapshotStorage, int checkpointInterval) {
+        requireNonNull(snapshotStorage);
+        checkArgument(checkpointInterval > 0, StorageSettings.MESSAGE_CHECKPOINT_INTERVAL_CONSTRAINTS);
+        this.filePath = snapshotStorage.getAddressBookFilePath();
+        this.journalFilePath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_EXTENSION);
+        this.checkpointInterval = checkpointInterval;
+        this.snapshotStorage = snapshotStorage;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            snapshot.ifPresent(addressBook -> markPersisted(addressBook.getPersonList(), 0));
+            return snapshot;
+        }
+
+        List<Person> persons = new ArrayList<>();
+        snapshot.ifPresent(addressBook -> persons.addAll(addressBook.getPersonList()));
+        List<String> entries = readJournalEntries();
+        int entriesReplayed = replayJournal(entries, persons);
+        logger.info("Replayed " + entriesReplayed + " journal entries from " + journalFilePath);
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (RuntimeException e) {
+            throw new DataLoadingException(e);
+        }
+        // Nothing may be appended after an incomplete entry, so the next save writes a checkpoint instead
+        markPersisted(persons, entriesReplayed < entries.size() ? checkpointInterval : entriesReplayed);
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (filePath.equals(this.filePath)) {
+            return readAddressBook();
+        }
+        return snapshotStorage.readAddressBook(filePath);
+    }
+
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        List<Person> persons = addressBook.getPersonList();
+
+        if (!changeTracker.hasBaseline() || entriesSinceCheckpoint >= checkpointInterval) {
+            checkpoint(addressBook);
+            return;
+        }
+
+        PersonChangeTracker.Changes changes = changeTracker.diff(persons);
+        if (!changes.isOrderPreserved()) {
+            checkpoint(addressBook);
+            return;
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        appendToJournal(new JsonAdaptedJournalEntry(changes, persons));
+        markPersisted(persons, entriesSinceCheckpoint + 1);
+    }
+
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (filePath.equals(this.filePath)) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Writes the whole of {@code addressBook} to the snapshot and clears the journal.
+     * The journal is only deleted after the snapshot is written, so that replaying it again after a crash in between
+     * is harmless.
+     */
+    private void checkpoint(ReadOnlyAddressBook addressBook) throws IOException {
+        changeTracker.clear();
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        Files.deleteIfExists(journalFilePath);
+        markPersisted(addressBook.getPersonList(), 0);
+        logger.fine("Wrote checkpoint of " + addressBook.getPersonList().size() + " persons to " + filePath);
+    }
+
+    /**
+     * Appends {@code entry} to the journal as a single line and forces it to disk.
+     */
+    private void appendToJournal(JsonAdaptedJournalEntry entry) throws IOException {
+        changeTracker.clear();
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        byte[] line = (JsonUtil.toCompactJsonString(entry) + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Returns the non-blank lines of the journal, each of which holds one entry.
+     */
+    private List<String> readJournalEntries() throws DataLoadingException {
+        List<String> entries = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().isEmpty()) {
+                    entries.add(line);
+                }
+            }
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        return entries;
+    }
+
+    /**
+     * Applies {@code entries} to {@code persons} in order and returns the number of entries applied.
+     * A malformed last entry is assumed to be an append that was interrupted, and is ignored.
+     */
+    private int replayJournal(List<String> entries, List<Person> persons) throws DataLoadingException {
+        for (int i = 0; i < entries.size(); i++) {
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(entries.get(i), JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i == entries.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry of journal " + journalFilePath);
+                    return i;
+                }
+                throw new DataLoadingException(e);
+            }
+
+            try {
+                entry.applyTo(persons);
+            } catch (IllegalValueException e) {
+                throw new DataLoadingException(e);
+            }
+        }
+        return entries.size();
+    }
+
+    private void markPersisted(List<Person> persons, int entriesSinceCheckpoint) {
+        changeTracker.markPersisted(persons);
+        this.entriesSinceCheckpoint = entriesSinceCheckpoint;
+    }
+}
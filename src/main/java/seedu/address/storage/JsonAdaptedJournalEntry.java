@@ -0,0 +1,104 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.shared.Nric;
+
+/**
+ * Jackson-friendly version of one save's worth of changes to the address book, as stored in the journal.
+ * Removals are applied first, followed by the upserts in ascending order of their positions.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+
+    private final List<String> removed = new ArrayList<>();
+    private final List<Upsert> upserted = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given changes.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("removed") List<String> removed,
+            @JsonProperty("upserted") List<Upsert> upserted) {
+        if (removed != null) {
+            this.removed.addAll(removed);
+        }
+        if (upserted != null) {
+            this.upserted.addAll(upserted);
+        }
+    }
+
+    /**
+     * Converts the given {@code changes} to {@code persons} into this class for Jackson use.
+     */
+    public JsonAdaptedJournalEntry(PersonChangeTracker.Changes changes, List<Person> persons) {
+        for (Nric nric : changes.getRemovedNrics()) {
+            removed.add(nric.nric);
+        }
+        for (int index : changes.getChangedIndexes()) {
+            upserted.add(new Upsert(index, new JsonAdaptedPerson(persons.get(index))));
+        }
+    }
+
+    /**
+     * Applies this entry to {@code persons}, which holds the state of the address book before this entry was written.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the entry.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        for (String nric : removed) {
+            persons.removeIf(person -> person.getNric().nric.equals(nric));
+        }
+
+        for (Upsert upsert : upserted) {
+            if (upsert.index == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "index"));
+            }
+            if (upsert.person == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+            }
+
+            Person person = upsert.person.toModelType();
+            int existingIndex = indexOf(persons, person.getNric());
+            if (existingIndex >= 0) {
+                persons.set(existingIndex, person);
+            } else {
+                persons.add(Math.min(upsert.index, persons.size()), person);
+            }
+        }
+    }
+
+    private static int indexOf(List<Person> persons, Nric nric) {
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i).getNric().equals(nric)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * A person that was added or edited, together with its position in the address book.
+     */
+    static class Upsert {
+
+        private final Integer index;
+        private final JsonAdaptedPerson person;
+
+        /**
+         * Constructs an {@code Upsert} with the given position and person.
+         */
+        @JsonCreator
+        public Upsert(@JsonProperty("index") Integer index, @JsonProperty("person") JsonAdaptedPerson person) {
+            this.index = index;
+            this.person = person;
+        }
+    }
+}
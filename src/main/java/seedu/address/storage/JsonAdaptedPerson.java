@@ -19,6 +19,7 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Gender;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.record.Record;
 import seedu.address.model.record.UniqueRecordList;
 import seedu.address.model.shared.Name;
 import seedu.address.model.shared.Nric;
@@ -88,11 +89,11 @@ class JsonAdaptedPerson {
         allergies.addAll(source.getAllergies().stream()
                 .map(JsonAdaptedAllergy::new)
                 .collect(Collectors.toList()));
-        records.addAll(source.getRecords().asUnmodifiableObservableList()
+        records.addAll(source.getRecords().asUnmodifiableList()
                 .stream()
                 .map(JsonAdaptedRecord::new)
                 .collect(Collectors.toList()));
-        appointments.addAll(source.getAppointments().asUnmodifiableObservableList().stream()
+        appointments.addAll(source.getAppointments().asUnmodifiableList().stream()
                 .map(JsonAdaptedAppointment::new).collect(Collectors.toList()));
         isPinned = source.isPinned();
     }
@@ -110,9 +111,9 @@ class JsonAdaptedPerson {
             allergiesList.add(allergy.toModelType());
         }
 
-        final UniqueRecordList modelRecords = new UniqueRecordList();
+        final List<Record> recordsList = new ArrayList<>();
         for (JsonAdaptedRecord record : records) {
-            modelRecords.add(record.toModelType());
+            recordsList.add(record.toModelType());
         }
 
         if (name == null) {
@@ -175,11 +176,15 @@ class JsonAdaptedPerson {
 
         final Set<Allergy> modelAllergies = new HashSet<>(allergiesList);
 
-        final UniqueAppointmentList modelAppointments = new UniqueAppointmentList();
+        final List<Appointment> appointmentsList = new ArrayList<>();
         for (JsonAdaptedAppointment jsonAdaptedAppointment : appointments) {
-            Appointment appointment = jsonAdaptedAppointment.toModelType();
-            modelAppointments.add(appointment);
+            appointmentsList.add(jsonAdaptedAppointment.toModelType());
         }
+        // Each list is checked for duplicates once as a whole, rather than once per element added
+        final UniqueRecordList modelRecords = new UniqueRecordList();
+        modelRecords.setRecords(recordsList);
+        final UniqueAppointmentList modelAppointments = new UniqueAppointmentList();
+        modelAppointments.setAppointments(appointmentsList);
 
         return new Person(modelName, modelNric, modelEmail, modelPhone, modelGender,
                 modelAge, modelBloodType, modelAllergies, modelRecords, modelAppointments, isPinned);
@@ -0,0 +1,87 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads an address book in the format of {@link JsonSerializableAddressBook} one token at a time.
+ * Each person is converted into the model's {@code Person} as soon as its JSON object is read, so only one
+ * person's worth of JSON is held in memory at any time.
+ */
+class JsonAddressBookReader {
+
+    private static final String PERSONS_FIELD = "persons";
+
+    private JsonAddressBookReader() {}
+
+    /**
+     * Reads the address book from {@code inputStream}.
+     * Returns {@code Optional.empty()} if the stream holds a JSON {@code null}.
+     *
+     * @throws IOException if the stream does not hold valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Optional<ReadOnlyAddressBook> read(InputStream inputStream) throws IOException, IllegalValueException {
+        requireNonNull(inputStream);
+
+        try (JsonParser parser = JsonUtil.createParser(inputStream)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                throw new JsonParseException(parser, "No content to read");
+            }
+            if (token == JsonToken.VALUE_NULL) {
+                return Optional.empty();
+            }
+            expect(parser, JsonToken.START_OBJECT);
+
+            AddressBook addressBook = new AddressBook();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                if (PERSONS_FIELD.equals(fieldName) && parser.getCurrentToken() != JsonToken.VALUE_NULL) {
+                    readPersons(parser, addressBook);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            expect(parser, JsonToken.END_OBJECT);
+            return Optional.of(addressBook);
+        }
+    }
+
+    /**
+     * Reads the persons array that {@code parser} is positioned at into {@code addressBook}.
+     */
+    private static void readPersons(JsonParser parser, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        expect(parser, JsonToken.START_ARRAY);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            expect(parser, JsonToken.START_OBJECT);
+            Person person = parser.readValueAs(JsonAdaptedPerson.class).toModelType();
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken expectedToken) throws JsonParseException {
+        if (parser.getCurrentToken() != expectedToken) {
+            throw new JsonParseException(parser,
+                    "Expected " + expectedToken + " but found " + parser.getCurrentToken());
+        }
+    }
+}
@@ -2,17 +2,24 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -22,7 +29,11 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+
     private Path filePath;
+    private final boolean isCompact;
 
     /**
      * Constructs a new JsonAddressBookStorage instance with a given filePath.
@@ -30,7 +41,18 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      * @param filePath The path to the file.
      */
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Constructs a new JsonAddressBookStorage instance with a given filePath.
+     *
+     * @param filePath  The path to the file.
+     * @param isCompact Whether the file is written without indentation and line breaks.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     /**
@@ -69,18 +91,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
             return Optional.empty();
         }
 
-        try {
-            String data = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
-
-            JsonSerializableAddressBook jsonAddressBook = JsonUtil.fromJsonString(
-                    data, JsonSerializableAddressBook.class);
-
-            if (jsonAddressBook == null) {
-                return Optional.empty();
-            }
-
-            return Optional.of(jsonAddressBook.toModelType());
-
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            return JsonAddressBookReader.read(inputStream);
         } catch (Exception e) {
             throw new DataLoadingException(e);
         }
@@ -108,10 +120,39 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        String jsonData = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryFilePath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_EXTENSION);
+        long startTime = System.nanoTime();
+        long bytesWritten;
+
+        try (FileChannel channel = FileChannel.open(temporaryFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                OutputStream outputStream = new BufferedOutputStream(Channels.newOutputStream(channel),
+                        WRITE_BUFFER_SIZE)) {
+            JsonAddressBookWriter.write(addressBook, outputStream, isCompact);
+            channel.force(false);
+            bytesWritten = channel.size();
+        } catch (IOException e) {
+            Files.deleteIfExists(temporaryFilePath);
+            throw e;
+        }
+        moveReplacing(temporaryFilePath, filePath);
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        logger.info(String.format("Saved %d persons (%d bytes) to %s in %d ms",
+                addressBook.getPersonList().size(), bytesWritten, filePath, elapsedMillis));
+    }
 
-        Files.write(filePath, jsonData.getBytes(StandardCharsets.UTF_8));
+    /**
+     * Moves {@code source} over {@code target}, atomically if the file system supports it, so that a failed save
+     * never leaves {@code target} half written.
+     */
+    static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 
 }
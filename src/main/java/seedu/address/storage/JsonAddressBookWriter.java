@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes an address book in the format of {@link JsonSerializableAddressBook} one token at a time.
+ * Each person is converted into its JSON form only when it is written, so the JSON of the whole address book is
+ * never held in memory.
+ */
+class JsonAddressBookWriter {
+
+    private static final String PERSONS_FIELD = "persons";
+
+    private JsonAddressBookWriter() {}
+
+    /**
+     * Writes {@code addressBook} to {@code outputStream}, and flushes but does not close the stream.
+     *
+     * @param isCompact whether the JSON should be written without indentation and line breaks.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream outputStream, boolean isCompact)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(outputStream);
+
+        JsonGenerator generator = JsonUtil.createGenerator(outputStream, !isCompact);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try {
+            generator.writeStartObject();
+            generator.writeFieldName(PERSONS_FIELD);
+            generator.writeStartArray();
+            for (Person person : addressBook.getPersonList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } finally {
+            generator.close();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.model.shared.Nric;
+
+/**
+ * Jackson-friendly version of the manifest of a sharded address book, which lists the NRICs of the persons in the
+ * order that they appear in the address book. Each listed person is stored in its own shard file.
+ */
+class JsonShardManifest {
+
+    private final List<String> nrics = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given NRICs.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("nrics") List<String> nrics) {
+        if (nrics != null) {
+            this.nrics.addAll(nrics);
+        }
+    }
+
+    /**
+     * Converts the given {@code nrics} into this class for Jackson use.
+     */
+    public static JsonShardManifest of(List<Nric> nrics) {
+        List<String> nricStrings = new ArrayList<>();
+        for (Nric nric : nrics) {
+            nricStrings.add(nric.nric);
+        }
+        return new JsonShardManifest(nricStrings);
+    }
+
+    public List<String> getNrics() {
+        return Collections.unmodifiableList(nrics);
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.shared.Nric;
+
+/**
+ * Remembers the persons that were last persisted so that a later save can work out which of them changed.
+ * Persons are compared by reference: the model replaces a {@code Person} whenever one of its details is edited,
+ * so an unchanged reference means that the persisted copy is still up to date.
+ */
+class PersonChangeTracker {
+
+    private final List<Nric> persistedOrder = new ArrayList<>();
+    private final Map<Nric, Person> persistedPersons = new HashMap<>();
+    private boolean hasBaseline = false;
+
+    /**
+     * Returns true if the persisted state is known, i.e. {@link #markPersisted(List)} has been called.
+     */
+    public boolean hasBaseline() {
+        return hasBaseline;
+    }
+
+    /**
+     * Records {@code persons} as the state that is now persisted.
+     */
+    public void markPersisted(List<Person> persons) {
+        requireNonNull(persons);
+        persistedOrder.clear();
+        persistedPersons.clear();
+        for (Person person : persons) {
+            persistedOrder.add(person.getNric());
+            persistedPersons.put(person.getNric(), person);
+        }
+        hasBaseline = true;
+    }
+
+    /**
+     * Forgets the persisted state, so that the next save has to write everything.
+     */
+    public void clear() {
+        persistedOrder.clear();
+        persistedPersons.clear();
+        hasBaseline = false;
+    }
+
+    /**
+     * Returns the changes that turn the persisted state into {@code currentPersons}.
+     */
+    public Changes diff(List<Person> currentPersons) {
+        requireNonNull(currentPersons);
+
+        Set<Nric> currentNrics = new HashSet<>();
+        List<Integer> changedIndexes = new ArrayList<>();
+        for (int i = 0; i < currentPersons.size(); i++) {
+            Person person = currentPersons.get(i);
+            currentNrics.add(person.getNric());
+            if (persistedPersons.get(person.getNric()) != person) {
+                changedIndexes.add(i);
+            }
+        }
+
+        List<Nric> removedNrics = new ArrayList<>();
+        for (Nric nric : persistedOrder) {
+            if (!currentNrics.contains(nric)) {
+                removedNrics.add(nric);
+            }
+        }
+
+        return new Changes(removedNrics, changedIndexes, isOrderPreserved(currentPersons, currentNrics));
+    }
+
+    /**
+     * Returns true if the persons that were already persisted appear in {@code currentPersons}
+     * in the same relative order as they were persisted.
+     */
+    private boolean isOrderPreserved(List<Person> currentPersons, Set<Nric> currentNrics) {
+        int persistedPosition = 0;
+        for (Person person : currentPersons) {
+            if (!persistedPersons.containsKey(person.getNric())) {
+                continue;
+            }
+            while (!currentNrics.contains(persistedOrder.get(persistedPosition))) {
+                persistedPosition++;
+            }
+            if (!persistedOrder.get(persistedPosition).equals(person.getNric())) {
+                return false;
+            }
+            persistedPosition++;
+        }
+        return true;
+    }
+
+    /**
+     * The difference between the persisted persons and the current persons.
+     */
+    public static class Changes {
+
+        private final List<Nric> removedNrics;
+        private final List<Integer> changedIndexes;
+        private final boolean isOrderPreserved;
+
+        Changes(List<Nric> removedNrics, List<Integer> changedIndexes, boolean isOrderPreserved) {
+            this.removedNrics = Collections.unmodifiableList(removedNrics);
+            this.changedIndexes = Collections.unmodifiableList(changedIndexes);
+            this.isOrderPreserved = isOrderPreserved;
+        }
+
+        /**
+         * Returns the NRICs of the persisted persons that no longer exist.
+         */
+        public List<Nric> getRemovedNrics() {
+            return removedNrics;
+        }
+
+        /**
+         * Returns the positions, in the current list, of the persons that were added or edited, in ascending order.
+         */
+        public List<Integer> getChangedIndexes() {
+            return changedIndexes;
+        }
+
+        /**
+         * Returns true if the persons that were not added or removed kept their relative order.
+         */
+        public boolean isOrderPreserved() {
+            return isOrderPreserved;
+        }
+
+        public boolean isEmpty() {
+            return removedNrics.isEmpty() && changedIndexes.isEmpty();
+        }
+    }
+}
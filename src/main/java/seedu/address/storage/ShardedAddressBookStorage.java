@@ -0,0 +1,343 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.shared.Nric;
+
+/**
+ * A class to access AddressBook data stored as one json file per patient on the hard disk.
+ * The shards are kept in a directory next to the address book file, each named after the NRIC of its patient, along
+ * with a manifest that lists the patients in order. NRICs that differ only in case belong to different patients, so
+ * each lower case letter is written as an underscore followed by the letter in upper case, which keeps the shards of
+ * such patients apart on file systems that ignore case. Each save only rewrites the shards of the patients that changed
+ * since the previous save, and the manifest only when patients were added, removed or reordered.
+ * Reading from or saving to any other file is done as a plain json import or export. If there are no shards yet,
+ * the address book file itself is imported, so that data saved by the single file storage is carried over.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String SHARD_DIRECTORY_EXTENSION = ".shards";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String MESSAGE_SHARD_MISMATCH = "Shard %s holds the data of patient %s instead";
+    public static final String MESSAGE_SHARD_COLLISION = "Patients %s and %s would be saved to the same shard";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private static final String SHARD_FILE_EXTENSION = ".json";
+    private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+    private static final char LOWER_CASE_MARKER = '_';
+
+    private final Path filePath;
+    private final Path shardDirectoryPath;
+    private final Path manifestFilePath;
+    private final boolean isCompact;
+    private final JsonAddressBookStorage jsonStorage;
+    private final PersonChangeTracker changeTracker = new PersonChangeTracker();
+    private final List<Nric> persistedOrder = new ArrayList<>();
+
+    /**
+     * Constructs a new ShardedAddressBookStorage that keeps its shards next to {@code filePath}.
+     */
+    public ShardedAddressBookStorage(Path filePath) {
+        this(new JsonAddressBookStorage(filePath), false);
+    }
+
+    /**
+     * Constructs a new ShardedAddressBookStorage that keeps its shards next to the file of {@code jsonStorage}, and
+     * imports and exports plain json files through {@code jsonStorage}.
+     *
+     * @param isCompact Whether the shards are written without indentation and line breaks.
+     */
+    public ShardedAddressBookStorage(JsonAddressBookStorage jsonStorage, boolean isCompact) {
+        requireNonNull(jsonStorage);
+        this.filePath = jsonStorage.getAddressBookFilePath();
+        this.shardDirectoryPath = filePath.resolveSibling(filePath.getFileName() + SHARD_DIRECTORY_EXTENSION);
+        this.manifestFilePath = shardDirectoryPath.resolve(MANIFEST_FILE_NAME);
+        this.isCompact = isCompact;
+        this.jsonStorage = jsonStorage;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getShardDirectoryPath() {
+        return shardDirectoryPath;
+    }
+
+    /**
+     * Returns the path of the shard that holds the patient with the given {@code nric}.
+     */
+    public Path getShardFilePath(Nric nric) {
+        requireNonNull(nric);
+        return shardDirectoryPath.resolve(getShardName(nric) + SHARD_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the name of the shard of the patient with the given {@code nric}, which is the NRIC with each lower case
+     * letter written as {@code LOWER_CASE_MARKER} followed by the letter in upper case. Names of different NRICs
+     * differ even when case is ignored, and an upper case NRIC is its own name.
+     */
+    private static String getShardName(Nric nric) {
+        StringBuilder name = new StringBuilder();
+        for (char c : nric.nric.toCharArray()) {
+            if (Character.isLowerCase(c)) {
+                name.append(LOWER_CASE_MARKER).append(Character.toUpperCase(c));
+            } else {
+                name.append(c);
+            }
+        }
+        return name.toString();
+    }
+
+    /**
+     * Returns the path of the shard that held the patient with the given {@code nric} before shard names were
+     * encoded, which is the NRIC as it is.
+     */
+    private Path getLegacyShardFilePath(Nric nric) {
+        return shardDirectoryPath.resolve(nric.nric + SHARD_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns {@code shardFilePath} in a form that is the same for any paths that a file system ignoring case would
+     * take to be the same file.
+     */
+    private static String toCaseInsensitiveKey(Path shardFilePath) {
+        return shardFilePath.toString().toUpperCase(Locale.ROOT);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        if (!FileUtil.isFileExists(manifestFilePath)) {
+            // Nothing is known to be on disk as shards, so the next save writes every shard
+            changeTracker.clear();
+            persistedOrder.clear();
+            return jsonStorage.readAddressBook(filePath);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        boolean hasLegacyShards = false;
+        try {
+            JsonShardManifest manifest = JsonUtil.fromJsonString(
+                    FileUtil.readFromFile(manifestFilePath), JsonShardManifest.class);
+            for (String nricString : manifest.getNrics()) {
+                Nric nric = new Nric(nricString);
+                Path shardFilePath = getShardFilePath(nric);
+                if (!FileUtil.isFileExists(shardFilePath) && FileUtil.isFileExists(getLegacyShardFilePath(nric))) {
+                    shardFilePath = getLegacyShardFilePath(nric);
+                    hasLegacyShards = true;
+                }
+                Person person = readShard(shardFilePath, nric);
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(person);
+            }
+        } catch (IOException | IllegalValueException | IllegalArgumentException e) {
+            throw new DataLoadingException(e);
+        }
+
+        if (hasLegacyShards) {
+            // The next save writes every shard under its encoded name and deletes the legacy ones
+            changeTracker.clear();
+            persistedOrder.clear();
+        } else {
+            markPersisted(addressBook.getPersonList());
+        }
+        logger.info("Read " + addressBook.getPersonList().size() + " shards from " + shardDirectoryPath);
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (filePath.equals(this.filePath)) {
+            return readAddressBook();
+        }
+        return jsonStorage.readAddressBook(filePath);
+    }
+
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        List<Person> persons = addressBook.getPersonList();
+
+        if (!changeTracker.hasBaseline()) {
+            writeAllShards(persons);
+            return;
+        }
+
+        PersonChangeTracker.Changes changes = changeTracker.diff(persons);
+        List<Nric> currentOrder = getNrics(persons);
+        if (changes.isEmpty() && currentOrder.equals(persistedOrder)) {
+            return;
+        }
+
+        changeTracker.clear();
+        for (int index : changes.getChangedIndexes()) {
+            writeShard(persons.get(index));
+        }
+        // Shards are written before the manifest that refers to them, and deleted only after it no longer does
+        if (!currentOrder.equals(persistedOrder)) {
+            writeManifest(currentOrder);
+        }
+        Set<String> currentShardKeys = new HashSet<>();
+        for (Nric nric : currentOrder) {
+            currentShardKeys.add(toCaseInsensitiveKey(getShardFilePath(nric)));
+        }
+        for (Nric nric : changes.getRemovedNrics()) {
+            Path shardFilePath = getShardFilePath(nric);
+            // Never delete a file that a file system ignoring case would take to be the shard of a current patient
+            if (!currentShardKeys.contains(toCaseInsensitiveKey(shardFilePath))) {
+                Files.deleteIfExists(shardFilePath);
+            }
+        }
+        markPersisted(persons);
+        logger.fine(String.format("Rewrote %d and deleted %d shards in %s", changes.getChangedIndexes().size(),
+                changes.getRemovedNrics().size(), shardDirectoryPath));
+    }
+
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (filePath.equals(this.filePath)) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        jsonStorage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Writes a shard for every person in {@code persons} and a manifest listing them, then deletes any other shards
+     * left in the shard directory.
+     */
+    private void writeAllShards(List<Person> persons) throws IOException {
+        changeTracker.clear();
+        checkNoCollisions(persons);
+        Set<String> shardKeys = new HashSet<>();
+        for (Person person : persons) {
+            shardKeys.add(toCaseInsensitiveKey(writeShard(person)));
+        }
+        writeManifest(getNrics(persons));
+        deleteShardsExcept(shardKeys);
+        markPersisted(persons);
+        logger.info("Wrote " + persons.size() + " shards to " + shardDirectoryPath);
+    }
+
+    /**
+     * Throws an {@code IOException} if the shards of any two of {@code persons} would be the same file on a file system
+     * that ignores case.
+     */
+    private void checkNoCollisions(List<Person> persons) throws IOException {
+        Map<String, Nric> nricsByShardKey = new HashMap<>();
+        for (Person person : persons) {
+            Nric nric = person.getNric();
+            Nric collidingNric = nricsByShardKey.putIfAbsent(toCaseInsensitiveKey(getShardFilePath(nric)), nric);
+            if (collidingNric != null) {
+                throw new IOException(String.format(MESSAGE_SHARD_COLLISION, collidingNric, nric));
+            }
+        }
+    }
+
+    private Person readShard(Path shardFilePath, Nric nric) throws IOException, IllegalValueException {
+        Person person = JsonUtil.fromJsonString(FileUtil.readFromFile(shardFilePath), JsonAdaptedPerson.class)
+                .toModelType();
+        if (!person.getNric().equals(nric)) {
+            throw new IllegalValueException(String.format(MESSAGE_SHARD_MISMATCH, shardFilePath, person.getNric()));
+        }
+        return person;
+    }
+
+    private Path writeShard(Person person) throws IOException {
+        Path shardFilePath = getShardFilePath(person.getNric());
+        JsonAdaptedPerson jsonAdaptedPerson = new JsonAdaptedPerson(person);
+        writeReplacing(shardFilePath, isCompact
+                ? JsonUtil.toCompactJsonString(jsonAdaptedPerson)
+                : JsonUtil.toJsonString(jsonAdaptedPerson));
+        return shardFilePath;
+    }
+
+    private void writeManifest(List<Nric> nrics) throws IOException {
+        writeReplacing(manifestFilePath, JsonUtil.toJsonString(JsonShardManifest.of(nrics)));
+    }
+
+    /**
+     * Deletes the shards in the shard directory whose case insensitive keys are not in {@code shardKeysToKeep}.
+     * Keys are compared rather than paths, as a file system that ignores case may list a shard in a case other than
+     * the one it was last written with.
+     */
+    private void deleteShardsExcept(Set<String> shardKeysToKeep) throws IOException {
+        try (DirectoryStream<Path> shardFilePaths =
+                Files.newDirectoryStream(shardDirectoryPath, "*" + SHARD_FILE_EXTENSION)) {
+            for (Path shardFilePath : shardFilePaths) {
+                if (!shardFilePath.equals(manifestFilePath)
+                        && !shardKeysToKeep.contains(toCaseInsensitiveKey(shardFilePath))) {
+                    Files.deleteIfExists(shardFilePath);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes {@code content} to a temporary file next to {@code filePath}, forces it to disk and then moves it over
+     * {@code filePath}, so that a failed write never leaves {@code filePath} half written.
+     */
+    private static void writeReplacing(Path filePath, String content) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryFilePath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_EXTENSION);
+        try (FileChannel channel = FileChannel.open(temporaryFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            Files.deleteIfExists(temporaryFilePath);
+            throw e;
+        }
+        JsonAddressBookStorage.moveReplacing(temporaryFilePath, filePath);
+    }
+
+    private static List<Nric> getNrics(List<Person> persons) {
+        List<Nric> nrics = new ArrayList<>();
+        for (Person person : persons) {
+            nrics.add(person.getNric());
+        }
+        return nrics;
+    }
+
+    private void markPersisted(List<Person> persons) {
+        changeTracker.markPersisted(persons);
+        persistedOrder.clear();
+        persistedOrder.addAll(getNrics(persons));
+    }
+}
@@ -17,7 +17,6 @@ import seedu.address.model.UserPrefs;
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
-    private static StorageManager instance;
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
@@ -28,7 +27,6 @@ public class StorageManager implements Storage {
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
-        this.instance = this;
     }
 
     // ================ UserPrefs methods ==============================
@@ -57,7 +55,8 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
-        return readAddressBook(addressBookStorage.getAddressBookFilePath());
+        logger.fine("Attempting to read data from file: " + addressBookStorage.getAddressBookFilePath());
+        return addressBookStorage.readAddressBook();
     }
 
     @Override
@@ -68,7 +67,8 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        logger.fine("Attempting to write to data file: " + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.saveAddressBook(addressBook);
     }
 
     @Override
@@ -77,8 +77,9 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
-    public static StorageManager getInstance() {
-        return instance;
+    @Override
+    public void flush() throws IOException {
+        addressBookStorage.flush();
     }
 
 }
@@ -1,12 +1,22 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
-import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSuggester;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -15,37 +25,143 @@ public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    private static final String SUGGESTED_COMMAND_PREFIX = FindCommand.COMMAND_WORD + " ";
+    private static final int MAX_SUGGESTIONS = 8;
+
+    // Suggestions are looked up on this thread so that typing is never held up by them
+    private static final ExecutorService SUGGESTION_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "person-suggestions");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private final CommandExecutor commandExecutor;
+    private final PersonSuggester personSuggester;
+    private final ContextMenu suggestionMenu = new ContextMenu();
+
+    // Only used on the JavaFX application thread
+    private Future<?> pendingSuggestions;
+    private long latestSuggestionRequest = 0;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which suggests persons from
+     * {@code personSuggester} as a search is typed.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, PersonSuggester personSuggester) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        this.personSuggester = personSuggester;
+        // calls #setStyleToDefault() and #requestSuggestions() whenever the text of the command box changes.
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            setStyleToDefault();
+            requestSuggestions(newText);
+        });
     }
 
     /**
      * Handles the Enter button pressed event.
+     * The command box is cleared straight away, so that the next command can be typed while this one runs.
      */
     @FXML
     private void handleCommandEntered() {
         String commandText = commandTextField.getText();
+        cancelSuggestions();
         if (commandText.equals("")) {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        commandTextField.setText("");
+        commandExecutor.execute(commandText, () -> handleCommandFailed(commandText));
+    }
+
+    /**
+     * Puts {@code commandText}, whose command failed, back in the command box to be corrected, unless something else
+     * has been typed since it was entered.
+     */
+    private void handleCommandFailed(String commandText) {
+        if (!commandTextField.getText().isEmpty()) {
+            return;
+        }
+        commandTextField.setText(commandText);
+        commandTextField.positionCaret(commandText.length());
+        cancelSuggestions();
+        setStyleToIndicateCommandFailure();
+    }
+
+    /**
+     * Looks up, on another thread, the persons to suggest for the last word of {@code commandText} if it is a search,
+     * and shows them once they are found. Any lookup for earlier text is cancelled.
+     */
+    private void requestSuggestions(String commandText) {
+        if (pendingSuggestions != null) {
+            pendingSuggestions.cancel(false);
+        }
+        long request = ++latestSuggestionRequest;
+
+        String prefix = getWordToSuggestFor(commandText);
+        if (prefix.isEmpty()) {
+            suggestionMenu.hide();
+            return;
+        }
+        pendingSuggestions = SUGGESTION_EXECUTOR.submit(() -> {
+            List<Person> suggestions = personSuggester.suggest(prefix, MAX_SUGGESTIONS);
+            Platform.runLater(() -> showSuggestions(request, suggestions));
+        });
+    }
+
+    /**
+     * Hides the suggestions shown, and discards those that are still being looked up.
+     */
+    private void cancelSuggestions() {
+        if (pendingSuggestions != null) {
+            pendingSuggestions.cancel(false);
+        }
+        latestSuggestionRequest++;
+        suggestionMenu.hide();
+    }
+
+    /**
+     * Returns the word being typed at the end of {@code commandText} if it is a search, or an empty string otherwise.
+     */
+    private static String getWordToSuggestFor(String commandText) {
+        if (!commandText.startsWith(SUGGESTED_COMMAND_PREFIX) || commandText.endsWith(" ")) {
+            return "";
+        }
+        return commandText.substring(commandText.lastIndexOf(' ') + 1);
+    }
+
+    /**
+     * Shows {@code suggestions} below the command box, unless the text has changed since they were requested.
+     * Choosing a suggestion replaces the word being typed with the NRIC of that person.
+     */
+    private void showSuggestions(long request, List<Person> suggestions) {
+        if (request != latestSuggestionRequest) {
+            return;
+        }
+        if (suggestions.isEmpty()) {
+            suggestionMenu.hide();
+            return;
+        }
+
+        List<MenuItem> items = new ArrayList<>();
+        for (Person person : suggestions) {
+            MenuItem item = new MenuItem(person.getName().fullName + " (" + person.getNric() + ")");
+            item.setOnAction(unused -> {
+                String commandText = commandTextField.getText();
+                commandTextField.setText(commandText.substring(0, commandText.lastIndexOf(' ') + 1)
+                        + person.getNric());
+                commandTextField.positionCaret(commandTextField.getText().length());
+                // The person has been chosen, so there is nothing more to suggest for the new text
+                cancelSuggestions();
+            });
+            items.add(item);
+        }
+        suggestionMenu.getItems().setAll(items);
+        if (!suggestionMenu.isShowing()) {
+            suggestionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
         }
     }
 
@@ -75,11 +191,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Executes the command, and runs {@code onFailure} on the JavaFX application thread if it fails.
+         * The command may still be running when this returns.
          *
          * @see seedu.address.logic.Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        void execute(String commandText, Runnable onFailure);
     }
 
 }
@@ -18,6 +18,8 @@ import seedu.address.logic.commands.DeleteRecordCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditRecordCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterDateCommand;
+import seedu.address.logic.commands.FindAllRecordsCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindRecordCommand;
 import seedu.address.logic.commands.ListCommand;
@@ -61,6 +63,10 @@ public class HelpWindow extends UiPart<Stage> {
     @FXML
     private Label findRecords;
     @FXML
+    private Label findAllRecords;
+    @FXML
+    private Label filterDate;
+    @FXML
     private Label deleteRecord;
     @FXML
     private Label list;
@@ -100,6 +106,8 @@ public class HelpWindow extends UiPart<Stage> {
         deleteRecord.setText(DeleteRecordCommand.MESSAGE_USAGE);
         find.setText(FindCommand.MESSAGE_USAGE);
         findRecords.setText(FindRecordCommand.MESSAGE_USAGE);
+        findAllRecords.setText(FindAllRecordsCommand.MESSAGE_USAGE);
+        filterDate.setText(FilterDateCommand.MESSAGE_USAGE);
         list.setText(ListCommand.COMMAND_WORD + ": Lists all patients in MedBook.");
         exit.setText(ExitCommand.COMMAND_WORD + ": Exits the application.");
     }
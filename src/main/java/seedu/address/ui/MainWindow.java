@@ -1,7 +1,11 @@
 package seedu.address.ui;
 
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -12,10 +16,14 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandQueue;
+import seedu.address.logic.CommandQueue.CommandTask;
 import seedu.address.logic.Logic;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.PersonSuggester;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -30,6 +38,8 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandQueue commandQueue; // null when commands run on the JavaFX application thread
+    private int shownResultCount = 0;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
@@ -57,14 +67,16 @@ public class MainWindow extends UiPart<Stage> {
     private StackPane statusbarPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}, which runs commands through
+     * {@code commandQueue}, or on the JavaFX application thread if it is null.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, CommandQueue commandQueue) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandQueue = commandQueue;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -72,7 +84,7 @@ public class MainWindow extends UiPart<Stage> {
         setAccelerators();
 
         helpWindow = new HelpWindow();
-        appointmentsWindow = new AppointmentsWindow(new Stage(), logic.getFilteredAppointmentList());
+        appointmentsWindow = new AppointmentsWindow(new Stage(), getShownList(logic::getFilteredAppointmentList));
         mainWindow = this;
     }
 
@@ -127,16 +139,16 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(getShownList(logic::getFilteredPersonList));
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        pinnedPersonListPanel = new PinnedPersonListPanel(logic.getPinnedPersonList());
+        pinnedPersonListPanel = new PinnedPersonListPanel(getShownList(logic::getPinnedPersonList));
         pinnedPersonListPanelPlaceholder.getChildren().add(pinnedPersonListPanel.getRoot());
 
-        recordListPanel = new RecordListPanel(logic.getFilteredRecordList());
+        recordListPanel = new RecordListPanel(getShownList(logic::getFilteredRecordList));
         recordListPanelPlaceholder.getChildren().add(recordListPanel.getRoot());
 
-        personBeingViewedPanel = new PersonListPanel(logic.getPersonBeingViewed());
+        personBeingViewedPanel = new PersonListPanel(getShownList(logic::getPersonBeingViewed));
         personBeingViewedPanelPlaceholder.getChildren().add(personBeingViewedPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
@@ -144,11 +156,30 @@ public class MainWindow extends UiPart<Stage> {
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        if (commandQueue != null) {
+            commandQueue.setPendingCountListener(statusBarFooter::setPendingCommandCount);
+        }
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, getPersonSuggester());
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
+    /**
+     * Returns the list given by {@code list}, or a mirror of it that is only changed on the JavaFX application thread
+     * if commands run in the background.
+     */
+    private <T> ObservableList<T> getShownList(Supplier<ObservableList<T>> list) {
+        return commandQueue == null ? list.get() : commandQueue.mirror(list);
+    }
+
+    /**
+     * Returns the suggester of persons, which is got on the thread that changes the model, as it starts listening to
+     * the changes made there.
+     */
+    private PersonSuggester getPersonSuggester() {
+        return commandQueue == null ? logic.getPersonSuggester() : commandQueue.call(logic::getPersonSuggester);
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -196,7 +227,12 @@ public class MainWindow extends UiPart<Stage> {
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
+        if (commandQueue == null) {
+            logic.setGuiSettings(guiSettings);
+        } else {
+            // Only the background thread may change the model; it is done before the preferences are saved
+            commandQueue.execute(() -> logic.setGuiSettings(guiSettings));
+        }
         helpWindow.hide();
         primaryStage.hide();
     }
@@ -206,33 +242,84 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command, and runs {@code onFailure} if it fails.
+     * If commands run in the background, the command is queued after those still running and this returns at once.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+    private void executeCommand(String commandText, Runnable onFailure) {
+        executeTask(commandText, () -> logic.execute(commandText), onFailure);
+    }
+
+    /**
+     * Executes {@code command}, made from an action in the UI, in the same way as the commands entered by the user,
+     * so that it is also queued in the background if they are.
+     *
+     * @see seedu.address.logic.Logic#execute(Command)
+     */
+    public void executeCommand(Command command) {
+        executeTask(command.toString(), () -> logic.execute(command), () -> {});
+    }
+
+    /**
+     * Runs {@code task}, described in the logs by {@code commandText}, and runs {@code onFailure} if it fails.
+     */
+    private void executeTask(String commandText, CommandTask task, Runnable onFailure) {
+        if (commandQueue != null) {
+            commandQueue.submit(task, this::handleCommandResult, e -> {
+                handleCommandFailure(commandText, e);
+                onFailure.run();
+            });
+            return;
+        }
+
         try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            handleCommandResult(task.run());
+        } catch (CommandException | ParseException e) {
+            handleCommandFailure(commandText, e);
+            onFailure.run();
+        }
+    }
 
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
+    /**
+     * Shows the result of a command that succeeded.
+     */
+    private void handleCommandResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+        int resultNumber = ++shownResultCount;
+        // Queued behind the task that finished the work, so that the lists it changed are shown before its feedback
+        Executor afterModelChanges = commandQueue != null ? commandQueue : Runnable::run;
+        commandResult.getPendingFeedback().ifPresent(pendingFeedback -> pendingFeedback.thenAcceptAsync(feedback ->
+                Platform.runLater(() -> showPendingFeedback(resultNumber, feedback)), afterModelChanges));
+
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
 
-            if (commandResult.isShowAppointments()) {
-                handleAppointments();
-            }
+        if (commandResult.isShowAppointments()) {
+            handleAppointments();
+        }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+        if (commandResult.isExit()) {
+            handleExit();
+        }
+    }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+    /**
+     * Shows {@code feedback} in place of that of the result it belongs to, unless a newer result has been shown since.
+     */
+    private void showPendingFeedback(int resultNumber, String feedback) {
+        if (resultNumber != shownResultCount) {
+            return;
         }
+        logger.info("Result: " + feedback);
+        resultDisplay.setFeedbackToUser(feedback);
+    }
+
+    private void handleCommandFailure(String commandText, Exception e) {
+        logger.info("An error occurred while executing command: " + commandText);
+        shownResultCount++;
+        resultDisplay.setFeedbackToUser(e.getMessage());
     }
 }
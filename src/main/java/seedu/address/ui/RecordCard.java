@@ -11,6 +11,7 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.stage.FileChooser;
+import seedu.address.logic.commands.AttachFileCommand;
 import seedu.address.model.record.Record;
 
 /**
@@ -34,7 +35,6 @@ public class RecordCard extends UiPart<Region> {
     @FXML
     private Label medication;
 
-    private int displayedIndex;
     private MainWindow mainWindow;
 
     /**
@@ -56,13 +56,13 @@ public class RecordCard extends UiPart<Region> {
             filePathLabel.setText("No file attached");
             filePathLabel.setDisable(true); // Disable the hyperlink if no file is attached
         }
-        this.displayedIndex = displayedIndex;
         medication.setText(record.getMedications().toString());
         mainWindow = MainWindow.getInstance();
     }
 
     /**
      * Opens a file chooser dialog to attach a file to the record.
+     * The file is attached by a command, run like those entered by the user, and the record is shown again with it.
      *
      * @param event The event triggering this method call.
      */
@@ -73,9 +73,7 @@ public class RecordCard extends UiPart<Region> {
         File file = fileChooser.showOpenDialog(cardPane.getScene().getWindow());
 
         if (file != null) {
-            this.record.setFilePath(file.toPath(), displayedIndex);
-            filePathLabel.setText(file.toPath().toString());
-            mainWindow.setResultDisplay("File successfully attached!");
+            mainWindow.executeCommand(new AttachFileCommand(record, file.toPath()));
         } else {
             mainWindow.setResultDisplay("No file chosen");
         }
@@ -12,10 +12,14 @@ import javafx.scene.layout.Region;
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String PENDING_COMMANDS_FORMAT = "Running %1$d command(s)...";
+
     private static final String FXML = "StatusBarFooter.fxml";
 
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private Label pendingCommandsStatus;
 
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
@@ -25,4 +29,11 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows how many of the commands entered are still running, if any are.
+     */
+    public void setPendingCommandCount(int count) {
+        pendingCommandsStatus.setText(count == 0 ? "" : String.format(PENDING_COMMANDS_FORMAT, count));
+    }
+
 }
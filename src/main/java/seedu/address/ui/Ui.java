@@ -10,4 +10,10 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /**
+     * Shows {@code feedbackToUser} in the result display.
+     * Unlike the other methods, this may be called from any thread.
+     */
+    void showFeedbackToUser(String feedbackToUser);
+
 }
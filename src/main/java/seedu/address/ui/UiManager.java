@@ -10,6 +10,7 @@ import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandQueue;
 import seedu.address.logic.Logic;
 
 /**
@@ -23,13 +24,16 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
     private Logic logic;
+    private CommandQueue commandQueue;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, which runs commands through {@code commandQueue}, or
+     * on the JavaFX application thread if it is null.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, CommandQueue commandQueue) {
         this.logic = logic;
+        this.commandQueue = commandQueue;
     }
 
     @Override
@@ -40,7 +44,7 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, logic, commandQueue);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
@@ -50,6 +54,15 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showFeedbackToUser(String feedbackToUser) {
+        Platform.runLater(() -> {
+            if (mainWindow != null) {
+                mainWindow.setResultDisplay(feedbackToUser);
+            }
+        });
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
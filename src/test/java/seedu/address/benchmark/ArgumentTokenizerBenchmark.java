@@ -0,0 +1,151 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CONDITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICATION;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.logic.parser.PrefixMatcher;
+
+/**
+ * Compares tokenizing long {@code addrecord} and {@code editrecord} arguments by searching the whole string once for
+ * each prefix, as {@code ArgumentTokenizer} used to, against finding every prefix in one pass with a
+ * {@link PrefixMatcher}, both compiled for each input and compiled once.
+ * For each, it reports the average time to tokenize a batch of inputs and the bytes allocated per input.
+ * This is not run as part of the tests. Run its {@code main} method with the numbers of {@code c/} and {@code m/}
+ * repeats in each input as arguments; by default it tries 1, 10, 100 and 1,000 repeats.
+ */
+public class ArgumentTokenizerBenchmark {
+
+    private static final int[] DEFAULT_REPEATS = {1, 10, 100, 1_000};
+    private static final int BATCH_CHARACTERS = 4_000_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static final Prefix[] PREFIXES = {PREFIX_DATE, PREFIX_CONDITION, PREFIX_MEDICATION};
+    private static final PrefixMatcher COMPILED_PREFIXES = new PrefixMatcher(PREFIXES);
+
+    private static final String[] CONDITIONS = {"Fever", "Headache", "Cough", "Sore throat", "Back pain", "Rash"};
+    private static final String[] MEDICATIONS = {"Paracetamol", "Ibuprofen", "Tylenol", "Cough syrup",
+        "Antihistamine", "Lozenges"};
+
+    /**
+     * Runs the benchmark for each number of repeats given in {@code args}, or for the default numbers if none are.
+     */
+    public static void main(String[] args) {
+        int[] repeats = args.length == 0 ? DEFAULT_REPEATS : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+        System.out.printf("%8s  %-10s  %7s  %13s  %13s  %13s  %14s  %14s  %14s%n", "repeats", "command", "inputs",
+                "indexOf (ms)", "matcher (ms)", "compiled (ms)", "indexOf (B/i)", "matcher (B/i)", "compiled (B/i)");
+        for (int repeat : repeats) {
+            run("addrecord", "1 d/2024-03-14 0930", repeat);
+            run("editrecord", "1/2 d/2024-03-14 0930", repeat);
+        }
+    }
+
+    private static void run(String commandWord, String preambleAndDate, int repeats) {
+        List<String> inputs = generateInputs(preambleAndDate, repeats);
+
+        Consumer<String> indexOf = ArgumentTokenizerBenchmark::tokenizeByIndexOf;
+        Consumer<String> matcher = input -> ArgumentTokenizer.tokenize(input, PREFIXES);
+        Consumer<String> compiled = input -> ArgumentTokenizer.tokenize(input, COMPILED_PREFIXES);
+        for (String input : inputs) {
+            Map<Prefix, List<String>> expected = tokenizeByIndexOf(input);
+            ArgumentMultimap actual = ArgumentTokenizer.tokenize(input, COMPILED_PREFIXES);
+            for (Prefix prefix : PREFIXES) {
+                if (!expected.getOrDefault(prefix, new ArrayList<>()).equals(actual.getAllValues(prefix))) {
+                    throw new AssertionError("Implementations disagree for " + input);
+                }
+            }
+        }
+
+        System.out.printf("%8d  %-10s  %7d  %13.3f  %13.3f  %13.3f  %14.1f  %14.1f  %14.1f%n", repeats, commandWord,
+                inputs.size(), time(() -> inputs.forEach(indexOf)), time(() -> inputs.forEach(matcher)),
+                time(() -> inputs.forEach(compiled)), allocatedPerInput(inputs, indexOf),
+                allocatedPerInput(inputs, matcher), allocatedPerInput(inputs, compiled));
+    }
+
+    /**
+     * Returns as many inputs as fit in a batch of about {@code BATCH_CHARACTERS} characters, each with
+     * {@code repeats} conditions and medications after {@code preambleAndDate}.
+     */
+    private static List<String> generateInputs(String preambleAndDate, int repeats) {
+        StringBuilder builder = new StringBuilder(" ").append(preambleAndDate);
+        for (int i = 0; i < repeats; i++) {
+            builder.append(" c/").append(CONDITIONS[i % CONDITIONS.length])
+                    .append(" m/ ").append(MEDICATIONS[i % MEDICATIONS.length]).append(' ').append(i).append("mg");
+        }
+        String input = builder.toString();
+
+        List<String> inputs = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, BATCH_CHARACTERS / input.length()); i++) {
+            // Copied, so that no input is already in the CPU caches from tokenizing the one before it
+            inputs.add(new String(input.toCharArray()));
+        }
+        return inputs;
+    }
+
+    /**
+     * Tokenizes {@code argsString} the way {@code ArgumentTokenizer} did before it used a {@code PrefixMatcher}.
+     */
+    private static Map<Prefix, List<String>> tokenizeByIndexOf(String argsString) {
+        List<int[]> positions = new ArrayList<>();
+        for (int i = 0; i < PREFIXES.length; i++) {
+            int position = argsString.indexOf(" " + PREFIXES[i].getPrefix());
+            while (position != -1) {
+                positions.add(new int[] {i, position + 1});
+                position = argsString.indexOf(" " + PREFIXES[i].getPrefix(), position + 1);
+            }
+        }
+        positions.sort((first, second) -> first[1] - second[1]);
+        positions.add(0, new int[] {-1, 0});
+        positions.add(new int[] {-1, argsString.length()});
+
+        Map<Prefix, List<String>> values = new HashMap<>();
+        for (int i = 0; i < positions.size() - 1; i++) {
+            Prefix prefix = positions.get(i)[0] == -1 ? new Prefix("") : PREFIXES[positions.get(i)[0]];
+            int valueStart = positions.get(i)[1] + prefix.getPrefix().length();
+            String value = argsString.substring(valueStart, positions.get(i + 1)[1]).trim();
+            // Each value used to be added to a copy of the values before it
+            List<String> prefixValues = new ArrayList<>(values.getOrDefault(prefix, new ArrayList<>()));
+            prefixValues.add(value);
+            values.put(prefix, prefixValues);
+        }
+        return values;
+    }
+
+    /**
+     * Returns the average number of bytes allocated by the current thread to tokenize each of {@code inputs}.
+     */
+    private static double allocatedPerInput(List<String> inputs, Consumer<String> tokenizer) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        inputs.forEach(tokenizer);
+        long before = threads.getThreadAllocatedBytes(threadId);
+        inputs.forEach(tokenizer);
+        return (double) (threads.getThreadAllocatedBytes(threadId) - before) / inputs.size();
+    }
+
+    /**
+     * Returns the average time, in milliseconds, that {@code task} takes after being warmed up.
+     */
+    private static double time(Runnable task) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - start) / 1e6 / MEASURED_ROUNDS;
+    }
+}
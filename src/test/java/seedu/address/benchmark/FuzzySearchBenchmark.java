@@ -0,0 +1,122 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.shared.TrigramDictionary;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Compares fuzzy searching for patients by comparing every word of every patient with the keywords, against looking
+ * the keywords up in the trigram dictionary of a {@code PersonSearchIndex} and ranking the best matches in a heap.
+ * This is not run as part of the tests. Run its {@code main} method with the numbers of patients to try as arguments;
+ * by default it tries 10,000, 100,000 and 1,000,000 patients, which needs a heap of about 4 GB.
+ */
+public class FuzzySearchBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {10_000, 100_000, 1_000_000};
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int LIMIT = 20;
+
+    private static final String[] FIRST_NAMES = {"Alice", "Benson", "Carl", "Daniel", "Elle", "Fiona", "George",
+        "Hoon", "Ida", "Jun", "Kumar", "Li", "Mei", "Nur", "Omar", "Priya"};
+    private static final String[] LAST_NAMES = {"Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Koh",
+        "Teo", "Meier", "Kurz", "Kunz", "Best", "Mueller", "Rahman"};
+    private static final String[] ALLERGIES = {"Pollen", "Soil", "Dogs", "Cats", "Peanuts", "Dust", "Penicillin",
+        "Shellfish"};
+
+    private static final List<List<String>> QUERIES = Arrays.asList(
+            Collections.singletonList("S0000042B"),
+            Arrays.asList("Kumr", "Rahmen"),
+            Collections.singletonList("Penicilin"),
+            Collections.singletonList("nobody"));
+
+    /**
+     * Runs the benchmark for each number of patients given in {@code args}, or for the default numbers if none are.
+     */
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0 ? DEFAULT_SIZES : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+        System.out.printf("%10s  %-22s  %8s  %12s  %12s%n", "patients", "keywords", "matches", "scan (ms)",
+                "index (ms)");
+        for (int size : sizes) {
+            run(size);
+        }
+    }
+
+    private static void run(int size) {
+        List<Person> persons = generatePersons(size);
+        PersonSearchIndex index = new PersonSearchIndex();
+        index.setPersons(persons);
+
+        for (List<String> keywords : QUERIES) {
+            double scanMillis = time(() -> scan(persons, keywords));
+            double indexMillis = time(() -> index.findFuzzy(keywords, LIMIT).size());
+            System.out.printf("%10d  %-22s  %8d  %12.3f  %12.3f%n", size, String.join(" ", keywords),
+                    scan(persons, keywords), scanMillis, indexMillis);
+        }
+    }
+
+    /**
+     * Returns the number of persons with a word within the allowed edit distance of any of {@code keywords}, found by
+     * comparing every word of every person.
+     */
+    private static int scan(List<Person> persons, List<String> keywords) {
+        int count = 0;
+        for (Person person : persons) {
+            if (matches(PersonSearchIndex.getWords(person), keywords)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean matches(Iterable<String> words, List<String> keywords) {
+        for (String keyword : keywords) {
+            String normalized = PersonSearchIndex.normalize(keyword);
+            int maxDistance = TrigramDictionary.getMaxDistance(normalized.length());
+            for (String word : words) {
+                if (StringUtil.getEditDistance(normalized, word, maxDistance) <= maxDistance) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static List<Person> generatePersons(int size) {
+        Random random = new Random(size);
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(new PersonBuilder()
+                    .withName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                            + LAST_NAMES[random.nextInt(LAST_NAMES.length)])
+                    .withNric(String.format("S%07dA", i))
+                    .withEmail("patient" + i + "@example.com")
+                    .withPhone(String.valueOf(80000000 + i))
+                    .withAllergies(ALLERGIES[random.nextInt(ALLERGIES.length)])
+                    .build());
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the average time, in milliseconds, that {@code task} takes after being warmed up.
+     */
+    private static double time(Runnable task) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - start) / 1e6 / MEASURED_ROUNDS;
+    }
+}
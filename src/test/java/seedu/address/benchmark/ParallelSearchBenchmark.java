@@ -0,0 +1,109 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+import seedu.address.model.SearchExecutor;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Compares testing every patient against a {@code NameContainsKeywordsPredicate} one after another, as
+ * {@code FilteredList#setPredicate} does, against testing them in parallel with a {@link SearchExecutor}.
+ * This is not run as part of the tests. Run its {@code main} method with the numbers of patients to try as arguments;
+ * by default it tries 10,000, 100,000 and 1,000,000 patients, which needs a heap of about 4 GB.
+ */
+public class ParallelSearchBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {10_000, 100_000, 1_000_000};
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static final String[] FIRST_NAMES = {"Alice", "Benson", "Carl", "Daniel", "Elle", "Fiona", "George",
+        "Hoon", "Ida", "Jun", "Kumar", "Li", "Mei", "Nur", "Omar", "Priya"};
+    private static final String[] LAST_NAMES = {"Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Koh",
+        "Teo", "Meier", "Kurz", "Kunz", "Best", "Mueller", "Rahman"};
+    private static final String[] ALLERGIES = {"Pollen", "Soil", "Dogs", "Cats", "Peanuts", "Dust", "Penicillin",
+        "Shellfish"};
+
+    private static final List<List<String>> QUERIES = Arrays.asList(
+            Collections.singletonList("S0000042A"),
+            Arrays.asList("Kumar", "Rahman"),
+            Collections.singletonList("Penicillin"));
+
+    /**
+     * Runs the benchmark for each number of patients given in {@code args}, or for the default numbers if none are.
+     */
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0 ? DEFAULT_SIZES : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+        System.out.printf("Using %d threads%n", ForkJoinPool.commonPool().getParallelism());
+        System.out.printf("%10s  %-22s  %8s  %15s  %15s%n", "patients", "keywords", "matches", "sequential (ms)",
+                "parallel (ms)");
+        for (int size : sizes) {
+            run(size);
+        }
+    }
+
+    private static void run(int size) {
+        List<Person> persons = generatePersons(size);
+        SearchExecutor executor = new SearchExecutor(ForkJoinPool.commonPool(), Runnable::run);
+
+        for (List<String> keywords : QUERIES) {
+            Predicate<Person> predicate = new NameContainsKeywordsPredicate(keywords);
+            BitSet matches = executor.evaluate(persons, predicate);
+            if (!matches.equals(testInOrder(persons, predicate))) {
+                throw new AssertionError("Sequential and parallel searches disagree for " + keywords);
+            }
+            System.out.printf("%10d  %-22s  %8d  %15.3f  %15.3f%n", size, String.join(" ", keywords),
+                    matches.cardinality(), time(() -> testInOrder(persons, predicate)),
+                    time(() -> executor.evaluate(persons, predicate)));
+        }
+    }
+
+    private static BitSet testInOrder(List<Person> persons, Predicate<Person> predicate) {
+        BitSet matches = new BitSet(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            if (predicate.test(persons.get(i))) {
+                matches.set(i);
+            }
+        }
+        return matches;
+    }
+
+    private static List<Person> generatePersons(int size) {
+        Random random = new Random(size);
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(new PersonBuilder()
+                    .withName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                            + LAST_NAMES[random.nextInt(LAST_NAMES.length)])
+                    .withNric(String.format("S%07dA", i))
+                    .withEmail("patient" + i + "@example.com")
+                    .withPhone(String.valueOf(80000000 + i))
+                    .withAllergies(ALLERGIES[random.nextInt(ALLERGIES.length)])
+                    .build());
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the average time, in milliseconds, that {@code task} takes after being warmed up.
+     */
+    private static double time(Runnable task) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - start) / 1e6 / MEASURED_ROUNDS;
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.IndexedKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Compares searching for patients by keywords with {@code NameContainsKeywordsPredicate}, which splits the details of
+ * every patient, against looking the keywords up in a {@code PersonSearchIndex}.
+ * This is not run as part of the tests. Run its {@code main} method with the numbers of patients to try as arguments;
+ * by default it tries 10,000, 100,000 and 1,000,000 patients, which needs a heap of about 4 GB.
+ */
+public class PersonSearchBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {10_000, 100_000, 1_000_000};
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static final String[] FIRST_NAMES = {"Alice", "Benson", "Carl", "Daniel", "Elle", "Fiona", "George",
+        "Hoon", "Ida", "Jun", "Kumar", "Li", "Mei", "Nur", "Omar", "Priya"};
+    private static final String[] LAST_NAMES = {"Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Koh",
+        "Teo", "Meier", "Kurz", "Kunz", "Best", "Mueller", "Rahman"};
+    private static final String[] ALLERGIES = {"Pollen", "Soil", "Dogs", "Cats", "Peanuts", "Dust", "Penicillin",
+        "Shellfish"};
+    private static final String[] BLOOD_TYPES = {"A+", "A-", "B+", "B-", "AB+", "AB-", "O+", "O-"};
+
+    private static final List<List<String>> QUERIES = Arrays.asList(
+            Collections.singletonList("S0000042A"),
+            Arrays.asList("Kumar", "Rahman"),
+            Collections.singletonList("Penicillin"),
+            Collections.singletonList("nobody"));
+
+    /**
+     * Runs the benchmark for each number of patients given in {@code args}, or for the default numbers if none are.
+     */
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0 ? DEFAULT_SIZES : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+        System.out.printf("%10s  %-22s  %8s  %12s  %12s  %12s%n",
+                "patients", "keywords", "matches", "scan (ms)", "lookup (ms)", "filter (ms)");
+        for (int size : sizes) {
+            run(size);
+        }
+    }
+
+    private static void run(int size) {
+        List<Person> persons = generatePersons(size);
+
+        long start = System.nanoTime();
+        PersonSearchIndex index = new PersonSearchIndex();
+        index.setPersons(persons);
+        System.out.printf("%10d  building the index took %.1f ms%n", size, (System.nanoTime() - start) / 1e6);
+
+        for (List<String> keywords : QUERIES) {
+            NameContainsKeywordsPredicate scanPredicate = new NameContainsKeywordsPredicate(keywords);
+            double scanMillis = time(() -> count(persons, scanPredicate));
+            double lookupMillis = time(() -> index.findAny(keywords).size());
+            // What the filtered person list does with the index: one set lookup for each patient
+            double filterMillis = time(() -> count(persons, new IndexedKeywordsPredicate(keywords, index)));
+            System.out.printf("%10d  %-22s  %8d  %12.3f  %12.3f  %12.3f%n", size, String.join(" ", keywords),
+                    count(persons, scanPredicate), scanMillis, lookupMillis, filterMillis);
+        }
+    }
+
+    private static List<Person> generatePersons(int size) {
+        Random random = new Random(size);
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(new PersonBuilder()
+                    .withName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                            + LAST_NAMES[random.nextInt(LAST_NAMES.length)])
+                    .withNric(String.format("S%07dA", i))
+                    .withEmail("patient" + i + "@example.com")
+                    .withPhone(String.valueOf(80000000 + i))
+                    .withGender(random.nextBoolean() ? "M" : "F")
+                    .withAge(random.nextInt(100))
+                    .withBloodType(BLOOD_TYPES[random.nextInt(BLOOD_TYPES.length)])
+                    .withAllergies(ALLERGIES[random.nextInt(ALLERGIES.length)])
+                    .build());
+        }
+        return persons;
+    }
+
+    private static int count(List<Person> persons, Predicate<Person> predicate) {
+        int count = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the average time, in milliseconds, that {@code task} takes after being warmed up.
+     */
+    private static double time(Runnable task) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - start) / 1e6 / MEASURED_ROUNDS;
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonPrefixIndex;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures how long {@code PersonPrefixIndex} takes to suggest persons for each keystroke of a search, which should
+ * be well under 5 ms for the suggestions to keep up with typing.
+ * This is not run as part of the tests. Run its {@code main} method with the numbers of patients to try as arguments;
+ * by default it tries 10,000 and 100,000 patients.
+ */
+public class PersonSuggestionBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {10_000, 100_000};
+    private static final int MAX_SUGGESTIONS = 8;
+    private static final int WARMUP_ROUNDS = 1_000;
+    private static final int MEASURED_ROUNDS = 10_000;
+
+    private static final String[] FIRST_NAMES = {"Alice", "Benson", "Carl", "Daniel", "Elle", "Fiona", "George",
+        "Hoon", "Ida", "Jun", "Kumar", "Li", "Mei", "Nur", "Omar", "Priya"};
+    private static final String[] LAST_NAMES = {"Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Koh",
+        "Teo", "Meier", "Kurz", "Kunz", "Best", "Mueller", "Rahman"};
+
+    // Each keystroke of typing these words, from the first letter to the whole word
+    private static final List<String> TYPED_WORDS = Arrays.asList("Kumar", "Mueller", "S0004242A", "Zed");
+
+    /**
+     * Runs the benchmark for each number of patients given in {@code args}, or for the default numbers if none are.
+     */
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0 ? DEFAULT_SIZES : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+        System.out.printf("%10s  %12s  %12s  %12s%n", "patients", "median (ms)", "99th % (ms)", "max (ms)");
+        for (int size : sizes) {
+            run(size);
+        }
+    }
+
+    private static void run(int size) {
+        PersonPrefixIndex index = new PersonPrefixIndex();
+        index.setPersons(generatePersons(size));
+        List<String> prefixes = new ArrayList<>();
+        for (String word : TYPED_WORDS) {
+            for (int length = 1; length <= word.length(); length++) {
+                prefixes.add(word.substring(0, length));
+            }
+        }
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            index.suggest(prefixes.get(i % prefixes.size()), MAX_SUGGESTIONS);
+        }
+        long[] nanos = new long[MEASURED_ROUNDS];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            index.suggest(prefixes.get(i % prefixes.size()), MAX_SUGGESTIONS);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        System.out.printf("%10d  %12.4f  %12.4f  %12.4f%n", size, nanos[nanos.length / 2] / 1e6,
+                nanos[nanos.length * 99 / 100] / 1e6, nanos[nanos.length - 1] / 1e6);
+    }
+
+    private static List<Person> generatePersons(int size) {
+        Random random = new Random(size);
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(new PersonBuilder()
+                    .withName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                            + LAST_NAMES[random.nextInt(LAST_NAMES.length)])
+                    .withNric(String.format("S%07dA", i))
+                    .build());
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Compares testing every patient against search keywords by splitting each field into words with a regular
+ * expression, as {@code StringUtil#containsWordIgnoreCase} used to, against the {@code WordMatcher}s of a
+ * {@link NameContainsKeywordsPredicate}, which scan each field in place.
+ * For each, it reports the average time of one pass over all patients and the bytes allocated per patient tested.
+ * This is not run as part of the tests. Run its {@code main} method with the numbers of patients to try as arguments;
+ * by default it tries 10,000, 100,000 and 1,000,000 patients, which needs a heap of about 4 GB.
+ */
+public class WordMatchBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {10_000, 100_000, 1_000_000};
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static final String[] FIRST_NAMES = {"Alice", "Benson", "Carl", "Daniel", "Elle", "Fiona", "George",
+        "Hoon", "Ida", "Jun", "Kumar", "Li", "Mei", "Nur", "Omar", "Priya"};
+    private static final String[] LAST_NAMES = {"Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Koh",
+        "Teo", "Meier", "Kurz", "Kunz", "Best", "Mueller", "Rahman"};
+    private static final String[] ALLERGIES = {"Pollen", "Soil", "Dogs", "Cats", "Peanuts", "Dust", "Penicillin",
+        "Shellfish"};
+
+    private static final List<List<String>> QUERIES = Arrays.asList(
+            Collections.singletonList("S0000042A"),
+            Arrays.asList("Kumar", "Rahman"),
+            Collections.singletonList("Penicillin"),
+            Arrays.asList("nobody", "at", "all"));
+
+    /**
+     * Runs the benchmark for each number of patients given in {@code args}, or for the default numbers if none are.
+     */
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0 ? DEFAULT_SIZES : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+        System.out.printf("%10s  %-18s  %8s  %12s  %12s  %12s  %12s%n", "patients", "keywords", "matches",
+                "split (ms)", "matcher (ms)", "split (B/p)", "matcher (B/p)");
+        for (int size : sizes) {
+            run(size);
+        }
+    }
+
+    private static void run(int size) {
+        List<Person> persons = generatePersons(size);
+
+        for (List<String> keywords : QUERIES) {
+            Predicate<Person> split = person -> splitMatches(person, keywords);
+            Predicate<Person> matcher = new NameContainsKeywordsPredicate(keywords);
+            int matches = count(persons, matcher);
+            if (matches != count(persons, split)) {
+                throw new AssertionError("Implementations disagree for " + keywords);
+            }
+            System.out.printf("%10d  %-18s  %8d  %12.3f  %12.3f  %12.1f  %12.1f%n", size, String.join(" ", keywords),
+                    matches, time(() -> count(persons, split)), time(() -> count(persons, matcher)),
+                    allocatedPerPerson(persons, split), allocatedPerPerson(persons, matcher));
+        }
+    }
+
+    private static int count(List<Person> persons, Predicate<Person> predicate) {
+        int count = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Tests {@code person} the way {@code NameContainsKeywordsPredicate} did before it used {@code WordMatcher}.
+     */
+    private static boolean splitMatches(Person person, List<String> keywords) {
+        return keywords.stream()
+                .anyMatch(keyword -> containsWordIgnoreCase(person.getName().fullName, keyword)
+                        || containsWordIgnoreCase(person.getNric().nric, keyword)
+                        || containsWordIgnoreCase(person.getPhone().value, keyword)
+                        || person.getAllergies().stream()
+                                .anyMatch(allergy -> containsWordIgnoreCase(allergy.allergy, keyword))
+                        || containsWordIgnoreCase(person.getGender().gender, keyword)
+                        || containsWordIgnoreCase(person.getBloodType().bloodType, keyword)
+                        || containsWordIgnoreCase(person.getAge().age.toString(), keyword)
+                        || containsWordIgnoreCase(person.getEmail().value, keyword));
+    }
+
+    /**
+     * The previous implementation of {@code StringUtil#containsWordIgnoreCase}.
+     */
+    private static boolean containsWordIgnoreCase(String sentence, String word) {
+        String preppedWord = word.trim();
+        if (preppedWord.isEmpty() || preppedWord.split("\\s+").length != 1) {
+            throw new IllegalArgumentException();
+        }
+        return Arrays.stream(sentence.split("\\s+")).anyMatch(preppedWord::equalsIgnoreCase);
+    }
+
+    /**
+     * Returns the average number of bytes allocated by the current thread to test each of {@code persons}.
+     */
+    private static double allocatedPerPerson(List<Person> persons, Predicate<Person> predicate) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        count(persons, predicate);
+        long before = threads.getThreadAllocatedBytes(threadId);
+        count(persons, predicate);
+        return (double) (threads.getThreadAllocatedBytes(threadId) - before) / persons.size();
+    }
+
+    private static List<Person> generatePersons(int size) {
+        Random random = new Random(size);
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(new PersonBuilder()
+                    .withName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                            + LAST_NAMES[random.nextInt(LAST_NAMES.length)])
+                    .withNric(String.format("S%07dA", i))
+                    .withEmail("patient" + i + "@example.com")
+                    .withPhone(String.valueOf(80000000 + i))
+                    .withAllergies(ALLERGIES[random.nextInt(ALLERGIES.length)])
+                    .build());
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the average time, in milliseconds, that {@code task} takes after being warmed up.
+     */
+    private static double time(Runnable task) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - start) / 1e6 / MEASURED_ROUNDS;
+    }
+}
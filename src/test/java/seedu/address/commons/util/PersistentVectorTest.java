@@ -0,0 +1,108 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentVectorTest {
+
+    // Large enough for the tree to grow past two levels below the root
+    private static final int LARGE_SIZE = 40000;
+
+    @Test
+    public void empty_hasNoElements() {
+        assertTrue(PersistentVector.empty().isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentVector.empty().get(0));
+    }
+
+    @Test
+    public void plus_manyElements_sameAsArrayList() {
+        List<Integer> expected = new ArrayList<>();
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            expected.add(i);
+            vector = vector.plus(i);
+        }
+
+        assertEquals(expected, vector);
+        for (int i = 0; i < LARGE_SIZE; i += 97) {
+            assertEquals(Integer.valueOf(i), vector.get(i));
+        }
+    }
+
+    @Test
+    public void plus_originalUnchanged() {
+        PersistentVector<String> original = PersistentVector.copyOf(Arrays.asList("a", "b"));
+        PersistentVector<String> appended = original.plus("c");
+
+        assertEquals(Arrays.asList("a", "b"), original);
+        assertEquals(Arrays.asList("a", "b", "c"), appended);
+    }
+
+    @Test
+    public void with_anyIndex_onlyNewVectorChanged() {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            elements.add(i);
+        }
+        PersistentVector<Integer> original = PersistentVector.copyOf(elements);
+
+        for (int index : new int[] {0, 31, 32, 1055, LARGE_SIZE - 1}) {
+            PersistentVector<Integer> replaced = original.with(index, -1);
+            List<Integer> expected = new ArrayList<>(elements);
+            expected.set(index, -1);
+            assertEquals(expected, replaced);
+        }
+        assertEquals(elements, original);
+    }
+
+    @Test
+    public void with_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentVector<String> vector = PersistentVector.copyOf(Arrays.asList("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.with(1, "b"));
+    }
+
+    @Test
+    public void minus_removesOnlyThatElement() {
+        PersistentVector<String> original = PersistentVector.copyOf(Arrays.asList("a", "b", "c"));
+
+        assertEquals(Arrays.asList("a", "c"), original.minus(1));
+        assertEquals(Arrays.asList("a", "b", "c"), original);
+    }
+
+    @Test
+    public void copyOf_persistentVector_returnsSameVector() {
+        PersistentVector<String> vector = PersistentVector.copyOf(Arrays.asList("a", "b"));
+        assertSame(vector, PersistentVector.copyOf(vector));
+    }
+
+    @Test
+    public void indexOf_elementsPresentAndAbsent() {
+        PersistentVector<String> vector = PersistentVector.copyOf(Arrays.asList("a", "b", "a"));
+
+        assertEquals(0, vector.indexOf("a"));
+        assertEquals(1, vector.indexOf("b"));
+        assertEquals(-1, vector.indexOf("c"));
+    }
+
+    @Test
+    public void iterator_pastEnd_throwsNoSuchElementException() {
+        Iterator<String> iterator = PersistentVector.copyOf(Arrays.asList("a")).iterator();
+        iterator.next();
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void add_unsupported() {
+        assertThrows(UnsupportedOperationException.class, () -> PersistentVector.<String>empty().add("a"));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -140,4 +141,30 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_withinMaximum_returnsDistance() {
+        assertEquals(0, StringUtil.getEditDistance("tylenol", "tylenol", 2));
+        assertEquals(1, StringUtil.getEditDistance("ibuprofin", "ibuprofen", 2)); // substitution
+        assertEquals(1, StringUtil.getEditDistance("alce", "alice", 1)); // insertion
+        assertEquals(1, StringUtil.getEditDistance("alicee", "alice", 1)); // deletion
+        assertEquals(3, StringUtil.getEditDistance("kitten", "sitting", 3));
+        assertEquals(3, StringUtil.getEditDistance("", "abc", 3));
+    }
+
+    @Test
+    public void getEditDistance_beyondMaximum_returnsMaximumPlusOne() {
+        assertEquals(3, StringUtil.getEditDistance("kitten", "sitting", 2));
+        assertEquals(1, StringUtil.getEditDistance("ibuprofin", "ibuprofen", 0));
+        assertEquals(2, StringUtil.getEditDistance("alice", "benson", 1));
+        assertEquals(1, StringUtil.getEditDistance("a", "abc", 0)); // lengths too far apart
+    }
+
+    @Test
+    public void getEditDistance_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance(null, "abc", 1));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.getEditDistance("abc", "abc", -1));
+    }
+
 }
@@ -0,0 +1,85 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class WordMatcherTest {
+
+    @Test
+    public void constructor_invalidWord_throwsException() {
+        assertThrows(NullPointerException.class, () -> new WordMatcher(null));
+        assertThrows(IllegalArgumentException.class, "Word parameter cannot be empty", () -> new WordMatcher("  "));
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> new WordMatcher("aaa bbb"));
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> new WordMatcher("aaa\tbbb"));
+    }
+
+    @Test
+    public void matches_nullSentence_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WordMatcher("abc").matches(null));
+    }
+
+    @Test
+    public void matches_validInputs_correctResult() {
+        // Empty sentence
+        assertFalse(new WordMatcher("abc").matches(""));
+        assertFalse(new WordMatcher("123").matches("    "));
+
+        // Matches a partial word only
+        assertFalse(new WordMatcher("bb").matches("aaa bbb ccc"));
+        assertFalse(new WordMatcher("bbbb").matches("aaa bbb ccc"));
+
+        // Matches word in the sentence, different upper/lower case letters
+        assertTrue(new WordMatcher("Bbb").matches("aaa bBb ccc"));
+        assertTrue(new WordMatcher("CCc@1").matches("aaa bBb ccc@1"));
+        assertTrue(new WordMatcher("aaa").matches("  AAA   bBb   ccc  "));
+        assertTrue(new WordMatcher("aaa").matches("Aaa"));
+        assertTrue(new WordMatcher("  ccc  ").matches("aaa bbb ccc"));
+
+        // Words separated by other whitespace
+        assertTrue(new WordMatcher("bbb").matches("aaa\tbbb\nccc"));
+        assertTrue(new WordMatcher("ccc").matches("aaa\r\n\fccc"));
+    }
+
+    @Test
+    public void matches_randomSentences_sameAsSplittingSentence() {
+        Random random = new Random(17);
+        char[] alphabet = {'a', 'A', 'b', ' ', '\t', '\n', '\u00A0', '1'};
+        for (int i = 0; i < 2000; i++) {
+            String sentence = randomString(random, alphabet, random.nextInt(12));
+            String word = "ab".substring(0, 1 + random.nextInt(2)) + (random.nextBoolean() ? "B" : "");
+            boolean expected = Arrays.stream(sentence.split("\\s+")).anyMatch(word::equalsIgnoreCase);
+            assertEquals(expected, new WordMatcher(word).matches(sentence), "\"" + sentence + "\" / " + word);
+        }
+    }
+
+    @Test
+    public void equals() {
+        WordMatcher matcher = new WordMatcher(" fever ");
+
+        assertTrue(matcher.equals(matcher));
+        assertTrue(matcher.equals(new WordMatcher("fever")));
+        assertFalse(matcher.equals(new WordMatcher("Fever")));
+        assertFalse(matcher.equals("fever"));
+        assertEquals(matcher.hashCode(), new WordMatcher("fever").hashCode());
+        assertNotEquals(matcher, null);
+        assertEquals("fever", matcher.getWord());
+    }
+
+    private static String randomString(Random random, char[] alphabet, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet[random.nextInt(alphabet.length)]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,217 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+public class CommandQueueTest {
+
+    /** Holds the tasks given to the publisher until they are run with {@link #runPublished()}. */
+    private final ConcurrentLinkedQueue<Runnable> published = new ConcurrentLinkedQueue<>();
+    private final CommandQueue commandQueue = new CommandQueue(published::add);
+
+    @Test
+    public void submit_severalCommands_runInOrderOnOneThread() {
+        List<String> threadNames = new ArrayList<>();
+        List<String> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            String feedback = "command " + i;
+            commandQueue.submit(() -> {
+                threadNames.add(Thread.currentThread().getName());
+                return new CommandResult(feedback);
+            }, result -> results.add(result.getFeedbackToUser()), e -> {
+                throw new AssertionError("No command should fail", e);
+            });
+        }
+
+        commandQueue.flush();
+        runPublished();
+
+        assertEquals(List.of("command 0", "command 1", "command 2", "command 3", "command 4"), results);
+        assertTrue(threadNames.stream().allMatch("command-executor"::equals));
+    }
+
+    @Test
+    public void submit_commandFails_exceptionPassedOn() {
+        List<Exception> failures = new ArrayList<>();
+        CommandException exception = new CommandException("failed");
+
+        commandQueue.submit(() -> {
+            throw exception;
+        }, result -> {
+            throw new AssertionError("The command should fail");
+        }, failures::add);
+        commandQueue.flush();
+        runPublished();
+
+        assertEquals(List.of(exception), failures);
+    }
+
+    @Test
+    public void submit_resultsNotPublished_notPassedOn() {
+        List<CommandResult> results = new ArrayList<>();
+
+        commandQueue.submit(() -> new CommandResult("done"), results::add, e -> { });
+        commandQueue.flush();
+
+        assertTrue(results.isEmpty());
+        runPublished();
+        assertEquals(1, results.size());
+    }
+
+    @Test
+    public void setPendingCountListener_commandsQueuedThenDone_countsPublished() {
+        List<Integer> counts = new ArrayList<>();
+        commandQueue.setPendingCountListener(counts::add);
+        CountDownLatch release = new CountDownLatch(1);
+
+        commandQueue.submit(() -> {
+            await(release);
+            return new CommandResult("first");
+        }, result -> { }, e -> { });
+        commandQueue.submit(() -> new CommandResult("second"), result -> { }, e -> { });
+        runPublished();
+        assertEquals(List.of(2, 2), counts);
+
+        release.countDown();
+        commandQueue.flush();
+        runPublished();
+        assertEquals(List.of(2, 2, 1, 0), counts);
+    }
+
+    @Test
+    public void mirror_sourceChangedByCommand_mirrorRefreshedWhenPublished() {
+        ObservableList<String> source = FXCollections.observableArrayList("Alice");
+        ObservableList<String> mirror = commandQueue.mirror(() -> source);
+        commandQueue.flush();
+        runPublished();
+        assertEquals(List.of("Alice"), mirror);
+
+        List<List<String>> mirrorOnResult = new ArrayList<>();
+        commandQueue.submit(() -> {
+            source.add("Benson");
+            return new CommandResult("added");
+        }, result -> mirrorOnResult.add(new ArrayList<>(mirror)), e -> { });
+        commandQueue.flush();
+        assertEquals(List.of("Alice"), mirror);
+
+        runPublished();
+        assertEquals(List.of("Alice", "Benson"), mirror);
+        // The mirror is refreshed before the result is passed on
+        assertEquals(List.of(List.of("Alice", "Benson")), mirrorOnResult);
+    }
+
+    @Test
+    public void mirror_sourceUnchanged_notRefreshed() {
+        ObservableList<String> source = FXCollections.observableArrayList("Alice");
+        ObservableList<String> mirror = commandQueue.mirror(() -> source);
+        commandQueue.flush();
+        runPublished();
+        List<Integer> changeCount = new ArrayList<>();
+        mirror.addListener((ListChangeListener<String>) change -> changeCount.add(1));
+
+        commandQueue.submit(() -> new CommandResult("nothing changed"), result -> { }, e -> { });
+        commandQueue.flush();
+        runPublished();
+
+        assertTrue(changeCount.isEmpty());
+    }
+
+    @Test
+    public void execute_taskChangesSource_mirrorRefreshed() {
+        ObservableList<String> source = FXCollections.observableArrayList();
+        ObservableList<String> mirror = commandQueue.mirror(() -> source);
+
+        commandQueue.execute(() -> source.add("Carl"));
+        commandQueue.flush();
+        runPublished();
+
+        assertEquals(List.of("Carl"), mirror);
+    }
+
+    @Test
+    public void mirror_itemReplaced_onlyThatItemChanged() {
+        ObservableList<String> source = FXCollections.observableArrayList("Alice", "Benson", "Carl");
+        ObservableList<String> mirror = commandQueue.mirror(() -> source);
+        commandQueue.flush();
+        runPublished();
+        List<String> removed = new ArrayList<>();
+        List<String> added = new ArrayList<>();
+        mirror.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        });
+
+        commandQueue.execute(() -> source.set(1, "Bob"));
+        commandQueue.flush();
+        runPublished();
+
+        assertEquals(List.of("Alice", "Bob", "Carl"), mirror);
+        assertEquals(List.of("Benson"), removed);
+        assertEquals(List.of("Bob"), added);
+    }
+
+    @Test
+    public void mirror_severalChanges_madeInOrder() {
+        ObservableList<String> source = FXCollections.observableArrayList("Alice", "Benson", "Carl", "Daniel");
+        ObservableList<String> mirror = commandQueue.mirror(() -> source);
+        commandQueue.flush();
+        runPublished();
+
+        commandQueue.execute(() -> {
+            source.remove(0);
+            source.add(1, "Elle");
+        });
+        commandQueue.flush();
+        runPublished();
+
+        assertEquals(List.of("Benson", "Elle", "Carl", "Daniel"), mirror);
+    }
+
+    @Test
+    public void call_afterQueuedTasks_resultReturned() {
+        List<String> done = new ArrayList<>();
+        commandQueue.execute(() -> done.add("first"));
+
+        String threadName = commandQueue.call(() -> {
+            done.add("second");
+            return Thread.currentThread().getName();
+        });
+
+        assertEquals("command-executor", threadName);
+        assertEquals(List.of("first", "second"), done);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs the tasks given to the publisher so far, in order.
+     */
+    private void runPublished() {
+        Runnable task;
+        while ((task = published.poll()) != null) {
+            task.run();
+        }
+    }
+}
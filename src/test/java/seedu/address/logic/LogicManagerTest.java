@@ -1,30 +1,48 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.AGE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.AGE_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.ALLERGY_DESC_DUST;
 import static seedu.address.logic.commands.CommandTestUtil.BLOODTYPE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.BLOODTYPE_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.GENDER_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.GENDER_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.NRIC_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NRIC_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BeginCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.CommitCommand;
+import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -73,6 +91,81 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommand_saveSkipped() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+
+        assertFalse(Files.exists(temporaryFolder.resolve("medbook.json")));
+        assertEquals(1, ((LogicManager) logic).getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_modifyingCommand_saved() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + NRIC_DESC_AMY + EMAIL_DESC_AMY + PHONE_DESC_AMY
+                + GENDER_DESC_AMY + AGE_DESC_AMY + BLOODTYPE_DESC_AMY + ALLERGY_DESC_DUST;
+        logic.execute(addCommand);
+
+        assertTrue(Files.exists(temporaryFolder.resolve("medbook.json")));
+        assertEquals(0, ((LogicManager) logic).getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_commandFromUi_saved() throws Exception {
+        CommandResult result = logic.execute(new AddCommand(AMY));
+
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(AMY)), result.getFeedbackToUser());
+        assertTrue(Files.exists(temporaryFolder.resolve("medbook.json")));
+        assertEquals(0, ((LogicManager) logic).getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_script_savedOnce() throws Exception {
+        int[] saveCount = {0};
+        Path addressBookPath = temporaryFolder.resolve("medbook.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookPath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        String addAmy = AddCommand.COMMAND_WORD + NAME_DESC_AMY + NRIC_DESC_AMY + EMAIL_DESC_AMY + PHONE_DESC_AMY
+                + GENDER_DESC_AMY + AGE_DESC_AMY + BLOODTYPE_DESC_AMY + ALLERGY_DESC_DUST;
+        String addBob = AddCommand.COMMAND_WORD + NAME_DESC_BOB + NRIC_DESC_BOB + EMAIL_DESC_BOB + PHONE_DESC_BOB
+                + GENDER_DESC_BOB + AGE_DESC_BOB + BLOODTYPE_DESC_BOB + ALLERGY_DESC_DUST;
+        Path script = temporaryFolder.resolve("intake.txt");
+        Files.write(script, Arrays.asList(addAmy, addBob));
+        logic.execute(RunCommand.COMMAND_WORD + " " + script);
+
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+        assertEquals(1, saveCount[0]);
+    }
+
+    @Test
+    public void execute_transaction_savedOnceOnCommit() throws Exception {
+        String addAmy = AddCommand.COMMAND_WORD + NAME_DESC_AMY + NRIC_DESC_AMY + EMAIL_DESC_AMY + PHONE_DESC_AMY
+                + GENDER_DESC_AMY + AGE_DESC_AMY + BLOODTYPE_DESC_AMY + ALLERGY_DESC_DUST;
+        String addBob = AddCommand.COMMAND_WORD + NAME_DESC_BOB + NRIC_DESC_BOB + EMAIL_DESC_BOB + PHONE_DESC_BOB
+                + GENDER_DESC_BOB + AGE_DESC_BOB + BLOODTYPE_DESC_BOB + ALLERGY_DESC_DUST;
+        logic.execute(BeginCommand.COMMAND_WORD);
+        logic.execute(addAmy);
+        logic.execute(addBob);
+        logic.execute(DeleteCommand.COMMAND_WORD + " 1");
+
+        assertFalse(Files.exists(temporaryFolder.resolve("medbook.json")));
+        assertEquals(4, ((LogicManager) logic).getSkippedSaveCount());
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+
+        logic.execute(CommitCommand.COMMAND_WORD);
+        assertTrue(Files.exists(temporaryFolder.resolve("medbook.json")));
+        assertEquals(4, ((LogicManager) logic).getSkippedSaveCount());
+        assertEquals(Collections.singletonList(BOB.getNric()), model.getAddressBook().getPersonList().stream()
+                .map(Person::getNric).collect(Collectors.toList()));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
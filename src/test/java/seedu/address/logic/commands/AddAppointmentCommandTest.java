@@ -55,7 +55,6 @@ public class AddAppointmentCommandTest {
 
         ModelManager expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         expectedModel.setPerson(model.getFilteredPersonList().get(0), editedPerson);
-        expectedModel.resetAppointmentList();
 
         assertCommandSuccess(addAppointmentCommand, model, expectedMessage, expectedModel);
     }
@@ -90,7 +89,6 @@ public class AddAppointmentCommandTest {
         ModelManager expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
         expectedModel.setPerson(model.getFilteredPersonList().get(0), editedPerson);
-        expectedModel.resetAppointmentList();
 
         assertCommandSuccess(addAppointmentCommand, model, expectedMessage, expectedModel);
     }
@@ -10,6 +10,12 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -23,9 +29,15 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.SearchResultCache;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSuggester;
+import seedu.address.model.person.query.QueryNode;
+import seedu.address.model.person.query.QueryPlan;
 import seedu.address.model.record.Record;
+import seedu.address.model.shared.DateTime;
+import seedu.address.model.shared.Nric;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -141,11 +153,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Person> findPersonByNric(Nric nric) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasRecord(Record record, Index index) {
             throw new AssertionError("This method should not be called");
         }
 
+        @Override
+        public long getModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
@@ -166,13 +188,83 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListByKeywords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CompletableFuture<Integer> updateFilteredPersonListByKeywordsInBackground(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SearchResultCache.Statistics getPersonSearchCacheStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Nric> findPersonsFuzzy(List<String> keywords, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Nric> findPersonsRanked(List<String> keywords, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<String> findSimilarRecordWords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryPlan planPersonQuery(QueryNode query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonSuggester getPersonSuggester() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Nric, List<Record>> findRecords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Appointment> getAppointmentList() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void resetAppointmentList() {
+        public ObservableList<Appointment> getFilteredAppointmentList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredAppointmentList(Predicate<Appointment> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Nric, List<Record>> getRecordsBetween(DateTime start, DateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Record> getRecordsBetween(Nric nric, DateTime start, DateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Appointment> getAppointmentsBetween(DateTime start, DateTime end) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -196,6 +288,36 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void suspendListUpdates() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void resumeListUpdates() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isInTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Record> getFilteredRecordList() {
             throw new AssertionError("This method should not be called.");
@@ -206,6 +328,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredRecordListByKeywords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CompletableFuture<Integer> updateFilteredRecordListByKeywordsInBackground(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SearchResultCache.Statistics getRecordSearchCacheStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
     }
 
     /**
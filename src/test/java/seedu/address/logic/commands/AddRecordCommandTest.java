@@ -49,6 +49,15 @@ public class AddRecordCommandTest {
         assertCommandSuccess(addRecordCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_duplicateRecordInTransaction_throwsCommandException() throws Exception {
+        model.beginTransaction();
+        new AddRecordCommand(INDEX_THIRD_PERSON, FEVER_AND_COLD2).execute(model);
+
+        assertCommandFailure(new AddRecordCommand(INDEX_THIRD_PERSON, FEVER_AND_COLD2), model,
+                AddRecordCommand.MESSAGE_DUPLICATE_RECORDS);
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
@@ -0,0 +1,128 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_RECORD;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.record.Record;
+import seedu.address.model.record.UniqueRecordList;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.RecordBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code AttachFileCommand}.
+ */
+public class AttachFileCommandTest {
+
+    private static final Path FILE_PATH = Paths.get("scans", "xray.png");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_recordOfPersonBeingViewed_fileAttached() {
+        Person owner = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        model.updateRecordList(owner);
+        Record recordToEdit = owner.getRecords().asUnmodifiableObservableList().get(INDEX_FIRST_RECORD.getZeroBased());
+        Path originalFilePath = recordToEdit.getFilePath();
+
+        Person editedOwner = withRecord(owner, recordToEdit, new RecordBuilder(recordToEdit)
+                .withFilePath(FILE_PATH).build());
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPerson(owner, editedOwner);
+        expectedModel.updateRecordList(editedOwner);
+
+        assertCommandSuccess(new AttachFileCommand(recordToEdit, FILE_PATH), model,
+                AttachFileCommand.MESSAGE_SUCCESS, expectedModel);
+        // the record shown is replaced rather than changed
+        assertEquals(originalFilePath, recordToEdit.getFilePath());
+    }
+
+    @Test
+    public void execute_personBeingViewedEditedSince_fileAttachedToCurrentPerson() {
+        Person owner = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        model.updateRecordList(owner);
+        Record recordToEdit = owner.getRecords().asUnmodifiableObservableList().get(INDEX_FIRST_RECORD.getZeroBased());
+        Person ownerWithNewPhone = new PersonBuilder(owner).withPhone("99999999").build();
+        model.setPerson(owner, ownerWithNewPhone);
+
+        Person editedOwner = withRecord(ownerWithNewPhone, recordToEdit, new RecordBuilder(recordToEdit)
+                .withFilePath(FILE_PATH).build());
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPerson(ownerWithNewPhone, editedOwner);
+        expectedModel.updateRecordList(editedOwner);
+
+        assertCommandSuccess(new AttachFileCommand(recordToEdit, FILE_PATH), model,
+                AttachFileCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_noPersonBeingViewed_throwsCommandException() {
+        Person owner = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Record record = owner.getRecords().asUnmodifiableObservableList().get(INDEX_FIRST_RECORD.getZeroBased());
+
+        assertCommandFailure(new AttachFileCommand(record, FILE_PATH), model,
+                AttachFileCommand.MESSAGE_RECORD_NOT_FOUND);
+    }
+
+    @Test
+    public void execute_recordDeletedSince_throwsCommandException() {
+        Person owner = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        model.updateRecordList(owner);
+        Record record = owner.getRecords().asUnmodifiableObservableList().get(INDEX_FIRST_RECORD.getZeroBased());
+        model.setPerson(owner, new PersonBuilder(owner).withRecords(new UniqueRecordList()).build());
+
+        assertCommandFailure(new AttachFileCommand(record, FILE_PATH), model,
+                AttachFileCommand.MESSAGE_RECORD_NOT_FOUND);
+    }
+
+    @Test
+    public void equals() {
+        Record record = new RecordBuilder().withConditions("Cough").withMedications("Paracetamol")
+                .withPersonIndex(0).build();
+        AttachFileCommand attachFileCommand = new AttachFileCommand(record, FILE_PATH);
+
+        // same object -> returns true
+        assertTrue(attachFileCommand.equals(attachFileCommand));
+
+        // same values -> returns true
+        assertTrue(attachFileCommand.equals(new AttachFileCommand(new RecordBuilder(record).build(), FILE_PATH)));
+
+        // null -> returns false
+        assertFalse(attachFileCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(attachFileCommand.equals(new ListCommand()));
+
+        // different file -> returns false
+        assertFalse(attachFileCommand.equals(new AttachFileCommand(record, Paths.get("other.pdf"))));
+
+        // different record -> returns false
+        assertFalse(attachFileCommand.equals(new AttachFileCommand(
+                new RecordBuilder(record).withConditions("Fever").build(), FILE_PATH)));
+    }
+
+    /**
+     * Returns {@code person} with {@code target} in their records replaced by {@code editedRecord}.
+     */
+    private static Person withRecord(Person person, Record target, Record editedRecord) {
+        UniqueRecordList records = new UniqueRecordList();
+        records.setRecords(person.getRecords());
+        records.setRecord(target, editedRecord);
+        return new PersonBuilder(person).withRecords(records).build();
+    }
+}
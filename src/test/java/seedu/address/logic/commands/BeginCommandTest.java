@@ -0,0 +1,40 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code BeginCommand}.
+ */
+public class BeginCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_noTransaction_transactionStarted() {
+        assertCommandSuccess(new BeginCommand(), model, BeginCommand.MESSAGE_SUCCESS, expectedModel);
+        assertTrue(model.isInTransaction());
+    }
+
+    @Test
+    public void execute_transactionInProgress_throwsCommandException() {
+        model.beginTransaction();
+        assertCommandFailure(new BeginCommand(), model, BeginCommand.MESSAGE_TRANSACTION_IN_PROGRESS);
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.SearchResultCache;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code CacheStatsCommand}.
+ */
+public class CacheStatsCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noSearches_allCountsZero() {
+        SearchResultCache.Statistics empty =
+                new SearchResultCache.Statistics(0, 0, 0, 0, ModelManager.SEARCH_CACHE_CAPACITY);
+        String expectedMessage = String.format(CacheStatsCommand.MESSAGE_SUCCESS,
+                CacheStatsCommand.format(empty), CacheStatsCommand.format(empty));
+        assertCommandSuccess(new CacheStatsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_repeatedSearch_hitCounted() {
+        model.updateFilteredPersonListByKeywords(Arrays.asList("Meier"));
+        model.updateFilteredPersonListByKeywords(Arrays.asList("meier"));
+        expectedModel.updateFilteredPersonListByKeywords(Arrays.asList("Meier"));
+
+        String expectedMessage = String.format(CacheStatsCommand.MESSAGE_SUCCESS,
+                "1 hits, 1 misses, 0 evictions (1 of " + ModelManager.SEARCH_CACHE_CAPACITY + " results cached)",
+                CacheStatsCommand.format(model.getRecordSearchCacheStatistics()));
+        assertCommandSuccess(new CacheStatsCommand(), model, expectedMessage, expectedModel);
+    }
+}
@@ -5,8 +5,12 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
+
 public class CommandResultTest {
     @Test
     public void equals() {
@@ -36,6 +40,28 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, false, true)));
+
+        // different pendingFeedback value -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback", new CompletableFuture<>())));
+    }
+
+    @Test
+    public void ofCount_countKnown_countReported() {
+        CommandResult commandResult = CommandResult.ofCount(CompletableFuture.completedFuture(3), "%1$d shown");
+
+        assertEquals(new CommandResult("3 shown"), commandResult);
+    }
+
+    @Test
+    public void ofCount_countPending_countReportedOnceKnown() {
+        CompletableFuture<Integer> count = new CompletableFuture<>();
+        CommandResult commandResult = CommandResult.ofCount(count, "%1$d shown");
+        assertEquals(Messages.MESSAGE_SEARCHING, commandResult.getFeedbackToUser());
+        CompletableFuture<String> pendingFeedback = commandResult.getPendingFeedback().get().toCompletableFuture();
+        assertFalse(pendingFeedback.isDone());
+
+        count.complete(3);
+        assertEquals("3 shown", pendingFeedback.getNow(null));
     }
 
     @Test
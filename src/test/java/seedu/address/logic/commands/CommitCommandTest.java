@@ -0,0 +1,45 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.logic.Messages.MESSAGE_NO_TRANSACTION;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code CommitCommand}.
+ */
+public class CommitCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_transactionInProgress_changesMade() {
+        model.beginTransaction();
+        model.deletePerson(ALICE);
+        expectedModel.deletePerson(ALICE);
+
+        assertCommandSuccess(new CommitCommand(), model, CommitCommand.MESSAGE_SUCCESS, expectedModel);
+        assertFalse(model.isInTransaction());
+    }
+
+    @Test
+    public void execute_noTransaction_throwsCommandException() {
+        assertCommandFailure(new CommitCommand(), model, MESSAGE_NO_TRANSACTION);
+    }
+}
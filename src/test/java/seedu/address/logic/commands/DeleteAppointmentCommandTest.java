@@ -21,6 +21,7 @@ import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.UniqueAppointmentList;
 import seedu.address.model.person.Person;
 import seedu.address.model.shared.Nric;
+import seedu.address.testutil.AppointmentBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 /**
@@ -31,6 +32,22 @@ public class DeleteAppointmentCommandTest {
 
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
 
+    @Test
+    public void execute_appointmentAddedInTransaction_deleted() throws Exception {
+        Appointment appointment = new AppointmentBuilder().withName("Physiotherapy").build();
+        model.beginTransaction();
+        new AddAppointmentCommand(INDEX_FIRST_PERSON, appointment).execute(model);
+        Nric patientNric = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()).getNric();
+        Appointment added = new Appointment(appointment.getName(), appointment.getDateTime(), patientNric);
+        Index addedIndex = Index.fromZeroBased(model.getFilteredAppointmentList().indexOf(added));
+
+        new DeleteAppointmentCommand(addedIndex).execute(model);
+
+        assertFalse(model.getFilteredAppointmentList().contains(added));
+        model.commitTransaction();
+        assertFalse(model.getAppointmentList().contains(added));
+    }
+
     @Test
     public void execute_validIndex_success() {
         Appointment appointmentToDelete = model.getAppointmentList().get(INDEX_FIRST_PERSON.getZeroBased());
@@ -52,7 +69,6 @@ public class DeleteAppointmentCommandTest {
 
         ModelManager expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         expectedModel.setPerson(personWithAppointment, editedPerson);
-        expectedModel.resetAppointmentList();
 
         assertCommandSuccess(deleteAppointmentCommand, model, expectedMessage, expectedModel);
     }
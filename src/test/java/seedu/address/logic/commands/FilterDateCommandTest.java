@@ -0,0 +1,102 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.index.Index.fromZeroBased;
+import static seedu.address.logic.Messages.MESSAGE_DATE_RANGE_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAppointments.COLONOSCOPY;
+import static seedu.address.testutil.TypicalAppointments.EYE_EXAM;
+import static seedu.address.testutil.TypicalAppointments.VACCINATION;
+import static seedu.address.testutil.TypicalPersons.BEN;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalRecords.FEVER_AND_COLD0;
+import static seedu.address.testutil.TypicalRecords.FEVER_AND_COLD1;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.shared.DateTime;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FilterDateCommand}.
+ */
+public class FilterDateCommandTest {
+
+    private static final DateTime START_OF_SEPTEMBER = new DateTime("01-09-2023 0000");
+    private static final DateTime END_OF_SEPTEMBER = new DateTime("30-09-2023 2359");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FilterDateCommand filterSeptemberCommand = new FilterDateCommand(START_OF_SEPTEMBER, END_OF_SEPTEMBER);
+
+        // same object -> returns true
+        assertTrue(filterSeptemberCommand.equals(filterSeptemberCommand));
+
+        // same values -> returns true
+        assertTrue(filterSeptemberCommand.equals(new FilterDateCommand(START_OF_SEPTEMBER, END_OF_SEPTEMBER)));
+
+        // different types -> returns false
+        assertFalse(filterSeptemberCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(filterSeptemberCommand.equals(null));
+
+        // different period -> returns false
+        assertFalse(filterSeptemberCommand.equals(new FilterDateCommand(START_OF_SEPTEMBER, START_OF_SEPTEMBER)));
+    }
+
+    @Test
+    public void execute_periodWithRecords_personsAndRecordsOfPersonBeingViewedFiltered() throws Exception {
+        // BEN is the fourth typical person
+        new ViewCommand(fromZeroBased(3)).execute(model);
+        new ViewCommand(fromZeroBased(3)).execute(expectedModel);
+        String expectedMessage = String.format(MESSAGE_DATE_RANGE_OVERVIEW, 3, 2, 0);
+        List<?> expectedPersons = Arrays.asList(BENSON, BEN);
+        List<?> expectedRecords = Arrays.asList(FEVER_AND_COLD0, FEVER_AND_COLD1);
+        expectedModel.updateFilteredPersonList(expectedPersons::contains);
+        expectedModel.updateFilteredRecordList(expectedRecords::contains);
+        expectedModel.updateFilteredAppointmentList(appointment -> false);
+
+        assertCommandSuccess(new FilterDateCommand(START_OF_SEPTEMBER, END_OF_SEPTEMBER), model, expectedMessage,
+                expectedModel);
+        assertEquals(expectedPersons, model.getFilteredPersonList());
+        assertEquals(expectedRecords, model.getFilteredRecordList());
+    }
+
+    @Test
+    public void execute_periodWithAppointments_appointmentsFiltered() {
+        String expectedMessage = String.format(MESSAGE_DATE_RANGE_OVERVIEW, 0, 0, 3);
+        List<?> expectedAppointments = Arrays.asList(EYE_EXAM, VACCINATION, COLONOSCOPY);
+        expectedModel.updateFilteredPersonList(person -> false);
+        expectedModel.updateFilteredAppointmentList(expectedAppointments::contains);
+
+        assertCommandSuccess(new FilterDateCommand(new DateTime("01-01-2001 0000"),
+                new DateTime("31-12-2001 2359")), model, expectedMessage, expectedModel);
+        assertEquals(expectedAppointments, model.getFilteredAppointmentList());
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+
+        // viewing the appointments shows all of them again
+        new ViewAppointmentCommand().execute(model);
+        assertEquals(model.getAppointmentList(), model.getFilteredAppointmentList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        FilterDateCommand command = new FilterDateCommand(START_OF_SEPTEMBER, END_OF_SEPTEMBER);
+        String expected = FilterDateCommand.class.getCanonicalName() + "{start=" + START_OF_SEPTEMBER
+                + ", end=" + END_OF_SEPTEMBER + "}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_RECORDS_FOUND_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BEN;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.record.Record;
+import seedu.address.testutil.RecordBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindAllRecordsCommand}.
+ */
+public class FindAllRecordsCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindAllRecordsCommand findFirstCommand = new FindAllRecordsCommand(Collections.singletonList("first"));
+        FindAllRecordsCommand findSecondCommand = new FindAllRecordsCommand(Collections.singletonList("second"));
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FindAllRecordsCommand(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_noMatchingRecords_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_RECORDS_FOUND_OVERVIEW, 0, 0);
+        FindAllRecordsCommand command = new FindAllRecordsCommand(Collections.singletonList("Dengue"));
+        expectedModel.updateFilteredPersonList(person -> false);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_multipleKeywords_patientsWithMatchingRecordsFound() {
+        // Tylenol is in one record of ALICE, one of BENSON and three of BEN, and Pepto-Bismol is in one record of
+        // CARL and the other record of BEN
+        String expectedMessage = String.format(MESSAGE_RECORDS_FOUND_OVERVIEW, 7, 4);
+        FindAllRecordsCommand command = new FindAllRecordsCommand(Arrays.asList("tylenol", "Pepto-Bismol"));
+        List<?> expectedPersons = Arrays.asList(ALICE, BENSON, CARL, BEN);
+        expectedModel.updateFilteredPersonList(expectedPersons::contains);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(expectedPersons, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_recordAddedAfterSearch_foundBySameSearch() throws Exception {
+        FindAllRecordsCommand command = new FindAllRecordsCommand(Collections.singletonList("Dengue"));
+        command.execute(model);
+        Record dengue = new RecordBuilder().withConditions("Dengue Fever").withMedications("Paracetamol").build();
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        new AddRecordCommand(INDEX_FIRST_PERSON, dengue).execute(model);
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(MESSAGE_RECORDS_FOUND_OVERVIEW, 1, 1), result.getFeedbackToUser());
+        assertEquals(ALICE.getNric(), model.getFilteredPersonList().get(0).getNric());
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = Arrays.asList("Tylenol", "Fever");
+        FindAllRecordsCommand command = new FindAllRecordsCommand(keywords);
+        String expected = FindAllRecordsCommand.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, command.toString());
+    }
+}
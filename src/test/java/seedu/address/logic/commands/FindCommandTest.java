@@ -4,21 +4,31 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.Messages.MESSAGE_SEARCHING;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BEN;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.parser.FindCommandParser;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -52,6 +62,10 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different mode -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicate, true)));
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicate, false, true)));
     }
 
     @Test
@@ -74,11 +88,74 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_operatorWordInName_matchedAsKeyword() throws Exception {
+        Person personNamedOr = new PersonBuilder().withName("Siti Or").withNric("T0012345Z").build();
+        model.addPerson(personNamedOr);
+
+        // without the query marker, OR is a keyword rather than an operator
+        Command command = new FindCommandParser().parse("OR");
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1), command.execute(model).getFeedbackToUser());
+        assertEquals(Arrays.asList(personNamedOr), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_fuzzyMisspeltKeywords_closeMatchesFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 4);
+        FindCommand command = new FindCommand(preparePredicate("Meir Kurz"), true);
+        expectedModel.updateFilteredPersonList(person -> Arrays.asList(BENSON, CARL, DANIEL, FIONA).contains(person));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, CARL, DANIEL, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_rankedKeywords_mostRelevantFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 4);
+        FindCommand command = new FindCommand(preparePredicate("Meier AB+"), false, true);
+        expectedModel.updateFilteredPersonList(person -> Arrays.asList(ALICE, BENSON, BEN, DANIEL).contains(person),
+                Comparator.comparing(person -> Arrays.asList(DANIEL, BENSON, ALICE, BEN).indexOf(person)));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        // both keywords in a name and the blood type, then a name alone, then the blood type alone
+        assertEquals(Arrays.asList(DANIEL, BENSON, ALICE, BEN), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_rankedThenUnranked_addedOrderRestored() {
+        new FindCommand(preparePredicate("Meier AB+"), false, true).execute(model);
+        new FindCommand(preparePredicate("Meier AB+")).execute(model);
+        assertEquals(Arrays.asList(ALICE, BENSON, BEN, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_fuzzyNoCloseWords_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        FindCommand command = new FindCommand(preparePredicate("Zebra"), true);
+        expectedModel.updateFilteredPersonList(unused -> false);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_searchInBackgroundThenDeleteByIndex_personFoundDeleted() throws Exception {
+        // The search is done in the background, and its result is never published
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), task -> { });
+        CommandResult result = new FindCommand(preparePredicate("Benson")).execute(model);
+        assertEquals(MESSAGE_SEARCHING, result.getFeedbackToUser());
+
+        new DeleteCommand(INDEX_FIRST_PERSON).execute(model);
+
+        assertFalse(model.hasPerson(BENSON));
+        assertTrue(model.hasPerson(ALICE));
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1),
+                result.getPendingFeedback().get().toCompletableFuture().getNow(null));
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
         FindCommand findCommand = new FindCommand(predicate);
-        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate
+                + ", isFuzzy=false, isRanked=false}";
         assertEquals(expected, findCommand.toString());
     }
 
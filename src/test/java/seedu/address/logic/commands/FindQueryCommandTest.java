@@ -0,0 +1,109 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.FindQueryCommand.MESSAGE_QUERY_PLAN;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BEN;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.PersonField;
+import seedu.address.model.person.query.QueryNode;
+import seedu.address.model.person.query.QueryPlan;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindQueryCommand}.
+ */
+public class FindQueryCommandTest {
+
+    private static final QueryNode AB_POSITIVE = QueryNode.term(PersonField.BLOOD_TYPE, "ab+");
+    private static final QueryNode MALE = QueryNode.term(PersonField.GENDER, "m");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindQueryCommand findFirstCommand = new FindQueryCommand(AB_POSITIVE, false);
+        FindQueryCommand findSecondCommand = new FindQueryCommand(MALE, false);
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FindQueryCommand(AB_POSITIVE, false)));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // explained instead of run -> returns false
+        assertFalse(findFirstCommand.equals(new FindQueryCommand(AB_POSITIVE, true)));
+    }
+
+    @Test
+    public void execute_query_matchingPersonsListed() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        FindQueryCommand command = new FindQueryCommand(QueryNode.and(Arrays.asList(AB_POSITIVE, MALE)), false);
+        expectedModel.updateFilteredPersonList(person -> person.equals(BEN) || person.equals(DANIEL));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BEN, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_queryWithNot_excludedPersonsNotListed() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        // (n/ab+ NOT g/m) OR (dogs NOT bt/ab+): no one has "ab+" in their name, and only Ben of the dog allergics
+        // has blood type AB+
+        QueryNode query = QueryNode.or(Arrays.asList(
+                QueryNode.and(Arrays.asList(QueryNode.term(PersonField.NAME, "ab+"), QueryNode.not(MALE))),
+                QueryNode.and(Arrays.asList(QueryNode.term("dogs"), QueryNode.not(AB_POSITIVE)))));
+        FindQueryCommand command = new FindQueryCommand(query, false);
+        expectedModel.updateFilteredPersonList(person -> person.equals(CARL));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_onlyNot_allOtherPersonsListed() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 5);
+        FindQueryCommand command = new FindQueryCommand(QueryNode.not(AB_POSITIVE), false);
+        expectedModel.updateFilteredPersonList(person -> !Arrays.asList(ALICE, BEN, DANIEL).contains(person));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_explain_planShownAndListUnchanged() {
+        QueryNode query = QueryNode.and(Arrays.asList(MALE, AB_POSITIVE));
+        QueryPlan plan = model.planPersonQuery(query);
+        String expectedMessage = String.format(MESSAGE_QUERY_PLAN, query, plan.getEstimatedCost(), plan.explain());
+
+        assertCommandSuccess(new FindQueryCommand(query, true), model, expectedMessage, expectedModel);
+        assertTrue(expectedMessage.contains("LOOKUP blood type:ab+"));
+    }
+
+    @Test
+    public void toStringMethod() {
+        FindQueryCommand command = new FindQueryCommand(MALE, true);
+        String expected = FindQueryCommand.class.getCanonicalName() + "{query=" + MALE + ", isExplain=true}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -46,6 +46,7 @@ public class FindRecordCommandTest {
         assertTrue(findRecordCommand1.equals(findRecordCommand1Copy));
         assertFalse(findRecordCommand1.equals(findRecordCommand2));
         assertFalse(findRecordCommand1.equals(firstPredicate));
+        assertFalse(findRecordCommand1.equals(new FindRecordCommand(firstPredicate, true)));
     }
 
     @Test
@@ -72,11 +73,21 @@ public class FindRecordCommandTest {
         expectedModel.updateFilteredRecordList(predicate);
         assertCommandSuccess(findRecordCommand, model, expectedMessage, expectedModel);
     }
+    @Test
+    public void execute_fuzzyMisspeltKeyword_recordsFound() throws CommandException {
+        String expectedMessage = String.format(MESSAGE_RECORDS_LISTED_OVERVIEW, 3);
+        FindRecordCommand findRecordCommand = new FindRecordCommand(preparePredicate("Tylenl"), true);
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        viewCommand.execute(expectedModel);
+        expectedModel.updateFilteredRecordList(preparePredicate("Tylenol"));
+        assertCommandSuccess(findRecordCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void toStringMethod() {
         RecordContainsKeywordsPredicate predicate = preparePredicate("Tylenol");
         FindRecordCommand command = new FindRecordCommand(predicate);
-        String expected = FindRecordCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindRecordCommand.class.getCanonicalName() + "{predicate=" + predicate + ", isFuzzy=false}";
         assertEquals(expected, command.toString());
     }
 
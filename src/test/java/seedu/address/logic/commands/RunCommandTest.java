@@ -0,0 +1,167 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.shared.DateTime;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RunCommand}.
+ */
+public class RunCommandTest {
+
+    /** Takes half a second between the start and the end of each script. */
+    private static final long HALF_A_SECOND = 500_000_000L;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_allLinesSucceed_throughputReported() {
+        RunCommand command = new RunCommand("intake.txt", Map.of(1, new AddCommand(AMY), 3, new ListCommand()),
+                Map.of(), halfSecondTimer());
+        expectedModel.addPerson(AMY);
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_SUCCESS, 2, 2, "intake.txt", 500, 4.0);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_failedLines_reportedAndLaterLinesRun() {
+        RunCommand command = new RunCommand("intake.txt",
+                Map.of(1, new AddCommand(AMY), 2, new AddCommand(AMY), 4, new FindCommand(
+                        new NameContainsKeywordsPredicate(Arrays.asList("Meier")))),
+                Map.of(3, "Unknown command"), halfSecondTimer());
+        expectedModel.addPerson(AMY);
+        expectedModel.updateFilteredPersonListByKeywords(Arrays.asList("Meier"));
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_SUCCESS, 2, 4, "intake.txt", 500, 4.0)
+                + String.format(RunCommand.MESSAGE_FAILED_LINES, 2)
+                + String.format(RunCommand.MESSAGE_FAILED_LINE, 2, AddCommand.MESSAGE_DUPLICATE_PERSON)
+                + String.format(RunCommand.MESSAGE_FAILED_LINE, 3, "Unknown command");
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_lineFailsUnexpectedly_reportedAndOtherLinesCommitted() {
+        IllegalStateException failure = new IllegalStateException("broken");
+        Command failingCommand = new Command() {
+            @Override
+            public CommandResult execute(Model model) {
+                throw failure;
+            }
+        };
+        RunCommand command = new RunCommand("intake.txt", Map.of(1, new AddCommand(AMY), 2, failingCommand,
+                3, new AddCommand(BOB)), Map.of(), halfSecondTimer());
+        expectedModel.addPerson(AMY);
+        expectedModel.addPerson(BOB);
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_SUCCESS, 2, 3, "intake.txt", 500, 4.0)
+                + String.format(RunCommand.MESSAGE_FAILED_LINES, 1)
+                + String.format(RunCommand.MESSAGE_FAILED_LINE, 2,
+                        String.format(RunCommand.MESSAGE_UNEXPECTED_FAILURE, failure));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertFalse(model.isInTransaction());
+    }
+
+    @Test
+    public void execute_listShownRefreshedOnceAtEnd() {
+        model.updateFilteredPersonListByKeywords(Arrays.asList("Meier"));
+        RunCommand command = new RunCommand("intake.txt", Map.of(
+                1, new FilterDateCommand(new DateTime("01-09-2023 0000"), new DateTime("30-09-2023 2359")),
+                2, new ListCommand()), Map.of());
+        int[] changeCount = {0};
+        model.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        command.execute(model);
+
+        // the persons filtered by date are never shown, as they are listed again before the script ends
+        assertEquals(1, changeCount[0]);
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_severalPersonsAdded_personsChangedOnce() {
+        RunCommand command = new RunCommand("intake.txt", Map.of(1, new AddCommand(AMY), 2, new AddCommand(BOB)),
+                Map.of());
+        int[] changeCount = {0};
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        command.execute(model);
+
+        assertEquals(1, changeCount[0]);
+        assertFalse(model.isInTransaction());
+        assertTrue(model.hasPerson(AMY) && model.hasPerson(BOB));
+    }
+
+    @Test
+    public void execute_scriptManagesTransaction_runAsGiven() {
+        RunCommand command = new RunCommand("intake.txt", Map.of(1, new AddCommand(AMY), 2, new BeginCommand(),
+                3, new AddCommand(BOB)), Map.of(), halfSecondTimer());
+        expectedModel.addPerson(AMY);
+        expectedModel.beginTransaction();
+        expectedModel.addPerson(BOB);
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_SUCCESS, 3, 3, "intake.txt", 500, 6.0);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertTrue(model.isInTransaction());
+        assertTrue(model.getAddressBook().getPersonList().contains(AMY));
+        assertFalse(model.getAddressBook().getPersonList().contains(BOB));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand command = new RunCommand("a.txt", Map.of(1, new ListCommand()), Map.of(2, "error"));
+        ListCommand listCommand = new ListCommand();
+        RunCommand first = new RunCommand("a.txt", Map.of(1, listCommand), Map.of(2, "error"));
+
+        // same values -> returns true
+        assertTrue(first.equals(new RunCommand("a.txt", Map.of(1, listCommand), Map.of(2, "error"))));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different types -> returns false
+        assertFalse(command.equals(new ListCommand()));
+
+        // different script -> returns false
+        assertFalse(first.equals(new RunCommand("b.txt", Map.of(1, listCommand), Map.of(2, "error"))));
+
+        // different lines -> returns false
+        assertFalse(first.equals(new RunCommand("a.txt", Map.of(3, listCommand), Map.of(2, "error"))));
+        assertFalse(first.equals(new RunCommand("a.txt", Map.of(1, listCommand), Map.of())));
+    }
+
+    private static LongSupplier halfSecondTimer() {
+        long[] now = {0};
+        return () -> {
+            long time = now[0];
+            now[0] += HALF_A_SECOND;
+            return time;
+        };
+    }
+}
@@ -7,23 +7,38 @@ import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddAppointmentCommand;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BeginCommand;
+import seedu.address.logic.commands.CacheStatsCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommitCommand;
 import seedu.address.logic.commands.DeleteAppointmentCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterDateCommand;
+import seedu.address.logic.commands.FindAllRecordsCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindQueryCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.PinCommand;
+import seedu.address.logic.commands.RollbackCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.UnpinCommand;
 import seedu.address.logic.commands.ViewAppointmentCommand;
 import seedu.address.logic.commands.ViewCommand;
@@ -31,6 +46,9 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonField;
+import seedu.address.model.person.query.QueryNode;
+import seedu.address.model.shared.DateTime;
 import seedu.address.testutil.AppointmentBuilder;
 import seedu.address.testutil.AppointmentUtil;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
@@ -78,12 +96,43 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_findQuery() throws Exception {
+        FindQueryCommand command = (FindQueryCommand) parser.parseCommand(
+                FindCommand.COMMAND_WORD + " ?n/foo AND NOT bar");
+        QueryNode expected = QueryNode.and(Arrays.asList(QueryNode.term(PersonField.NAME, "foo"),
+                QueryNode.not(QueryNode.term("bar"))));
+        assertEquals(new FindQueryCommand(expected, false), command);
+    }
+
+    @Test
+    public void parseCommand_filterDate() throws Exception {
+        FilterDateCommand command = (FilterDateCommand) parser.parseCommand(
+                FilterDateCommand.COMMAND_WORD + " 01-01-2025 31-03-2025");
+        assertEquals(new FilterDateCommand(new DateTime("01-01-2025 0000"), new DateTime("31-03-2025 2359")),
+                command);
+    }
+
+    @Test
+    public void parseCommand_findAllRecords() throws Exception {
+        List<String> keywords = Arrays.asList("Ibuprofen", "Dengue");
+        FindAllRecordsCommand command = (FindAllRecordsCommand) parser.parseCommand(
+                FindAllRecordsCommand.COMMAND_WORD + " " + String.join(" ", keywords));
+        assertEquals(new FindAllRecordsCommand(keywords), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_cacheStats() throws Exception {
+        assertTrue(parser.parseCommand(CacheStatsCommand.COMMAND_WORD) instanceof CacheStatsCommand);
+        assertTrue(parser.parseCommand(CacheStatsCommand.COMMAND_WORD + " 3") instanceof CacheStatsCommand);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
@@ -142,4 +191,88 @@ public class AddressBookParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_lineBreaks_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE);
+        for (String lineBreak : Arrays.asList("\n", "\r", "\u0085", "\u2028", "\u2029")) {
+            assertThrows(ParseException.class, invalidFormat, () ->
+                    parser.parseCommand(FindCommand.COMMAND_WORD + " foo" + lineBreak + "bar"));
+        }
+    }
+
+    @Test
+    public void parseScript_severalLines_runCommand() {
+        String deleteFirst = DeleteCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased();
+        String pinFirst = PinCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased();
+        RunCommand command = parser.parseScript("intake.txt", Arrays.asList(deleteFirst, "", "  ", "unknownCommand",
+                RunCommand.COMMAND_WORD + " intake.txt", pinFirst, FindCommand.COMMAND_WORD + " foo\u2028bar"));
+        assertEquals(new RunCommand("intake.txt",
+                Map.of(1, new DeleteCommand(INDEX_FIRST_PERSON), 6, new PinCommand(INDEX_FIRST_PERSON)),
+                Map.of(4, MESSAGE_UNKNOWN_COMMAND, 5, AddressBookParser.MESSAGE_NESTED_SCRIPT,
+                        7, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE))), command);
+    }
+
+    @Test
+    public void parseCommand_transaction() throws Exception {
+        assertTrue(parser.parseCommand(BeginCommand.COMMAND_WORD) instanceof BeginCommand);
+        assertTrue(parser.parseCommand(CommitCommand.COMMAND_WORD + " 3") instanceof CommitCommand);
+        assertTrue(parser.parseCommand(RollbackCommand.COMMAND_WORD) instanceof RollbackCommand);
+    }
+
+    @Test
+    public void parseCommand_run() throws Exception {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE), ()
+                -> parser.parseCommand(RunCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_registeredAlias_sameCommand() throws Exception {
+        parser.getCommandRegistry().register(new FindCommandParser(), "s", "find");
+
+        FindCommand expected = new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("foo", "bar")));
+        assertEquals(expected, parser.parseCommand("s foo bar"));
+        assertEquals(expected, parser.parseCommand("find\tfoo bar"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () ->
+                new AddressBookParser().parseCommand("s foo"));
+    }
+
+    @Test
+    public void parseCommand_severalThreads_sameCommands() throws Exception {
+        List<String> inputs = Arrays.asList(FindCommand.COMMAND_WORD + " foo bar",
+                PinCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased(), ListCommand.COMMAND_WORD,
+                FindCommand.COMMAND_WORD + " ?n/tan AND bt/O+");
+        List<Command> expected = new ArrayList<>();
+        for (String input : inputs) {
+            expected.add(parser.parseCommand(input));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<Command>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    List<Command> commands = new ArrayList<>();
+                    for (int round = 0; round < 100; round++) {
+                        for (String input : inputs) {
+                            commands.add(parser.parseCommand(input));
+                        }
+                    }
+                    return commands;
+                }));
+            }
+            for (Future<List<Command>> result : results) {
+                List<Command> commands = result.get(10, TimeUnit.SECONDS);
+                for (int i = 0; i < commands.size(); i++) {
+                    // ListCommand has no fields to compare
+                    Command expectedCommand = expected.get(i % inputs.size());
+                    assertTrue(expectedCommand instanceof ListCommand
+                            ? commands.get(i) instanceof ListCommand
+                            : expectedCommand.equals(commands.get(i)));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -136,6 +136,25 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_compiledPrefixesSharingCharacters_eachRecognized() {
+        Prefix aSlash = new Prefix("a/");
+        Prefix alSlash = new Prefix("al/");
+        PrefixMatcher prefixes = new PrefixMatcher(aSlash, alSlash, pSlash);
+
+        String argsString = "1 al/ Dust a/24 al/Pollen p/ 9876 a/al/";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, prefixes);
+        assertPreamblePresent(argMultimap, "1");
+        assertArgumentPresent(argMultimap, aSlash, "24", "al/");
+        assertArgumentPresent(argMultimap, alSlash, "Dust", "Pollen");
+        assertArgumentPresent(argMultimap, pSlash, "9876");
+
+        // the same compiled prefixes give the same values as prefixes given each time
+        argMultimap = ArgumentTokenizer.tokenize(argsString, aSlash, alSlash, pSlash);
+        assertArgumentPresent(argMultimap, aSlash, "24", "al/");
+        assertArgumentPresent(argMultimap, alSlash, "Dust", "Pollen");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
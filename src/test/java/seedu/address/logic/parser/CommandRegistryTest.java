@@ -0,0 +1,71 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ListCommand;
+
+public class CommandRegistryTest {
+
+    private final CommandRegistry registry = new CommandRegistry();
+    private final Parser<ListCommand> listParser = arguments -> new ListCommand();
+
+    @Test
+    public void register_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> registry.register(null, "list"));
+        assertThrows(NullPointerException.class, () -> registry.register(listParser, null));
+        assertThrows(NullPointerException.class, () -> registry.register(listParser, "list", (String) null));
+    }
+
+    @Test
+    public void register_commandWordAndAliases_sameParserForEach() {
+        registry.register(listParser, "list", "ls", "l");
+
+        assertSame(listParser, registry.getParser("list").get());
+        assertSame(listParser, registry.getParser("ls").get());
+        assertSame(listParser, registry.getParser("l").get());
+        assertFalse(registry.getParser("LIST").isPresent());
+        assertFalse(registry.getParser("lis").isPresent());
+    }
+
+    @Test
+    public void register_invalidCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, CommandRegistry.MESSAGE_CONSTRAINTS, () ->
+                registry.register(listParser, ""));
+        assertThrows(IllegalArgumentException.class, CommandRegistry.MESSAGE_CONSTRAINTS, () ->
+                registry.register(listParser, "list", "l s"));
+
+        // nothing registered when any word is invalid
+        assertFalse(registry.getParser("list").isPresent());
+    }
+
+    @Test
+    public void register_duplicateWord_throwsIllegalArgumentException() {
+        registry.register(listParser, "list", "ls");
+
+        assertThrows(IllegalArgumentException.class, String.format(CommandRegistry.MESSAGE_DUPLICATE_COMMAND_WORD,
+                "ls"), () -> registry.register(arguments -> new ListCommand(), "all", "ls"));
+        assertThrows(IllegalArgumentException.class, String.format(CommandRegistry.MESSAGE_DUPLICATE_COMMAND_WORD,
+                "a"), () -> registry.register(arguments -> new ListCommand(), "all", "a", "a"));
+
+        // nothing registered when any word is a duplicate
+        assertFalse(registry.getParser("all").isPresent());
+    }
+
+    @Test
+    public void isValidCommandWord() {
+        assertThrows(NullPointerException.class, () -> CommandRegistry.isValidCommandWord(null));
+
+        assertFalse(CommandRegistry.isValidCommandWord(""));
+        assertFalse(CommandRegistry.isValidCommandWord(" "));
+        assertFalse(CommandRegistry.isValidCommandWord("add record"));
+        assertFalse(CommandRegistry.isValidCommandWord("add\trecord"));
+
+        assertTrue(CommandRegistry.isValidCommandWord("addrecord"));
+        assertTrue(CommandRegistry.isValidCommandWord("?"));
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.FilterDateCommandParser.MESSAGE_INVALID_DATE;
+import static seedu.address.logic.parser.FilterDateCommandParser.MESSAGE_START_AFTER_END;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterDateCommand;
+import seedu.address.model.shared.DateTime;
+
+public class FilterDateCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterDateCommand.MESSAGE_USAGE);
+
+    private FilterDateCommandParser parser = new FilterDateCommandParser();
+
+    @Test
+    public void parse_wrongNumberOfDates_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "01-01-2025", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "01-01-2025 0900 31-03-2025", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidDate_throwsParseException() {
+        assertParseFailure(parser, "01-01-2025 31-02-2025", MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, "2025-01-01 31-03-2025", MESSAGE_INVALID_DATE);
+    }
+
+    @Test
+    public void parse_startAfterEnd_throwsParseException() {
+        assertParseFailure(parser, "31-03-2025 01-01-2025", MESSAGE_START_AFTER_END);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFilterDateCommand() {
+        FilterDateCommand expectedCommand = new FilterDateCommand(new DateTime("01-01-2025 0000"),
+                new DateTime("31-03-2025 2359"));
+        assertParseSuccess(parser, "01-01-2025 31-03-2025", expectedCommand);
+
+        // multiple whitespaces between dates
+        assertParseSuccess(parser, " \n 01-01-2025 \t 31-03-2025 \n", expectedCommand);
+
+        // the same date
+        assertParseSuccess(parser, "01-01-2025 01-01-2025", new FilterDateCommand(new DateTime("01-01-2025 0000"),
+                new DateTime("01-01-2025 2359")));
+    }
+}
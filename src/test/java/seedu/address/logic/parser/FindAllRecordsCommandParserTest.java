@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindAllRecordsCommand;
+
+public class FindAllRecordsCommandParserTest {
+
+    private FindAllRecordsCommandParser parser = new FindAllRecordsCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindAllRecordsCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindAllRecordsCommand() {
+        // no leading and trailing whitespaces
+        FindAllRecordsCommand expectedFindAllRecordsCommand =
+                new FindAllRecordsCommand(Arrays.asList("Tylenol", "Fever"));
+        assertParseSuccess(parser, "Tylenol Fever", expectedFindAllRecordsCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n Tylenol \n \t Fever  \t", expectedFindAllRecordsCommand);
+    }
+}
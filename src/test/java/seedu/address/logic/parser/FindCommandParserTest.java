@@ -9,7 +9,10 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindQueryCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonField;
+import seedu.address.model.person.query.QueryNode;
 
 public class FindCommandParserTest {
 
@@ -31,4 +34,48 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyMarker_returnsFuzzyFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alcie", "Bob")), true);
+        assertParseSuccess(parser, "~Alcie Bob", expectedFindCommand);
+        assertParseSuccess(parser, " ~  Alcie Bob", expectedFindCommand);
+
+        assertParseFailure(parser, " ~ ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_rankedMarker_returnsRankedFindCommand() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob"));
+        assertParseSuccess(parser, "^Alice Bob", new FindCommand(predicate, false, true));
+        assertParseSuccess(parser, " ^ ~Alice Bob", new FindCommand(predicate, true, true));
+        assertParseSuccess(parser, "~^Alice Bob", new FindCommand(predicate, true, true));
+
+        // a marker given twice is a keyword
+        assertParseSuccess(parser, "^^Alice", new FindCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("^Alice")), false, true));
+        assertParseFailure(parser, " ^ ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_query_returnsFindQueryCommand() {
+        QueryNode expectedQuery = QueryNode.and(Arrays.asList(QueryNode.term(PersonField.NAME, "tan"),
+                QueryNode.term(PersonField.BLOOD_TYPE, "O+")));
+        assertParseSuccess(parser, "?n/tan AND bt/O+", new FindQueryCommand(expectedQuery, false));
+        assertParseSuccess(parser, " ? EXPLAIN n/tan AND bt/O+", new FindQueryCommand(expectedQuery, true));
+
+        assertParseFailure(parser, " ? ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_querySyntaxWithoutMarker_returnsFindCommand() {
+        // operators, brackets and prefixes are plain keywords, as in names such as "Tan Or Lim" or "Bob (Jr)"
+        assertParseSuccess(parser, "Tan OR Lim", new FindCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("Tan", "OR", "Lim"))));
+        assertParseSuccess(parser, "Bob (Jr)", new FindCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("Bob", "(Jr)"))));
+        assertParseSuccess(parser, "EXPLAIN n/tan", new FindCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("EXPLAIN", "n/tan"))));
+    }
+
 }
@@ -0,0 +1,66 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.FindQueryCommandParser.MESSAGE_MISSING_KEYWORD;
+import static seedu.address.logic.parser.FindQueryCommandParser.MESSAGE_MISSING_VALUE;
+import static seedu.address.logic.parser.FindQueryCommandParser.MESSAGE_UNCLOSED_BRACKET;
+import static seedu.address.logic.parser.FindQueryCommandParser.MESSAGE_UNEXPECTED_TOKEN;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindQueryCommand;
+import seedu.address.model.person.PersonField;
+import seedu.address.model.person.query.QueryNode;
+
+public class FindQueryCommandParserTest {
+
+    private static final QueryNode NAME_TAN = QueryNode.term(PersonField.NAME, "tan");
+    private static final QueryNode BLOOD_TYPE_O = QueryNode.term(PersonField.BLOOD_TYPE, "O+");
+    private static final QueryNode ALLERGY_PENICILLIN = QueryNode.term(PersonField.ALLERGY, "penicillin");
+    private static final QueryNode GENDER_F = QueryNode.term(PersonField.GENDER, "F");
+
+    private FindQueryCommandParser parser = new FindQueryCommandParser();
+
+    @Test
+    public void parse_andNot_allOperandsOfOneAnd() {
+        QueryNode expected = QueryNode.and(Arrays.asList(NAME_TAN, BLOOD_TYPE_O, ALLERGY_PENICILLIN,
+                QueryNode.not(GENDER_F)));
+        assertParseSuccess(parser, "n/tan AND bt/O+ AND al/penicillin NOT g/F", new FindQueryCommand(expected, false));
+        assertParseSuccess(parser, "n/tan AND bt/O+ AND al/penicillin AND NOT g/F",
+                new FindQueryCommand(expected, false));
+    }
+
+    @Test
+    public void parse_precedence_orLoosestAndAdjacentKeywordsOred() {
+        QueryNode expected = QueryNode.or(Arrays.asList(NAME_TAN,
+                QueryNode.and(Arrays.asList(BLOOD_TYPE_O, ALLERGY_PENICILLIN)), QueryNode.term("lim")));
+        assertParseSuccess(parser, "n/tan OR bt/O+ AND al/penicillin lim", new FindQueryCommand(expected, false));
+    }
+
+    @Test
+    public void parse_brackets_grouped() {
+        QueryNode expected = QueryNode.and(Arrays.asList(
+                QueryNode.or(Arrays.asList(NAME_TAN, QueryNode.term(PersonField.NAME, "lim"))),
+                QueryNode.not(QueryNode.or(Arrays.asList(GENDER_F, BLOOD_TYPE_O)))));
+        assertParseSuccess(parser, "(n/tan OR n/lim) AND NOT (g/F OR bt/O+)", new FindQueryCommand(expected, false));
+        assertParseSuccess(parser, "(n/tan n/lim)NOT(g/F bt/O+)", new FindQueryCommand(expected, false));
+    }
+
+    @Test
+    public void parse_explain_explainCommand() {
+        assertParseSuccess(parser, "EXPLAIN n/tan", new FindQueryCommand(NAME_TAN, true));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertParseFailure(parser, "n/tan AND", MESSAGE_MISSING_KEYWORD);
+        assertParseFailure(parser, "EXPLAIN", MESSAGE_MISSING_KEYWORD);
+        assertParseFailure(parser, "OR n/tan", String.format(MESSAGE_UNEXPECTED_TOKEN, "OR"));
+        assertParseFailure(parser, "n/tan)", String.format(MESSAGE_UNEXPECTED_TOKEN, ")"));
+        assertParseFailure(parser, "(n/tan", MESSAGE_UNCLOSED_BRACKET);
+        assertParseFailure(parser, "n/ AND g/F", String.format(MESSAGE_MISSING_VALUE, CliSyntax.PREFIX_NAME));
+    }
+}
@@ -30,4 +30,14 @@ public class FindRecordCommandParserTest {
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Tylenol \n", expectedFindRecordCommand);
     }
+
+    @Test
+    public void parse_fuzzyMarker_returnsFuzzyFindRecordCommand() {
+        FindRecordCommand expectedFindRecordCommand =
+                new FindRecordCommand(new RecordContainsKeywordsPredicate(Arrays.asList("Tylenl")), true);
+        assertParseSuccess(parser, "~Tylenl", expectedFindRecordCommand);
+
+        assertParseFailure(parser, "~", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindRecordCommand.MESSAGE_USAGE));
+    }
 }
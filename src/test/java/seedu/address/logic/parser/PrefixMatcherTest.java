@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixMatcherTest {
+
+    private final Prefix aSlash = new Prefix("a/");
+    private final Prefix alSlash = new Prefix("al/");
+    private final Prefix btSlash = new Prefix("bt/");
+    private final PrefixMatcher matcher = new PrefixMatcher(aSlash, alSlash, btSlash);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PrefixMatcher((Prefix[]) null));
+        assertThrows(NullPointerException.class, () -> new PrefixMatcher(aSlash, null));
+    }
+
+    @Test
+    public void match_prefixAtPosition_longestPrefixReturned() {
+        assertEquals(aSlash, matcher.match("a/24", 0));
+        assertEquals(alSlash, matcher.match("al/Dust", 0));
+        assertEquals(btSlash, matcher.match("1 bt/O+", 2));
+        assertEquals(aSlash, matcher.match("x a/al/", 2));
+    }
+
+    @Test
+    public void match_noPrefixAtPosition_returnsNull() {
+        assertNull(matcher.match("al", 0));
+        assertNull(matcher.match("1 bt/O+", 1));
+        assertNull(matcher.match("A/24", 0));
+        assertNull(matcher.match("a/", 2));
+        assertNull(new PrefixMatcher().match("a/", 0));
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.PinCommand;
+import seedu.address.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private RunCommandParser parser = new RunCommandParser(new AddressBookParser());
+
+    @Test
+    public void parse_scriptFile_returnsRunCommand() throws IOException {
+        Path script = testFolder.resolve("intake.txt");
+        Files.write(script, Arrays.asList("pin 1", "", "unknownCommand", "run " + script, "  delete 2  "));
+
+        RunCommand expectedCommand = new RunCommand(script.toString(),
+                Map.of(1, new PinCommand(INDEX_FIRST_PERSON), 5, new DeleteCommand(INDEX_SECOND_PERSON)),
+                Map.of(3, MESSAGE_UNKNOWN_COMMAND, 4, AddressBookParser.MESSAGE_NESTED_SCRIPT));
+        assertParseSuccess(parser, " " + script + " ", expectedCommand);
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        Path script = testFolder.resolve("missing.txt");
+        String expectedMessage = String.format(RunCommandParser.MESSAGE_CANNOT_READ_FILE, script, script);
+        assertParseFailure(parser, script.toString(), expectedMessage);
+    }
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+}
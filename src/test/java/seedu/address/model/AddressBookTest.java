@@ -6,20 +6,31 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ALLERGY_PEANUTS;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_GENDER_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.COLONOSCOPY;
+import static seedu.address.testutil.TypicalAppointments.EYE_EXAM;
+import static seedu.address.testutil.TypicalAppointments.STD_TEST;
+import static seedu.address.testutil.TypicalAppointments.VACCINATION;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChangeset;
+import seedu.address.model.person.PersonSuggester;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.shared.DateTime;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -43,6 +54,17 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void resetData_withAddressBook_copiesIndependently() {
+        AddressBook newData = getTypicalAddressBook();
+        addressBook.resetData(newData);
+        newData.removePerson(ALICE);
+
+        assertTrue(addressBook.hasPerson(ALICE));
+        assertEquals(Optional.of(ALICE), addressBook.findPersonByNric(ALICE.getNric()));
+        assertFalse(newData.hasPerson(ALICE));
+    }
+
     @Test
     public void resetData_withDuplicatePersons_throwsDuplicatePersonException() {
         // Two persons with the same identity fields
@@ -56,6 +78,105 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void getModificationCount_personsChanged_increases() {
+        long count = addressBook.getModificationCount();
+
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getModificationCount() > count);
+
+        count = addressBook.getModificationCount();
+        Person editedAlice = new PersonBuilder(ALICE).withGender(VALID_GENDER_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertTrue(addressBook.getModificationCount() > count);
+
+        count = addressBook.getModificationCount();
+        addressBook.removePerson(editedAlice);
+        assertTrue(addressBook.getModificationCount() > count);
+
+        count = addressBook.getModificationCount();
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.getModificationCount() > count);
+    }
+
+    @Test
+    public void getModificationCount_onlyViewChanged_unchanged() {
+        addressBook.addPerson(ALICE);
+        long count = addressBook.getModificationCount();
+
+        addressBook.setRecords(ALICE);
+        addressBook.getAppointmentList();
+        assertEquals(count, addressBook.getModificationCount());
+    }
+
+    @Test
+    public void applyChangeset_changes_madeAtOnce() {
+        addressBook.resetData(getTypicalAddressBook());
+        List<Appointment> appointments = addressBook.getAppointmentList();
+        long count = addressBook.getModificationCount();
+        int[] changeCount = {0};
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        PersonChangeset changeset = addressBook.createChangeset();
+        changeset.remove(ALICE);
+        changeset.setPerson(BENSON, new PersonBuilder(BENSON).withAppointments(STD_TEST).build());
+        assertEquals(0, changeCount[0]);
+
+        addressBook.applyChangeset(changeset);
+        assertEquals(1, changeCount[0]);
+        assertEquals(count + 1, addressBook.getModificationCount());
+        assertFalse(addressBook.hasPerson(ALICE));
+        assertTrue(appointments.contains(STD_TEST));
+        assertFalse(appointments.contains(EYE_EXAM));
+        assertFalse(appointments.contains(VACCINATION));
+    }
+
+    @Test
+    public void applyChangeset_noChanges_unchanged() {
+        addressBook.resetData(getTypicalAddressBook());
+        long count = addressBook.getModificationCount();
+
+        addressBook.applyChangeset(addressBook.createChangeset());
+        assertEquals(count, addressBook.getModificationCount());
+        assertEquals(getTypicalAddressBook(), addressBook);
+    }
+
+    @Test
+    public void getAppointmentList_personsChangedAfterwards_listUpdated() {
+        addressBook.addPerson(BENSON);
+        List<Appointment> appointments = addressBook.getAppointmentList();
+        assertEquals(Collections.singletonList(VACCINATION), appointments);
+
+        addressBook.addPerson(ALICE);
+        assertEquals(Arrays.asList(EYE_EXAM, VACCINATION), appointments);
+
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withAppointments(STD_TEST).build());
+        assertEquals(Arrays.asList(STD_TEST, EYE_EXAM), appointments);
+
+        addressBook.removePerson(ALICE);
+        assertEquals(Collections.singletonList(STD_TEST), appointments);
+    }
+
+    @Test
+    public void getPersonSuggester_personsChangedAfterwards_suggestionsUpdated() {
+        addressBook.addPerson(BENSON);
+        PersonSuggester suggester = addressBook.getPersonSuggester();
+        assertEquals(Collections.singletonList(BENSON), suggester.suggest("ben", 10));
+
+        addressBook.addPerson(ALICE);
+        assertEquals(Collections.singletonList(ALICE), suggester.suggest("ali", 10));
+
+        addressBook.removePerson(BENSON);
+        assertTrue(suggester.suggest("ben", 10).isEmpty());
+    }
+
+    @Test
+    public void getAppointmentsBetween_typicalAddressBook_onlyAppointmentsInPeriod() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        assertEquals(Arrays.asList(VACCINATION, COLONOSCOPY), typicalAddressBook.getAppointmentsBetween(
+                new DateTime("01-09-2001 0000"), new DateTime("31-12-2001 2359")));
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
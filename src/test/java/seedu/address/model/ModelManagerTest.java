@@ -3,20 +3,45 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_GENDER_AMY;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_APPOINTMENTS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_RECORDS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.STD_TEST;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BEN;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonField;
+import seedu.address.model.person.RelevanceWeights;
+import seedu.address.model.record.Record;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +113,13 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void findPersonByNric_personInAddressBook_returnsPerson() {
+        modelManager.addPerson(ALICE);
+        assertEquals(Optional.of(ALICE), modelManager.findPersonByNric(ALICE.getNric()));
+        assertFalse(modelManager.findPersonByNric(BENSON.getNric()).isPresent());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -103,6 +135,225 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getPinnedPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonListByKeywords_sameKeywords_personsReusedUntilChanged() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        modelManager.updateFilteredPersonListByKeywords(Arrays.asList("Meier"));
+        modelManager.updateFilteredPersonListByKeywords(Arrays.asList(" MEIER", "meier"));
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+        assertEquals(new SearchResultCache.Statistics(1, 1, 0, 1, ModelManager.SEARCH_CACHE_CAPACITY),
+                modelManager.getPersonSearchCacheStatistics());
+
+        // a change to the persons is never hidden by a cached result
+        modelManager.addPerson(HOON);
+        modelManager.updateFilteredPersonListByKeywords(Arrays.asList("Meier"));
+        assertEquals(3, modelManager.getFilteredPersonList().size());
+        assertEquals(new SearchResultCache.Statistics(1, 2, 0, 1, ModelManager.SEARCH_CACHE_CAPACITY),
+                modelManager.getPersonSearchCacheStatistics());
+    }
+
+    @Test
+    public void updateFilteredRecordListByKeywords_sameKeywords_recordsReusedUntilListChanged() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person viewed = modelManager.getFilteredPersonList().get(3);
+        modelManager.updateRecordList(viewed);
+
+        modelManager.updateFilteredRecordListByKeywords(Arrays.asList("Tylenol"));
+        List<Record> expected = new ArrayList<>(modelManager.getFilteredRecordList());
+        modelManager.updateFilteredRecordListByKeywords(Arrays.asList("tylenol"));
+        assertEquals(expected, modelManager.getFilteredRecordList());
+        assertEquals(new SearchResultCache.Statistics(1, 1, 0, 1, ModelManager.SEARCH_CACHE_CAPACITY),
+                modelManager.getRecordSearchCacheStatistics());
+
+        modelManager.updateRecordList(viewed);
+        modelManager.updateFilteredRecordListByKeywords(Arrays.asList("Tylenol"));
+        assertEquals(expected, modelManager.getFilteredRecordList());
+        assertEquals(new SearchResultCache.Statistics(1, 2, 0, 1, ModelManager.SEARCH_CACHE_CAPACITY),
+                modelManager.getRecordSearchCacheStatistics());
+    }
+
+    @Test
+    public void updateFilteredPersonListByKeywordsInBackground_newerFilter_searchCancelled() throws Exception {
+        LinkedBlockingQueue<Runnable> published = new LinkedBlockingQueue<>();
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs(), published::add);
+
+        CompletableFuture<Integer> shownCount =
+                modelManager.updateFilteredPersonListByKeywordsInBackground(Arrays.asList("Benson"));
+        Runnable publish = published.poll(10, TimeUnit.SECONDS);
+        assertFalse(shownCount.isDone());
+        publish.run();
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+        assertEquals(1, shownCount.getNow(-1).intValue());
+
+        // a search that is overtaken by a newer filter is never shown
+        shownCount = modelManager.updateFilteredPersonListByKeywordsInBackground(Arrays.asList("Daniel"));
+        publish = published.poll(10, TimeUnit.SECONDS);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        publish.run();
+        assertEquals(getTypicalAddressBook().getPersonList(), modelManager.getFilteredPersonList());
+        assertFalse(shownCount.isDone());
+    }
+
+    @Test
+    public void getFilteredPersonList_searchNotPublished_personsFoundShownFirst() throws Exception {
+        LinkedBlockingQueue<Runnable> published = new LinkedBlockingQueue<>();
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs(), published::add);
+        CompletableFuture<Integer> shownCount =
+                modelManager.updateFilteredPersonListByKeywordsInBackground(Arrays.asList("Benson"));
+
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+        assertEquals(1, shownCount.getNow(-1).intValue());
+
+        // the result is not shown again once published
+        List<Integer> changeCount = new ArrayList<>();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> changeCount.add(1));
+        published.poll(10, TimeUnit.SECONDS).run();
+        assertTrue(changeCount.isEmpty());
+    }
+
+    @Test
+    public void updateFilteredPersonListByKeywordsInBackground_noSearchPublisher_shownAtOnce() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        CompletableFuture<Integer> shownCount =
+                modelManager.updateFilteredPersonListByKeywordsInBackground(Arrays.asList("Meier"));
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+        assertEquals(2, shownCount.getNow(-1).intValue());
+    }
+
+    @Test
+    public void updateFilteredRecordListByKeywordsInBackground_notCached_shownWhenPublished() throws Exception {
+        LinkedBlockingQueue<Runnable> published = new LinkedBlockingQueue<>();
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs(), published::add);
+        modelManager.updateRecordList(modelManager.getFilteredPersonList().get(3));
+        modelManager.updateFilteredRecordListByKeywords(Arrays.asList("Tylenol"));
+        List<Record> expected = new ArrayList<>(modelManager.getFilteredRecordList());
+        modelManager.updateFilteredRecordList(PREDICATE_SHOW_ALL_RECORDS);
+
+        CompletableFuture<Integer> shownCount =
+                modelManager.updateFilteredRecordListByKeywordsInBackground(Arrays.asList("tylenol"));
+        assertEquals(expected.size(), shownCount.getNow(-1).intValue());
+        assertEquals(expected, modelManager.getFilteredRecordList());
+        assertTrue(published.isEmpty());
+
+        shownCount = modelManager.updateFilteredRecordListByKeywordsInBackground(Arrays.asList("nothing"));
+        assertFalse(shownCount.isDone());
+        published.poll(10, TimeUnit.SECONDS).run();
+        assertEquals(0, shownCount.getNow(-1).intValue());
+        assertEquals(new SearchResultCache.Statistics(1, 2, 0, 2, ModelManager.SEARCH_CACHE_CAPACITY),
+                modelManager.getRecordSearchCacheStatistics());
+    }
+
+    @Test
+    public void updateFilteredPersonList_comparator_sortedUntilFilterUpdated() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<Person> ranked = Arrays.asList(DANIEL, ALICE, BENSON);
+
+        modelManager.updateFilteredPersonList(ranked::contains, Comparator.comparing(ranked::indexOf));
+        assertEquals(ranked, modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(ranked::contains);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), modelManager.getFilteredPersonList());
+        assertThrows(NullPointerException.class, () -> modelManager.updateFilteredPersonList(ranked::contains, null));
+    }
+
+    @Test
+    public void suspendListUpdates_filterUpdated_appliedWhenListGotOrUpdatesResumed() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        ObservableList<Person> shown = modelManager.getFilteredPersonList();
+        int[] changeCount = {0};
+        shown.addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        modelManager.suspendListUpdates();
+        modelManager.updateFilteredPersonList(person -> person.equals(BENSON));
+        modelManager.updateFilteredPersonList(person -> person.equals(DANIEL));
+        assertEquals(0, changeCount[0]);
+        modelManager.resumeListUpdates();
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(DANIEL), shown);
+
+        // a list got while updates are suspended is always up to date
+        modelManager.suspendListUpdates();
+        modelManager.updateFilteredPersonList(person -> person.equals(ALICE));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+        modelManager.resumeListUpdates();
+        assertEquals(2, changeCount[0]);
+    }
+
+    @Test
+    public void commitTransaction_changes_madeAtOnce() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        ObservableList<Person> shown = modelManager.getFilteredPersonList();
+        List<Person> persons = new ArrayList<>(shown);
+        long count = modelManager.getModificationCount();
+        int[] changeCount = {0};
+        modelManager.getAddressBook().getPersonList()
+                .addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        modelManager.beginTransaction();
+        Person editedBenson = new PersonBuilder(BENSON).withGender(VALID_GENDER_AMY).build();
+        modelManager.setPerson(BENSON, editedBenson);
+        modelManager.deletePerson(ALICE);
+        modelManager.addPerson(HOON);
+
+        // commands see the changes, but the list shown and the data saved do not
+        assertTrue(modelManager.hasPerson(HOON));
+        assertEquals(Optional.empty(), modelManager.findPersonByNric(ALICE.getNric()));
+        List<Person> expected = new ArrayList<>(persons);
+        expected.remove(ALICE);
+        expected.set(0, editedBenson);
+        expected.add(HOON);
+        assertEquals(expected, modelManager.getFilteredPersonList());
+        assertEquals(persons, shown);
+        assertEquals(count, modelManager.getModificationCount());
+        assertEquals(0, changeCount[0]);
+
+        modelManager.commitTransaction();
+        assertFalse(modelManager.isInTransaction());
+        assertEquals(expected, shown);
+        assertEquals(1, changeCount[0]);
+        assertEquals(count + 1, modelManager.getModificationCount());
+    }
+
+    @Test
+    public void rollbackTransaction_changes_discarded() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        long count = modelManager.getModificationCount();
+
+        modelManager.beginTransaction();
+        Person bensonWithAppointment = new PersonBuilder(BENSON).withAppointments(STD_TEST).build();
+        modelManager.setPerson(BENSON, bensonWithAppointment);
+        modelManager.updateRecordList(bensonWithAppointment);
+        modelManager.addPerson(HOON);
+
+        modelManager.rollbackTransaction();
+        assertFalse(modelManager.isInTransaction());
+        assertFalse(modelManager.hasPerson(HOON));
+        assertEquals(getTypicalAddressBook().getPersonList(), modelManager.getFilteredPersonList());
+        assertEquals(Arrays.asList(BENSON), modelManager.getPersonBeingViewed());
+        assertEquals(count, modelManager.getModificationCount());
+    }
+
+    @Test
+    public void transaction_wrongState_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> modelManager.commitTransaction());
+        assertThrows(IllegalStateException.class, () -> modelManager.rollbackTransaction());
+        modelManager.beginTransaction();
+        assertThrows(IllegalStateException.class, () -> modelManager.beginTransaction());
+    }
+
+    @Test
+    public void findPersonsRanked_weightsInUserPrefs_used() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setRelevanceWeights(new RelevanceWeights(Map.of(PersonField.ALLERGY, 20), 10));
+        modelManager = new ModelManager(getTypicalAddressBook(), userPrefs);
+
+        // Carl and Ben are allergic to dogs
+        assertEquals(Arrays.asList(CARL.getNric(), BEN.getNric(), BENSON.getNric(), DANIEL.getNric()),
+                modelManager.findPersonsRanked(Arrays.asList("Meier", "Dogs"), 10));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -134,6 +385,14 @@ public class ModelManagerTest {
         // resets modelManager to initial state for upcoming tests
         modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
+        // different appointments shown -> returns false
+        modelManager.updateFilteredAppointmentList(appointment -> false);
+        assertFalse(modelManager.equals(new ModelManager(addressBook, userPrefs)));
+
+        // all appointments shown, whether or not they were ever listed -> returns true
+        modelManager.updateFilteredAppointmentList(PREDICATE_SHOW_ALL_APPOINTMENTS);
+        assertTrue(modelManager.equals(new ModelManager(addressBook, userPrefs)));
+
         // different userPrefs -> returns false
         UserPrefs differentUserPrefs = new UserPrefs();
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
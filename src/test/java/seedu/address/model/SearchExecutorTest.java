@@ -0,0 +1,146 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class SearchExecutorTest {
+
+    private static final int SIZE = SearchExecutor.CHUNK_SIZE * 5 + 37;
+    private static final Predicate<Integer> IS_MULTIPLE_OF_THREE = number -> number % 3 == 0;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final LinkedBlockingQueue<Runnable> published = new LinkedBlockingQueue<>();
+    private final SearchExecutor executor = new SearchExecutor(pool, published::add);
+    private final List<Integer> numbers = new ArrayList<>();
+
+    {
+        for (int i = 0; i < SIZE; i++) {
+            numbers.add(i);
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void evaluate_manyChunks_sameAsTestingInOrder() {
+        BitSet expected = new BitSet();
+        for (int i = 0; i < SIZE; i++) {
+            if (IS_MULTIPLE_OF_THREE.test(i)) {
+                expected.set(i);
+            }
+        }
+
+        assertEquals(expected, executor.evaluate(numbers, IS_MULTIPLE_OF_THREE));
+        assertEquals(new BitSet(), executor.evaluate(new ArrayList<Integer>(), IS_MULTIPLE_OF_THREE));
+    }
+
+    @Test
+    public void submit_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> executor.submit(null, IS_MULTIPLE_OF_THREE, unused -> { }));
+        assertThrows(NullPointerException.class, () -> executor.submit(numbers, null, unused -> { }));
+        assertThrows(NullPointerException.class, () -> executor.submit(numbers, IS_MULTIPLE_OF_THREE, null));
+    }
+
+    @Test
+    public void submit_completed_predicateWithResultsPublished() throws Exception {
+        List<Predicate<Integer>> found = new ArrayList<>();
+        SearchExecutor.Search search = executor.submit(numbers, IS_MULTIPLE_OF_THREE, found::add);
+
+        assertEquals(executor.evaluate(numbers, IS_MULTIPLE_OF_THREE), search.join());
+        published.poll(10, TimeUnit.SECONDS).run();
+        assertEquals(1, found.size());
+
+        // looked up for the items searched, and tested for any other item
+        Predicate<Integer> predicate = found.get(0);
+        assertTrue(predicate.test(numbers.get(3)));
+        assertFalse(predicate.test(numbers.get(4)));
+        assertTrue(predicate.test(SIZE * 3));
+        assertFalse(predicate.test(SIZE * 3 + 1));
+    }
+
+    @Test
+    public void submit_newerSearch_earlierSearchCancelled() throws Exception {
+        CountDownLatch isBlocked = new CountDownLatch(1);
+        CountDownLatch unblock = new CountDownLatch(1);
+        Predicate<Integer> blocking = number -> {
+            isBlocked.countDown();
+            await(unblock);
+            return true;
+        };
+        List<Predicate<Integer>> found = new ArrayList<>();
+
+        SearchExecutor.Search first = executor.submit(List.of(1, 2), blocking, found::add);
+        isBlocked.await(10, TimeUnit.SECONDS);
+        SearchExecutor.Search second = executor.submit(numbers, IS_MULTIPLE_OF_THREE, found::add);
+        unblock.countDown();
+
+        assertTrue(first.isCancelled());
+        assertThrows(CancellationException.class, first::join);
+        second.join();
+        published.poll(10, TimeUnit.SECONDS).run();
+        assertEquals(1, found.size());
+        assertFalse(found.get(0).test(1));
+    }
+
+    @Test
+    public void cancel_beforePublished_notPublished() throws Exception {
+        List<Predicate<Integer>> found = new ArrayList<>();
+        SearchExecutor.Search search = executor.submit(numbers, IS_MULTIPLE_OF_THREE, found::add);
+        search.join();
+        Runnable publish = published.poll(10, TimeUnit.SECONDS);
+
+        executor.cancel();
+        publish.run();
+        assertTrue(found.isEmpty());
+    }
+
+    @Test
+    public void finishPending_notPublished_passedOnOnce() throws Exception {
+        List<Predicate<Integer>> found = new ArrayList<>();
+        executor.submit(numbers, IS_MULTIPLE_OF_THREE, found::add);
+
+        executor.finishPending();
+        assertEquals(1, found.size());
+        assertTrue(found.get(0).test(numbers.get(3)));
+
+        published.poll(10, TimeUnit.SECONDS).run();
+        executor.finishPending();
+        assertEquals(1, found.size());
+    }
+
+    @Test
+    public void finishPending_cancelled_notPassedOn() {
+        List<Predicate<Integer>> found = new ArrayList<>();
+        executor.submit(numbers, IS_MULTIPLE_OF_THREE, found::add);
+
+        executor.cancel();
+        executor.finishPending();
+        assertTrue(found.isEmpty());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class SearchResultCacheTest {
+
+    private final List<String> searched = new ArrayList<>();
+    private final SearchResultCache<String, String> cache = new SearchResultCache<>(2);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, SearchResultCache.MESSAGE_CONSTRAINTS, ()
+            -> new SearchResultCache<String, String>(0));
+    }
+
+    @Test
+    public void computeIfAbsent_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> cache.computeIfAbsent(null, 0, this::search));
+        assertThrows(NullPointerException.class, () -> cache.computeIfAbsent("fever", 0, null));
+    }
+
+    @Test
+    public void computeIfAbsent_sameVersion_resultReused() {
+        assertEquals("FEVER", cache.computeIfAbsent("fever", 0, this::search));
+        assertEquals("FEVER", cache.computeIfAbsent("fever", 0, this::search));
+
+        assertEquals(List.of("fever"), searched);
+        assertEquals(new SearchResultCache.Statistics(1, 1, 0, 1, 2), cache.getStatistics());
+    }
+
+    @Test
+    public void computeIfAbsent_newerVersion_searchedAgain() {
+        cache.computeIfAbsent("fever", 0, this::search);
+        cache.computeIfAbsent("fever", 1, this::search);
+        cache.computeIfAbsent("fever", 1, this::search);
+
+        assertEquals(List.of("fever", "fever"), searched);
+        assertEquals(new SearchResultCache.Statistics(1, 2, 0, 1, 2), cache.getStatistics());
+    }
+
+    @Test
+    public void computeIfAbsent_full_leastRecentlyUsedEvicted() {
+        cache.computeIfAbsent("fever", 0, this::search);
+        cache.computeIfAbsent("cough", 0, this::search);
+        cache.computeIfAbsent("fever", 0, this::search);
+        cache.computeIfAbsent("rash", 0, this::search);
+
+        // "cough" was used least recently, so it was evicted but "fever" was not
+        cache.computeIfAbsent("fever", 0, this::search);
+        cache.computeIfAbsent("cough", 0, this::search);
+
+        assertEquals(List.of("fever", "cough", "rash", "cough"), searched);
+        assertEquals(new SearchResultCache.Statistics(2, 4, 2, 2, 2), cache.getStatistics());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void get_notCached_missCountedOnce() {
+        assertNull(cache.get("fever", 0));
+        cache.put("fever", 0, "FEVER");
+        assertEquals("FEVER", cache.get("fever", 0));
+
+        // a search that is never cached, such as one cancelled, still counts as a miss
+        assertNull(cache.get("cough", 0));
+
+        assertEquals(new SearchResultCache.Statistics(1, 2, 0, 1, 2), cache.getStatistics());
+    }
+
+    @Test
+    public void statisticsEquals() {
+        SearchResultCache.Statistics statistics = new SearchResultCache.Statistics(1, 2, 3, 4, 5);
+
+        assertTrue(statistics.equals(statistics));
+        assertTrue(statistics.equals(new SearchResultCache.Statistics(1, 2, 3, 4, 5)));
+        assertFalse(statistics.equals(null));
+        assertFalse(statistics.equals(new SearchResultCache.Statistics(2, 2, 3, 4, 5)));
+        assertFalse(statistics.equals(new SearchResultCache.Statistics(1, 2, 4, 4, 5)));
+    }
+
+    private String search(String key) {
+        searched.add(key);
+        return key.toUpperCase();
+    }
+}
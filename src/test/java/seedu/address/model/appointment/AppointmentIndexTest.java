@@ -0,0 +1,93 @@
+package seedu.address.model.appointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.BIOPSY;
+import static seedu.address.testutil.TypicalAppointments.COLONOSCOPY;
+import static seedu.address.testutil.TypicalAppointments.EYE_EXAM;
+import static seedu.address.testutil.TypicalAppointments.STD_TEST;
+import static seedu.address.testutil.TypicalAppointments.VACCINATION;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.shared.DateTime;
+import seedu.address.testutil.AppointmentBuilder;
+
+public class AppointmentIndexTest {
+
+    private final AppointmentIndex appointmentIndex = new AppointmentIndex();
+
+    @Test
+    public void setAppointments_unsortedAppointments_listedChronologically() {
+        appointmentIndex.setAppointments(Arrays.asList(COLONOSCOPY, EYE_EXAM, STD_TEST, VACCINATION));
+
+        assertEquals(Arrays.asList(STD_TEST, EYE_EXAM, VACCINATION, COLONOSCOPY),
+                appointmentIndex.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void update_fewAppointments_listStaysSorted() {
+        appointmentIndex.setAppointments(Arrays.asList(EYE_EXAM, COLONOSCOPY));
+
+        appointmentIndex.update(Collections.singletonList(EYE_EXAM), Arrays.asList(VACCINATION, STD_TEST));
+
+        assertEquals(Arrays.asList(STD_TEST, VACCINATION, COLONOSCOPY),
+                appointmentIndex.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void update_manyAppointments_sameAsOneByOne() {
+        List<Appointment> appointments = new ArrayList<>();
+        for (int day = 1; day <= 28; day++) {
+            for (String time : new String[] {"0900", "1400"}) {
+                appointments.add(new AppointmentBuilder().withDateTime(String.format("%02d-02-2024 %s", day, time))
+                        .build());
+            }
+        }
+        List<Appointment> firstHalf = appointments.subList(0, appointments.size() / 2);
+        List<Appointment> secondHalf = appointments.subList(appointments.size() / 2, appointments.size());
+        appointmentIndex.setAppointments(secondHalf);
+
+        appointmentIndex.update(Collections.singletonList(secondHalf.get(0)), firstHalf);
+
+        List<Appointment> expected = new ArrayList<>(appointments);
+        expected.remove(secondHalf.get(0));
+        assertEquals(expected, appointmentIndex.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void update_appointmentNotInIndex_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                appointmentIndex.update(Collections.singletonList(EYE_EXAM), Collections.emptyList()));
+    }
+
+    @Test
+    public void getAppointmentsBetween_boundsInclusive() {
+        appointmentIndex.setAppointments(Arrays.asList(EYE_EXAM, BIOPSY, VACCINATION, COLONOSCOPY, STD_TEST));
+
+        assertEquals(Arrays.asList(BIOPSY, EYE_EXAM, VACCINATION),
+                appointmentIndex.getAppointmentsBetween(EYE_EXAM.getDateTime(), VACCINATION.getDateTime()));
+        assertEquals(Collections.singletonList(STD_TEST), appointmentIndex.getAppointmentsBetween(
+                new DateTime("01-01-1900 0000"), new DateTime("31-12-1999 2359")));
+    }
+
+    @Test
+    public void getAppointmentsBetween_startAfterEnd_returnsEmpty() {
+        appointmentIndex.setAppointments(Arrays.asList(EYE_EXAM, VACCINATION));
+
+        assertTrue(appointmentIndex.getAppointmentsBetween(VACCINATION.getDateTime(), EYE_EXAM.getDateTime())
+                .isEmpty());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () ->
+                appointmentIndex.asUnmodifiableObservableList().add(EYE_EXAM));
+    }
+}
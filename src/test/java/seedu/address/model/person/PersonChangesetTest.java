@@ -0,0 +1,148 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_GENDER_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_GENDER_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NRIC_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonChangesetTest {
+
+    private final UniquePersonList base = new UniquePersonList();
+    private PersonChangeset changeset;
+
+    @BeforeEach
+    public void setUp() {
+        base.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        changeset = new PersonChangeset(base);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonChangeset(null));
+    }
+
+    @Test
+    public void isEmpty_noChanges_returnsTrue() {
+        assertTrue(changeset.isEmpty());
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), changeset.applyTo(base.asUnmodifiableObservableList()));
+    }
+
+    @Test
+    public void add_newPerson_addedAfterPersonsOfList() {
+        changeset.add(AMY);
+        changeset.add(BOB);
+
+        assertTrue(changeset.contains(AMY));
+        assertEquals(Optional.of(BOB), changeset.findByNric(BOB.getNric()));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, AMY, BOB),
+                changeset.applyTo(base.asUnmodifiableObservableList()));
+
+        // the list itself is left as it was
+        assertFalse(base.contains(AMY));
+    }
+
+    @Test
+    public void add_duplicatePerson_throwsDuplicatePersonException() {
+        assertThrows(DuplicatePersonException.class, () -> changeset.add(ALICE));
+        changeset.add(AMY);
+        assertThrows(DuplicatePersonException.class, () -> changeset.add(AMY));
+    }
+
+    @Test
+    public void setPerson_personOfList_replacedInPlace() {
+        Person editedBenson = new PersonBuilder(BENSON).withGender(VALID_GENDER_AMY).build();
+        changeset.setPerson(BENSON, editedBenson);
+
+        assertEquals(Optional.of(editedBenson), changeset.findByNric(BENSON.getNric()));
+        assertEquals(Arrays.asList(ALICE, editedBenson, CARL), changeset.applyTo(base.asUnmodifiableObservableList()));
+
+        // only the persons given are changed, such as those shown
+        assertEquals(Collections.singletonList(editedBenson), changeset.applyTo(Arrays.asList(BENSON)));
+    }
+
+    @Test
+    public void setPerson_identityChangedTwice_replacedInPlace() {
+        Person bensonAsBob = new PersonBuilder(BENSON).withNric(VALID_NRIC_BOB).build();
+        changeset.setPerson(BENSON, bensonAsBob);
+        Person editedBensonAsBob = new PersonBuilder(bensonAsBob).withGender(VALID_GENDER_AMY).build();
+        changeset.setPerson(bensonAsBob, editedBensonAsBob);
+
+        assertFalse(changeset.contains(BENSON));
+        assertEquals(Arrays.asList(ALICE, editedBensonAsBob, CARL),
+                changeset.applyTo(base.asUnmodifiableObservableList()));
+
+        // the identity given up can be taken by a new person
+        changeset.add(BENSON);
+        assertEquals(Arrays.asList(ALICE, editedBensonAsBob, CARL, BENSON),
+                changeset.applyTo(base.asUnmodifiableObservableList()));
+    }
+
+    @Test
+    public void setPerson_addedPerson_replacedInPlace() {
+        changeset.add(AMY);
+        changeset.add(BOB);
+        Person editedAmy = new PersonBuilder(AMY).withGender(VALID_GENDER_BOB).build();
+        changeset.setPerson(AMY, editedAmy);
+
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, editedAmy, BOB),
+                changeset.applyTo(base.asUnmodifiableObservableList()));
+    }
+
+    @Test
+    public void setPerson_targetChangedOrMissing_throwsPersonNotFoundException() {
+        Person editedBenson = new PersonBuilder(BENSON).withGender(VALID_GENDER_AMY).build();
+        changeset.setPerson(BENSON, editedBenson);
+
+        assertThrows(PersonNotFoundException.class, () -> changeset.setPerson(BENSON, BENSON));
+        assertThrows(PersonNotFoundException.class, () -> changeset.setPerson(AMY, AMY));
+    }
+
+    @Test
+    public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
+        Person bensonAsAlice = new PersonBuilder(BENSON).withNric(ALICE.getNric().toString()).build();
+        assertThrows(DuplicatePersonException.class, () -> changeset.setPerson(BENSON, bensonAsAlice));
+    }
+
+    @Test
+    public void remove_personsOfListAndAdded_removed() {
+        changeset.add(AMY);
+        changeset.remove(AMY);
+        assertTrue(changeset.isEmpty());
+
+        changeset.remove(BENSON);
+        assertFalse(changeset.contains(BENSON));
+        assertFalse(changeset.isEmpty());
+        assertEquals(Arrays.asList(ALICE, CARL), changeset.applyTo(base.asUnmodifiableObservableList()));
+        assertThrows(PersonNotFoundException.class, () -> changeset.remove(BENSON));
+    }
+
+    @Test
+    public void remove_editedPerson_removedFromItsPlace() {
+        Person bensonAsBob = new PersonBuilder(BENSON).withNric(VALID_NRIC_BOB).build();
+        changeset.setPerson(BENSON, bensonAsBob);
+        changeset.remove(bensonAsBob);
+
+        List<Person> expected = Arrays.asList(ALICE, CARL);
+        assertEquals(expected, changeset.applyTo(base.asUnmodifiableObservableList()));
+    }
+}
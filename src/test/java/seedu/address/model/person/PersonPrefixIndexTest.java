@@ -0,0 +1,68 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonPrefixIndexTest {
+
+    private final PersonPrefixIndex index = new PersonPrefixIndex();
+
+    @Test
+    public void suggest_prefixOfAnyNameWord_found() {
+        index.setPersons(getTypicalPersons());
+
+        assertEquals(Collections.singletonList(ALICE), index.suggest("ali", 10));
+        assertEquals(Collections.singletonList(ALICE), index.suggest("PAUL", 10));
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL)), new HashSet<>(index.suggest("Meier", 10)));
+    }
+
+    @Test
+    public void suggest_prefixOfNric_found() {
+        index.setPersons(getTypicalPersons());
+
+        assertEquals(Collections.singletonList(ALICE), index.suggest("s1234567b", 10));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON)), new HashSet<>(index.suggest("S1234567", 10)));
+    }
+
+    @Test
+    public void suggest_limit_atMostLimitDistinctPersons() {
+        List<Person> persons = getTypicalPersons();
+        index.setPersons(persons);
+
+        // every typical NRIC starts with a letter followed by a digit, so only the limit stops the search
+        assertEquals(3, index.suggest("s", 3).size());
+        assertTrue(index.suggest("s", 0).isEmpty());
+    }
+
+    @Test
+    public void suggest_emptyOrUnknownPrefix_noSuggestions() {
+        index.setPersons(getTypicalPersons());
+
+        assertTrue(index.suggest("  ", 10).isEmpty());
+        assertTrue(index.suggest("zz", 10).isEmpty());
+    }
+
+    @Test
+    public void update_renamedPerson_foundByNewNameOnly() {
+        index.setPersons(Arrays.asList(ALICE, BENSON));
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+
+        index.update(Collections.singletonList(ALICE), Collections.singletonList(renamedAlice));
+
+        assertTrue(index.suggest("Pau", 10).isEmpty());
+        assertEquals(Collections.singletonList(renamedAlice), index.suggest("ali", 10));
+    }
+}
@@ -0,0 +1,209 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BEN;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.shared.Nric;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final PersonSearchIndex index = new PersonSearchIndex();
+
+    @Test
+    public void findAny_eachSearchableDetail_found() {
+        index.setPersons(getTypicalPersons());
+
+        assertEquals(nrics(ALICE), index.findAny(Collections.singletonList("pauline")));
+        assertEquals(nrics(ALICE), index.findAny(Collections.singletonList("s1234567b")));
+        assertEquals(nrics(BENSON), index.findAny(Collections.singletonList("98765432")));
+        assertEquals(nrics(BENSON), index.findAny(Collections.singletonList("SOIL")));
+        assertEquals(nrics(BENSON), index.findAny(Collections.singletonList("B-")));
+        assertEquals(nrics(CARL), index.findAny(Collections.singletonList("24")));
+        assertEquals(nrics(CARL), index.findAny(Collections.singletonList("heinz@example.com")));
+    }
+
+    @Test
+    public void findAny_partialWord_notFound() {
+        index.setPersons(getTypicalPersons());
+        assertTrue(index.findAny(Collections.singletonList("Pau")).isEmpty());
+    }
+
+    @Test
+    public void findAnyAndFindAll_multipleKeywords_unionAndIntersection() {
+        index.setPersons(getTypicalPersons());
+        List<String> keywords = Arrays.asList("Meier", "Cats");
+
+        assertEquals(nrics(BENSON, DANIEL), index.findAny(keywords));
+        assertEquals(nrics(DANIEL), index.findAll(keywords));
+        assertTrue(index.findAll(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void getPostings_field_onlyWordsInThatField() {
+        index.setPersons(getTypicalPersons());
+
+        assertEquals(nrics(BENSON, DANIEL), index.getPostings(PersonField.NAME, "MEIER"));
+        assertTrue(index.getPostings(PersonField.ALLERGY, "meier").isEmpty());
+        assertEquals(nrics(ALICE), index.getPostings(PersonField.ALLERGY, "chocolate"));
+        assertEquals(nrics(ALICE), index.getPostings("chocolate"));
+        assertEquals(getTypicalPersons().size(), index.getIndexedNrics().size());
+    }
+
+    @Test
+    public void getPostings_editedPerson_oldFieldWordsRemoved() {
+        index.setPersons(Arrays.asList(ALICE, BENSON));
+        Person editedAlice = new PersonBuilder(ALICE).withAllergies("Dust").build();
+
+        index.update(Collections.singletonList(ALICE), Collections.singletonList(editedAlice));
+
+        assertTrue(index.getPostings(PersonField.ALLERGY, "chocolate").isEmpty());
+        assertEquals(nrics(ALICE), index.getPostings(PersonField.ALLERGY, "dust"));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    public void update_editedPerson_oldWordsRemoved() {
+        index.setPersons(Arrays.asList(ALICE, BENSON));
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        long version = index.getVersion();
+
+        index.update(Collections.singletonList(ALICE), Collections.singletonList(editedAlice));
+
+        assertNotEquals(version, index.getVersion());
+        assertTrue(index.findAny(Collections.singletonList("Pauline")).isEmpty());
+        assertEquals(nrics(ALICE), index.findAny(Collections.singletonList("Tan")));
+        assertTrue(index.isIndexed(editedAlice));
+        assertFalse(index.isIndexed(ALICE));
+    }
+
+    @Test
+    public void findFuzzy_misspeltKeyword_closestMatchesFirst() {
+        index.setPersons(getTypicalPersons());
+
+        assertEquals(nricList(BENSON, DANIEL), index.findFuzzy(Collections.singletonList("Meir"), 10));
+        assertEquals(nricList(CARL, FIONA), index.findFuzzy(Collections.singletonList("kurz"), 10));
+        assertEquals(nricList(BENSON, DANIEL, ELLE), index.findFuzzy(Collections.singletonList("Meier"), 10));
+    }
+
+    @Test
+    public void findFuzzy_multipleKeywords_moreKeywordsMatchedFirst() {
+        index.setPersons(getTypicalPersons());
+
+        assertEquals(nricList(DANIEL, BENSON, ELLE), index.findFuzzy(Arrays.asList("Meier", "Cts"), 10));
+    }
+
+    @Test
+    public void findFuzzy_limit_onlyBestMatchesReturned() {
+        index.setPersons(getTypicalPersons());
+
+        assertEquals(nricList(BENSON, DANIEL), index.findFuzzy(Collections.singletonList("Meier"), 2));
+        assertTrue(index.findFuzzy(Collections.singletonList("Meier"), 0).isEmpty());
+    }
+
+    @Test
+    public void findRanked_multipleKeywords_moreKeywordsMatchedFirst() {
+        index.setPersons(getTypicalPersons());
+
+        assertEquals(nricList(DANIEL, BENSON), index.findRanked(Arrays.asList("Meier", "Cats"),
+                new RelevanceWeights(), 10));
+        assertTrue(index.findRanked(Collections.singletonList("Zebra"), new RelevanceWeights(), 10).isEmpty());
+    }
+
+    @Test
+    public void findRanked_weights_heavierFieldsFirst() {
+        index.setPersons(getTypicalPersons());
+        List<String> keywords = Arrays.asList("Meier", "Dogs");
+
+        assertEquals(nricList(BENSON, DANIEL, CARL, BEN), index.findRanked(keywords, new RelevanceWeights(), 10));
+
+        RelevanceWeights allergiesFirst = new RelevanceWeights(Map.of(PersonField.ALLERGY, 20), 10);
+        assertEquals(nricList(CARL, BEN, BENSON, DANIEL), index.findRanked(keywords, allergiesFirst, 10));
+    }
+
+    @Test
+    public void findRanked_limit_onlyBestMatchesReturned() {
+        index.setPersons(getTypicalPersons());
+        List<String> keywords = Arrays.asList("Meier", "Dogs");
+
+        assertEquals(nricList(BENSON, DANIEL), index.findRanked(keywords, new RelevanceWeights(), 2));
+        assertTrue(index.findRanked(keywords, new RelevanceWeights(), 0).isEmpty());
+    }
+
+    @Test
+    public void findFuzzy_shortOrDistantKeyword_notFound() {
+        index.setPersons(getTypicalPersons());
+
+        // Short words must match exactly
+        assertTrue(index.findFuzzy(Collections.singletonList("Bx"), 10).isEmpty());
+        assertTrue(index.findFuzzy(Collections.singletonList("Mxxer"), 10).isEmpty());
+    }
+
+    @Test
+    public void findFuzzy_removedPerson_wordNoLongerFound() {
+        index.setPersons(Arrays.asList(ALICE, BENSON));
+
+        index.update(Collections.singletonList(ALICE), Collections.emptyList());
+
+        assertTrue(index.findFuzzy(Collections.singletonList("Pauln"), 10).isEmpty());
+    }
+
+    @Test
+    public void predicate_sameResultsAsNameContainsKeywordsPredicate() {
+        List<Person> persons = getTypicalPersons();
+        index.setPersons(persons);
+        for (List<String> keywords : Arrays.asList(Arrays.asList("meier", "DOGS"), Arrays.asList("F", "AB+"),
+                Collections.singletonList("nobody"))) {
+            IndexedKeywordsPredicate indexedPredicate = new IndexedKeywordsPredicate(keywords, index);
+            NameContainsKeywordsPredicate scanPredicate = new NameContainsKeywordsPredicate(keywords);
+            for (Person person : persons) {
+                assertEquals(scanPredicate.test(person), indexedPredicate.test(person));
+            }
+        }
+    }
+
+    @Test
+    public void predicate_personNotYetIndexed_testedDirectly() {
+        index.setPersons(Collections.singletonList(ALICE));
+        IndexedKeywordsPredicate predicate = new IndexedKeywordsPredicate(Collections.singletonList("Tan"), index);
+
+        assertTrue(predicate.test(new PersonBuilder(ALICE).withName("Alice Tan").build()));
+        assertFalse(predicate.test(ALICE));
+    }
+
+    private static List<Nric> nricList(Person... persons) {
+        List<Nric> nrics = new ArrayList<>();
+        for (Person person : persons) {
+            nrics.add(person.getNric());
+        }
+        return nrics;
+    }
+
+    private static Set<Nric> nrics(Person... persons) {
+        Set<Nric> nrics = new HashSet<>();
+        for (Person person : persons) {
+            nrics.add(person.getNric());
+        }
+        return nrics;
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class RelevanceWeightsTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RelevanceWeights(null, 1));
+    }
+
+    @Test
+    public void constructor_negativeWeight_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, RelevanceWeights.MESSAGE_CONSTRAINTS, () ->
+                new RelevanceWeights(Map.of(PersonField.NAME, -1), 1));
+        assertThrows(IllegalArgumentException.class, RelevanceWeights.MESSAGE_CONSTRAINTS, () ->
+                new RelevanceWeights(Map.of(), -1));
+
+        Map<PersonField, Integer> missingWeight = new HashMap<>();
+        missingWeight.put(PersonField.NAME, null);
+        assertThrows(IllegalArgumentException.class, () -> new RelevanceWeights(missingWeight, 1));
+    }
+
+    @Test
+    public void getWeight_fieldNotGiven_defaultWeight() {
+        RelevanceWeights weights = new RelevanceWeights(Map.of(PersonField.ALLERGY, 20), 0);
+
+        assertEquals(20, weights.getWeight(PersonField.ALLERGY));
+        assertEquals(new RelevanceWeights().getWeight(PersonField.NAME), weights.getWeight(PersonField.NAME));
+        assertEquals(0, weights.getCoverageWeight());
+        assertEquals(RelevanceWeights.DEFAULT_COVERAGE_WEIGHT, new RelevanceWeights().getCoverageWeight());
+    }
+
+    @Test
+    public void equals() {
+        RelevanceWeights weights = new RelevanceWeights();
+
+        // same values -> returns true
+        assertTrue(weights.equals(new RelevanceWeights(Map.of(), RelevanceWeights.DEFAULT_COVERAGE_WEIGHT)));
+        assertEquals(weights.hashCode(), new RelevanceWeights().hashCode());
+
+        // same object -> returns true
+        assertTrue(weights.equals(weights));
+
+        // null -> returns false
+        assertFalse(weights.equals(null));
+
+        // different types -> returns false
+        assertFalse(weights.equals(5.0f));
+
+        // different field weight -> returns false
+        assertFalse(weights.equals(new RelevanceWeights(Map.of(PersonField.AGE, 5),
+                RelevanceWeights.DEFAULT_COVERAGE_WEIGHT)));
+
+        // different coverage weight -> returns false
+        assertFalse(weights.equals(new RelevanceWeights(Map.of(), 0)));
+    }
+}
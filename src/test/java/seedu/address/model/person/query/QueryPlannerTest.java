@@ -0,0 +1,126 @@
+package seedu.address.model.person.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BEN;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonField;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.shared.Nric;
+
+public class QueryPlannerTest {
+
+    private static final QueryNode MALE = QueryNode.term(PersonField.GENDER, "M");
+    private static final QueryNode DOGS = QueryNode.term(PersonField.ALLERGY, "dogs");
+    private static final QueryNode AB_POSITIVE = QueryNode.term(PersonField.BLOOD_TYPE, "AB+");
+    private static final QueryNode MEIER = QueryNode.term(PersonField.NAME, "Meier");
+
+    private final PersonSearchIndex index = new PersonSearchIndex();
+    private QueryPlanner planner;
+
+    @BeforeEach
+    public void setUp() {
+        index.setPersons(getTypicalPersons());
+        planner = new QueryPlanner(index);
+    }
+
+    @Test
+    public void plan_term_lookedUpInField() {
+        assertEquals(nrics(BENSON, DANIEL), planner.plan(MEIER).execute());
+        assertEquals(nrics(BENSON, DANIEL), planner.plan(QueryNode.term("meier")).execute());
+        assertTrue(planner.plan(QueryNode.term(PersonField.NAME, "AB+")).execute().isEmpty());
+    }
+
+    @Test
+    public void plan_and_mostSelectiveOperandFirst() {
+        QueryPlan plan = planner.plan(QueryNode.and(Arrays.asList(MALE, AB_POSITIVE, DOGS)));
+
+        assertEquals(nrics(BEN), plan.execute());
+        String[] steps = plan.explain().split("\n");
+        assertEquals(4, steps.length);
+        assertTrue(steps[0].startsWith("INTERSECT"));
+        assertTrue(steps[1].startsWith("  LOOKUP allergy:dogs (~2 persons"));
+        assertTrue(steps[2].startsWith("  LOOKUP blood type:AB+ (~3 persons"));
+        assertTrue(steps[3].startsWith("  LOOKUP gender:M (~5 persons"));
+    }
+
+    @Test
+    public void plan_andWithNot_notedAsExcept() {
+        QueryPlan plan = planner.plan(QueryNode.and(Arrays.asList(AB_POSITIVE, QueryNode.not(MALE))));
+
+        assertEquals(nrics(ALICE), plan.execute());
+        assertTrue(plan.explain().contains("  EXCEPT LOOKUP gender:M"));
+    }
+
+    @Test
+    public void plan_notAlone_allPersonsExcept() {
+        QueryPlan plan = planner.plan(QueryNode.not(MALE));
+
+        assertEquals(nrics(ALICE, ELLE, FIONA), plan.execute());
+        assertTrue(plan.explain().startsWith("ALL PERSONS"));
+        assertEquals(plan.execute(), planner.plan(QueryNode.not(QueryNode.not(QueryNode.not(MALE)))).execute());
+    }
+
+    @Test
+    public void plan_or_unionOfOperands() {
+        QueryPlan plan = planner.plan(QueryNode.or(Arrays.asList(MEIER, DOGS)));
+
+        assertEquals(nrics(BENSON, DANIEL, CARL, BEN), plan.execute());
+        assertEquals(4, plan.getEstimatedRows());
+    }
+
+    @Test
+    public void plan_nestedOperators_sameResultsAsTestingEachPerson() {
+        // (name:Meier OR allergy:dogs) AND NOT (gender:M AND blood type:AB+)
+        QueryNode query = QueryNode.and(Arrays.asList(
+                QueryNode.or(Arrays.asList(MEIER, DOGS)),
+                QueryNode.not(QueryNode.and(Arrays.asList(MALE, AB_POSITIVE)))));
+
+        Set<Nric> expected = new HashSet<>();
+        for (Person person : getTypicalPersons()) {
+            boolean isMeierOrDogs = PersonField.NAME.getWords(person).contains("meier")
+                    || PersonField.ALLERGY.getWords(person).contains("dogs");
+            boolean isMaleAbPositive = PersonField.GENDER.getWords(person).contains("m")
+                    && PersonField.BLOOD_TYPE.getWords(person).contains("ab+");
+            if (isMeierOrDogs && !isMaleAbPositive) {
+                expected.add(person.getNric());
+            }
+        }
+        assertEquals(nrics(BENSON, CARL), expected);
+        assertEquals(expected, planner.plan(query).execute());
+    }
+
+    @Test
+    public void plan_cheaperOrderChosen() {
+        QueryPlan chosen = planner.plan(QueryNode.and(Arrays.asList(MALE, DOGS)));
+        QueryPlan reversed = new QueryPlan.Intersect(index,
+                Arrays.asList(planner.plan(MALE), planner.plan(DOGS)), Collections.emptyList());
+
+        assertTrue(chosen.getEstimatedCost() < reversed.getEstimatedCost());
+        assertEquals(reversed.execute(), chosen.execute());
+    }
+
+    private static Set<Nric> nrics(Person... persons) {
+        Set<Nric> nrics = new HashSet<>();
+        for (Person person : persons) {
+            nrics.add(person.getNric());
+        }
+        return nrics;
+    }
+}
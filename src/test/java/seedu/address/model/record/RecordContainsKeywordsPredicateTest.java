@@ -25,6 +25,7 @@ public class RecordContainsKeywordsPredicateTest {
         RecordContainsKeywordsPredicate firstPredicateCopy =
                 new RecordContainsKeywordsPredicate(Arrays.asList("Tylenol", "Pepto-Bismol"));
         assertTrue(firstPredicate.equals(firstPredicateCopy));
+        assertEquals(firstPredicate.hashCode(), firstPredicateCopy.hashCode());
         assertFalse(firstPredicate.equals(secondPredicate));
         assertFalse(firstPredicate.equals(0));
     }
@@ -0,0 +1,84 @@
+package seedu.address.model.record;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.BEN;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+import static seedu.address.testutil.TypicalRecords.ALLERGIC_REACTION2;
+import static seedu.address.testutil.TypicalRecords.FEVER0;
+import static seedu.address.testutil.TypicalRecords.FEVER_AND_COLD0;
+import static seedu.address.testutil.TypicalRecords.FEVER_AND_COLD1;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.shared.DateTime;
+import seedu.address.model.shared.Nric;
+import seedu.address.testutil.PersonBuilder;
+
+public class RecordDateIndexTest {
+
+    private static final DateTime START_OF_SEPTEMBER = new DateTime("01-09-2023 0000");
+    private static final DateTime END_OF_SEPTEMBER = new DateTime("30-09-2023 2359");
+
+    private final RecordDateIndex index = new RecordDateIndex();
+
+    @Test
+    public void getRecordsBetween_allPersons_recordsGroupedByPerson() {
+        index.setPersons(getTypicalPersons());
+
+        Map<Nric, List<Record>> expected = new HashMap<>();
+        expected.put(BENSON.getNric(), Collections.singletonList(FEVER_AND_COLD1));
+        expected.put(BEN.getNric(), Arrays.asList(FEVER_AND_COLD0, FEVER_AND_COLD1));
+        assertEquals(expected, index.getRecordsBetween(START_OF_SEPTEMBER, END_OF_SEPTEMBER));
+    }
+
+    @Test
+    public void getRecordsBetween_onePerson_chronologicalAndBoundsInclusive() {
+        index.setPersons(getTypicalPersons());
+
+        assertEquals(Arrays.asList(ALLERGIC_REACTION2, FEVER_AND_COLD0, FEVER_AND_COLD1, FEVER0),
+                index.getRecordsBetween(BEN.getNric(), ALLERGIC_REACTION2.getDateTime(), FEVER0.getDateTime()));
+        assertEquals(Collections.singletonList(ALLERGIC_REACTION2), index.getRecordsBetween(CARL.getNric(),
+                ALLERGIC_REACTION2.getDateTime(), ALLERGIC_REACTION2.getDateTime()));
+    }
+
+    @Test
+    public void getRecordsBetween_startAfterEnd_returnsEmpty() {
+        index.setPersons(getTypicalPersons());
+
+        assertTrue(index.getRecordsBetween(END_OF_SEPTEMBER, START_OF_SEPTEMBER).isEmpty());
+        assertTrue(index.getRecordsBetween(BEN.getNric(), END_OF_SEPTEMBER, START_OF_SEPTEMBER).isEmpty());
+    }
+
+    @Test
+    public void update_editedPerson_onlyNewRecordsFound() {
+        index.setPersons(Arrays.asList(BENSON, CARL));
+        Person editedBenson = new PersonBuilder(BENSON).withRecords(FEVER0).build();
+
+        index.update(Collections.singletonList(BENSON), Collections.singletonList(editedBenson));
+
+        assertTrue(index.getRecordsBetween(START_OF_SEPTEMBER, END_OF_SEPTEMBER).isEmpty());
+        assertEquals(Collections.singletonList(FEVER0), index.getRecordsBetween(BENSON.getNric(),
+                START_OF_SEPTEMBER, FEVER0.getDateTime()));
+    }
+
+    @Test
+    public void update_removedPerson_recordsNoLongerFound() {
+        index.setPersons(Arrays.asList(BENSON, BEN));
+
+        index.update(Collections.singletonList(BEN), Collections.emptyList());
+
+        assertEquals(Collections.singletonMap(BENSON.getNric(), Collections.singletonList(FEVER_AND_COLD1)),
+                index.getRecordsBetween(START_OF_SEPTEMBER, END_OF_SEPTEMBER));
+        assertTrue(index.getRecordsBetween(BEN.getNric(), START_OF_SEPTEMBER, END_OF_SEPTEMBER).isEmpty());
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.model.record;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.BEN;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+import static seedu.address.testutil.TypicalRecords.ALLERGIC_REACTION2;
+import static seedu.address.testutil.TypicalRecords.FEVER_AND_COLD0;
+import static seedu.address.testutil.TypicalRecords.FEVER_AND_COLD1;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.shared.Nric;
+import seedu.address.testutil.PersonBuilder;
+
+public class RecordSearchIndexTest {
+
+    private final RecordSearchIndex index = new RecordSearchIndex();
+
+    @Test
+    public void findAny_conditionWord_recordsGroupedByPerson() {
+        index.setPersons(getTypicalPersons());
+
+        Map<Nric, List<Record>> expected = new LinkedHashMap<>();
+        expected.put(BENSON.getNric(), Collections.singletonList(FEVER_AND_COLD1));
+        expected.put(BEN.getNric(), Arrays.asList(FEVER_AND_COLD0, FEVER_AND_COLD1));
+        assertEquals(expected, index.findAny(Collections.singletonList("COLD")));
+    }
+
+    @Test
+    public void findAny_multipleKeywords_recordsNotRepeated() {
+        index.setPersons(Collections.singletonList(CARL));
+
+        assertEquals(Collections.singletonMap(CARL.getNric(), Collections.singletonList(ALLERGIC_REACTION2)),
+                index.findAny(Arrays.asList("allergic", "reaction", "pepto-bismol")));
+    }
+
+    @Test
+    public void findAny_partialWordOrDate_notFound() {
+        index.setPersons(getTypicalPersons());
+
+        assertTrue(index.findAny(Collections.singletonList("Tyle")).isEmpty());
+        assertTrue(index.findAny(Collections.singletonList("09-09-2023")).isEmpty());
+    }
+
+    @Test
+    public void update_editedPerson_onlyNewRecordsFound() {
+        index.setPersons(Arrays.asList(BENSON, CARL));
+        Person editedCarl = new PersonBuilder(CARL).withRecords(FEVER_AND_COLD0).build();
+
+        index.update(Collections.singletonList(CARL), Collections.singletonList(editedCarl));
+
+        assertTrue(index.findAny(Collections.singletonList("Pepto-Bismol")).isEmpty());
+        assertEquals(new HashSet<>(Arrays.asList(BENSON.getNric(), CARL.getNric())),
+                index.findAny(Collections.singletonList("Fever")).keySet());
+    }
+
+    @Test
+    public void update_removedPerson_recordsNoLongerFound() {
+        index.setPersons(Arrays.asList(BENSON, CARL));
+
+        index.update(Collections.singletonList(BENSON), Collections.emptyList());
+
+        assertTrue(index.findAny(Collections.singletonList("Cold")).isEmpty());
+        assertEquals(Collections.singleton(CARL.getNric()),
+                index.findAny(Collections.singletonList("Allergic")).keySet());
+    }
+
+    @Test
+    public void findSimilarWords_misspeltKeywords_indexedWordsFound() {
+        index.setPersons(getTypicalPersons());
+
+        assertEquals(new HashSet<>(Arrays.asList("tylenol", "fever")),
+                index.findSimilarWords(Arrays.asList("Tylenl", "fevr")));
+        assertTrue(index.findSimilarWords(Collections.singletonList("Ibuprofen")).isEmpty());
+    }
+
+    @Test
+    public void findSimilarWords_removedPerson_wordNoLongerFound() {
+        index.setPersons(Arrays.asList(BENSON, CARL));
+
+        index.update(Collections.singletonList(CARL), Collections.emptyList());
+
+        assertTrue(index.findSimilarWords(Collections.singletonList("alergic")).isEmpty());
+    }
+}
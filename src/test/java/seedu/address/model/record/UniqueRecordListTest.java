@@ -146,6 +146,27 @@ public class UniqueRecordListTest {
             .asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void asUnmodifiableObservableList_listChangedAfterwards_viewUpdated() {
+        List<Record> view = uniqueRecordList.asUnmodifiableObservableList();
+        uniqueRecordList.add(FEVER0);
+        uniqueRecordList.setRecord(FEVER0, ALLERGIC_REACTION2);
+        assertEquals(Collections.singletonList(ALLERGIC_REACTION2), view);
+
+        uniqueRecordList.remove(ALLERGIC_REACTION2);
+        assertTrue(view.isEmpty());
+    }
+
+    @Test
+    public void setRecords_uniqueRecordList_sourceChangesNotShared() {
+        UniqueRecordList source = new UniqueRecordList();
+        source.add(FEVER0);
+        uniqueRecordList.setRecords(source);
+        source.add(ALLERGIC_REACTION2);
+
+        assertEquals(1, uniqueRecordList.size());
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(uniqueRecordList.asUnmodifiableObservableList().toString(), uniqueRecordList.toString());
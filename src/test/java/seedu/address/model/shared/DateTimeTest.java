@@ -71,4 +71,11 @@ public class DateTimeTest {
         DateTime dateTime = new DateTime("21-10-2001 1900");
         assertEquals(dateTime.toString(), "21-10-2001 1900");
     }
+
+    @Test
+    public void toEpochMinute() {
+        assertEquals(0, new DateTime("01-01-1970 0000").toEpochMinute());
+        assertEquals(61, new DateTime("01-01-1970 0101").toEpochMinute());
+        assertTrue(new DateTime("31-12-2023 2359").toEpochMinute() < new DateTime("01-01-2024 0000").toEpochMinute());
+    }
 }
@@ -0,0 +1,112 @@
+package seedu.address.model.shared;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+
+public class TrigramDictionaryTest {
+
+    private final TrigramDictionary dictionary = new TrigramDictionary();
+
+    @Test
+    public void getMaxDistance() {
+        assertEquals(0, TrigramDictionary.getMaxDistance(2));
+        assertEquals(1, TrigramDictionary.getMaxDistance(3));
+        assertEquals(1, TrigramDictionary.getMaxDistance(5));
+        assertEquals(2, TrigramDictionary.getMaxDistance(6));
+    }
+
+    @Test
+    public void findSimilar_wordsWithinDistance_foundWithDistances() {
+        addAll("ibuprofen", "tylenol", "paracetamol", "fever", "cold");
+
+        Map<String, Integer> expected = new HashMap<>();
+        expected.put("ibuprofen", 1);
+        assertEquals(expected, dictionary.findSimilar("ibuprofin", 2));
+
+        expected.clear();
+        expected.put("tylenol", 0);
+        assertEquals(expected, dictionary.findSimilar("tylenol", 2));
+
+        expected.clear();
+        expected.put("cold", 1);
+        assertEquals(expected, dictionary.findSimilar("colds", 1));
+    }
+
+    @Test
+    public void findSimilar_wordsBeyondDistance_notFound() {
+        addAll("ibuprofen", "tylenol");
+
+        assertTrue(dictionary.findSimilar("ibuprfin", 1).isEmpty());
+        assertTrue(dictionary.findSimilar("aspirin", 2).isEmpty());
+    }
+
+    @Test
+    public void findSimilar_zeroDistance_onlyExactWordFound() {
+        addAll("ab", "abc");
+
+        assertEquals(Map.of("ab", 0), dictionary.findSimilar("ab", 0));
+        assertTrue(dictionary.findSimilar("ac", 0).isEmpty());
+    }
+
+    @Test
+    public void findSimilar_shortWordWithLargeDistance_allWordsConsidered() {
+        addAll("ab", "xyz");
+
+        // Two edits can remove every trigram of "ab", so no word can be ruled out by its trigrams
+        assertEquals(Map.of("ab", 1, "xyz", 3), dictionary.findSimilar("abc", 3));
+    }
+
+    @Test
+    public void findSimilar_sameResultsAsComparingEveryWord() {
+        String[] words = {"meier", "meyer", "mueller", "kurz", "kunz", "best", "pauline", "alice", "benson",
+            "daniel", "fiona", "george", "elle", "carl", "kim", "ben"};
+        addAll(words);
+        for (String query : new String[] {"meir", "mayer", "kuntz", "bens", "alcie", "danial", "geroge", "el"}) {
+            int maxDistance = TrigramDictionary.getMaxDistance(query.length());
+            Map<String, Integer> expected = new HashMap<>();
+            for (String word : words) {
+                int distance = StringUtil.getEditDistance(query, word, maxDistance);
+                if (distance <= maxDistance) {
+                    expected.put(word, distance);
+                }
+            }
+            assertEquals(expected, dictionary.findSimilar(query, maxDistance), query);
+        }
+    }
+
+    @Test
+    public void remove_word_noLongerFound() {
+        addAll("fever", "cold");
+
+        dictionary.remove("fever");
+        dictionary.remove("absent");
+
+        assertFalse(dictionary.contains("fever"));
+        assertEquals(1, dictionary.size());
+        assertTrue(dictionary.findSimilar("fevr", 1).isEmpty());
+        assertEquals(Map.of("cold", 0), dictionary.findSimilar("cold", 1));
+    }
+
+    @Test
+    public void add_duplicateWord_addedOnce() {
+        addAll("fever", "fever");
+        assertEquals(1, dictionary.size());
+
+        dictionary.clear();
+        assertEquals(0, dictionary.size());
+    }
+
+    private void addAll(String... words) {
+        for (String word : words) {
+            dictionary.add(word);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_thenFlush_writtenThroughStorage() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("medbook.json"));
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(jsonStorage, e -> {
+            throw new AssertionError("No save should fail", e);
+        });
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        storage.flush();
+
+        assertEquals(original, new AddressBook(jsonStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_changedAfterSave_snapshotWritten() throws Exception {
+        RecordingStorageStub stub = new RecordingStorageStub(testFolder.resolve("medbook.json"));
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(stub, e -> { });
+        AddressBook original = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(original);
+
+        stub.blockNextSave();
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        stub.releaseSave();
+        storage.flush();
+
+        assertEquals(expected, new AddressBook(stub.saved.get(0)));
+    }
+
+    @Test
+    public void saveAddressBook_burstWhileWriting_mergedIntoOneWrite() throws Exception {
+        RecordingStorageStub stub = new RecordingStorageStub(testFolder.resolve("medbook.json"));
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(stub, e -> { });
+        AddressBook addressBook = getTypicalAddressBook();
+
+        stub.blockNextSave();
+        storage.saveAddressBook(addressBook);
+        assertTrue(stub.saveStarted.await(5, TimeUnit.SECONDS));
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        stub.releaseSave();
+        storage.flush();
+
+        assertEquals(2, stub.saved.size());
+        assertEquals(addressBook, new AddressBook(stub.saved.get(1)));
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_failureReported() throws Exception {
+        List<IOException> failures = new ArrayList<>();
+        CountDownLatch reported = new CountDownLatch(1);
+        AddressBookStorage failingStorage = new RecordingStorageStub(testFolder.resolve("medbook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(failingStorage, e -> {
+            failures.add(e);
+            reported.countDown();
+        });
+
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(reported.await(5, TimeUnit.SECONDS));
+        assertEquals("disk full", failures.get(0).getMessage());
+    }
+
+    @Test
+    public void flush_pendingWriteFails_throwsIoException() throws Exception {
+        AddressBookStorage failingStorage = new RecordingStorageStub(testFolder.resolve("medbook.json")) {
+            @Override
+            public void flush() throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(failingStorage, e -> { });
+
+        assertThrows(IOException.class, "disk full", storage::flush);
+    }
+
+    /**
+     * A storage that records the address books saved to its own file, and can hold back a save until released.
+     */
+    private static class RecordingStorageStub extends JsonAddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        private final CountDownLatch saveStarted = new CountDownLatch(1);
+        private volatile CountDownLatch saveReleased = new CountDownLatch(0);
+
+        RecordingStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        void blockNextSave() {
+            saveReleased = new CountDownLatch(1);
+        }
+
+        void releaseSave() {
+            saveReleased.countDown();
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            saveStarted.countDown();
+            try {
+                saveReleased.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            saved.add(addressBook);
+        }
+    }
+}
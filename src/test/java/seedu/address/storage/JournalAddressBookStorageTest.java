@@ -0,0 +1,176 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidCheckpointInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new JournalAddressBookStorage(testFolder.resolve("medbook.json"), 0));
+    }
+
+    @Test
+    public void read_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(testFolder.resolve("medbook.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void save_firstSave_writesSnapshotOnly() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("medbook.json"));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+
+        assertTrue(Files.exists(storage.getAddressBookFilePath()));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, readWithNewStorage(storage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void save_changesAfterSnapshot_appendedToJournal() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("medbook.json"));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(storage.getAddressBookFilePath());
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        original.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(original);
+
+        // the snapshot is left untouched and every save is one journal entry
+        assertTrue(Arrays.equals(snapshot, Files.readAllBytes(storage.getAddressBookFilePath())));
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, readWithNewStorage(storage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void save_noChanges_nothingAppended() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("medbook.json"));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void save_checkpointIntervalReached_journalFoldedIntoSnapshot() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("medbook.json"), 2);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(storage.getAddressBookFilePath())
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void save_orderChanged_writesCheckpoint() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("medbook.json"));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        List<Person> reversed = new ArrayList<>(original.getPersonList());
+        Collections.reverse(reversed);
+        original.setPersons(reversed);
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, readWithNewStorage(storage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void read_incompleteLastEntry_ignored() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("medbook.json"));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+
+        Files.write(storage.getJournalFilePath(), "{\"removed\":[\"S12".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(storage.getAddressBookFilePath());
+        assertEquals(expected, new AddressBook(reopened.readAddressBook().get()));
+
+        // the next save must not append after the incomplete entry
+        original.addPerson(IDA);
+        reopened.saveAddressBook(original);
+        assertFalse(Files.exists(reopened.getJournalFilePath()));
+        assertEquals(original, readWithNewStorage(reopened.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void read_corruptedEntryBeforeLast_throwsDataLoadingException() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("medbook.json"));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        List<String> lines = new ArrayList<>(Files.readAllLines(storage.getJournalFilePath()));
+        lines.add(0, "not an entry");
+        Files.write(storage.getJournalFilePath(), lines);
+
+        assertThrows(DataLoadingException.class, () ->
+                new JournalAddressBookStorage(storage.getAddressBookFilePath()).readAddressBook());
+    }
+
+    @Test
+    public void saveAndRead_otherFilePath_plainJson() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("medbook.json"));
+        Path exportPath = testFolder.resolve("export.json");
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original, exportPath);
+
+        assertFalse(Files.exists(storage.getAddressBookFilePath()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(exportPath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(storage.readAddressBook(exportPath).get()));
+    }
+
+    private AddressBook readWithNewStorage(Path filePath) throws DataLoadingException {
+        return new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+}
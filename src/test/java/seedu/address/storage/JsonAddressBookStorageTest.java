@@ -27,6 +27,8 @@ import seedu.address.model.ReadOnlyAddressBook;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+    private static final Path SERIALIZABLE_TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
 
     @TempDir
     public Path testFolder;
@@ -77,6 +79,41 @@ public class JsonAddressBookStorageTest {
         assertFalse(readAddressBook("invalidInvalid.json").isPresent());
     }
 
+    @Test
+    public void readAddressBook_typicalPersonsFile_success() throws Exception {
+        Path filePath = SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwsDataLoadingException() {
+        Path filePath = SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_nullContent_returnsEmptyOptional() throws Exception {
+        Path filePath = testFolder.resolve("NullAddressBook.json");
+        Files.write(filePath, "null".getBytes(StandardCharsets.UTF_8));
+        assertFalse(new JsonAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_emptyFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("EmptyAddressBook.json");
+        Files.write(filePath, new byte[0]);
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TruncatedAddressBook.json");
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(getTypicalAddressBook()));
+        Files.write(filePath, json.substring(0, json.length() / 2).getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -103,6 +140,30 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_prettyLayout_sameAsSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("PrettyAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        String expected = JsonUtil.toJsonString(new JsonSerializableAddressBook(original));
+        assertEquals(expected, new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8));
+        assertFalse(Files.exists(testFolder.resolve("PrettyAddressBook.json.tmp")));
+    }
+
+    @Test
+    public void saveAddressBook_compactLayout_singleLineAndReadable() throws Exception {
+        Path filePath = testFolder.resolve("CompactAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,195 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final FileTime LONG_AGO = FileTime.fromMillis(0);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFiles_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("medbook.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void save_firstSave_writesShardPerPerson() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("medbook.json"));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+
+        for (Person person : original.getPersonList()) {
+            assertTrue(Files.exists(storage.getShardFilePath(person.getNric())));
+        }
+        assertFalse(Files.exists(storage.getAddressBookFilePath()));
+        assertEquals(original, readWithNewStorage(storage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void save_personEdited_onlyItsShardRewritten() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("medbook.json"));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Path aliceShard = storage.getShardFilePath(ALICE.getNric());
+        Path bensonShard = storage.getShardFilePath(BENSON.getNric());
+        Path manifest = storage.getShardDirectoryPath().resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        Files.setLastModifiedTime(aliceShard, LONG_AGO);
+        Files.setLastModifiedTime(bensonShard, LONG_AGO);
+        Files.setLastModifiedTime(manifest, LONG_AGO);
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        storage.saveAddressBook(addressBook);
+
+        assertNotEquals(LONG_AGO, Files.getLastModifiedTime(aliceShard));
+        assertEquals(LONG_AGO, Files.getLastModifiedTime(bensonShard));
+        assertEquals(LONG_AGO, Files.getLastModifiedTime(manifest));
+        assertEquals(addressBook, readWithNewStorage(storage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void save_personsAddedAndRemoved_shardsAndManifestUpdated() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("medbook.json"));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(storage.getShardFilePath(ALICE.getNric())));
+        assertTrue(Files.exists(storage.getShardFilePath(HOON.getNric())));
+        assertEquals(addressBook, readWithNewStorage(storage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void read_onlySingleJsonFile_importedAndShardedOnNextSave() throws Exception {
+        Path filePath = testFolder.resolve("medbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        storage.saveAddressBook(original);
+
+        assertTrue(Files.exists(storage.getShardFilePath(ALICE.getNric())));
+        Files.delete(filePath);
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void saveAndRead_otherFile_plainJsonExportAndImport() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("medbook.json"));
+        Path exportFilePath = testFolder.resolve("export.json");
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original, exportFilePath);
+
+        assertFalse(Files.exists(storage.getShardDirectoryPath()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(exportFilePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(storage.readAddressBook(exportFilePath).get()));
+    }
+
+    @Test
+    public void read_shardOfOtherPerson_throwsDataLoadingException() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("medbook.json"));
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.copy(storage.getShardFilePath(BENSON.getNric()), storage.getShardFilePath(ALICE.getNric()),
+                StandardCopyOption.REPLACE_EXISTING);
+
+        assertThrows(DataLoadingException.class, () -> readWithNewStorage(storage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void read_missingShard_throwsDataLoadingException() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("medbook.json"));
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.delete(storage.getShardFilePath(ALICE.getNric()));
+
+        assertThrows(DataLoadingException.class, () -> readWithNewStorage(storage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void save_nricsDifferingOnlyInCase_separateShards() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("medbook.json"));
+        Person upperCase = new PersonBuilder(ALICE).withNric("S1234567A").build();
+        Person lowerCase = new PersonBuilder(BENSON).withNric("s1234567a").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(upperCase);
+        addressBook.addPerson(lowerCase);
+
+        storage.saveAddressBook(addressBook);
+
+        Path upperCaseShard = storage.getShardFilePath(upperCase.getNric());
+        Path lowerCaseShard = storage.getShardFilePath(lowerCase.getNric());
+        // The shards must stay apart on file systems that ignore case too
+        assertNotEquals(upperCaseShard.toString().toUpperCase(), lowerCaseShard.toString().toUpperCase());
+        assertTrue(Files.exists(upperCaseShard));
+        assertTrue(Files.exists(lowerCaseShard));
+        assertEquals(addressBook, readWithNewStorage(storage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void save_nricReplacedByOneDifferingOnlyInCase_newShardKept() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("medbook.json"));
+        Person lowerCase = new PersonBuilder(ALICE).withNric("s1234567a").build();
+        Person upperCase = new PersonBuilder(BENSON).withNric("S1234567A").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(lowerCase);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.removePerson(lowerCase);
+        addressBook.addPerson(upperCase);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(storage.getShardFilePath(lowerCase.getNric())));
+        assertTrue(Files.exists(storage.getShardFilePath(upperCase.getNric())));
+        assertEquals(addressBook, readWithNewStorage(storage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void read_legacyLowerCaseShard_readAndRenamedOnNextSave() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("medbook.json"));
+        Person lowerCase = new PersonBuilder(ALICE).withNric("s1234567a").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(lowerCase);
+        storage.saveAddressBook(addressBook);
+        Path legacyShard = storage.getShardDirectoryPath().resolve("s1234567a.json");
+        Files.move(storage.getShardFilePath(lowerCase.getNric()), legacyShard);
+
+        ShardedAddressBookStorage newStorage = new ShardedAddressBookStorage(storage.getAddressBookFilePath());
+        assertEquals(addressBook, new AddressBook(newStorage.readAddressBook().get()));
+        newStorage.saveAddressBook(addressBook);
+
+        assertTrue(Files.exists(storage.getShardFilePath(lowerCase.getNric())));
+        assertFalse(Files.exists(legacyShard));
+        assertEquals(addressBook, readWithNewStorage(storage.getAddressBookFilePath()));
+    }
+
+    private AddressBook readWithNewStorage(Path filePath) throws DataLoadingException {
+        return new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get());
+    }
+}